@@ -0,0 +1,170 @@
+package com.sprintpilot.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintpilot.dto.SprintDto;
+import com.sprintpilot.dto.SprintSummaryRequest;
+import com.sprintpilot.service.SprintService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load harness for the /api/ai/* endpoints.
+ *
+ * Enable with app.ai.benchmark.enabled=true, normally together with app.ai.mock-mode=true so the
+ * local ChatModel stands in for OpenAI. Once the application is ready, the harness sends
+ * requests over HTTP to the running server, so each call passes through the controller,
+ * the stored-artefact lookup, the rate limiter and the model.
+ *
+ * Arrivals are open-loop when target-rps is set: requests are released on a fixed schedule
+ * into a pool of {@code concurrency} workers. Queue wait is the time between a request's
+ * scheduled release and a worker picking it up. It grows once the AI path cannot keep up.
+ */
+@Component
+@ConditionalOnProperty(name = "app.ai.benchmark.enabled", havingValue = "true")
+@Slf4j
+public class AILoadHarness {
+
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.ai.benchmark.requests:200}")
+    private int totalRequests;
+
+    @Value("${app.ai.benchmark.concurrency:8}")
+    private int concurrency;
+
+    @Value("${app.ai.benchmark.target-rps:0}")
+    private double targetRps; // 0 = release all requests at once
+
+    @Value("${app.ai.benchmark.endpoints:risk-summary,sprint-summary,performance-insights}")
+    private String endpoints;
+
+    @Value("${app.ai.benchmark.sprint-id:}")
+    private String sprintId; // Defaults to the current active sprint
+
+    @Value("${app.ai.benchmark.refresh:false}")
+    private boolean refresh; // true bypasses stored artefacts
+
+    @Value("${app.ai.benchmark.exit-on-complete:false}")
+    private boolean exitOnComplete;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run(ApplicationReadyEvent event) {
+        LoadHarnessSupport.runOnReady(event, "AI load harness", exitOnComplete, this::runBenchmark);
+    }
+
+    private void runBenchmark(String baseUrl) throws Exception {
+        String resolvedSprintId = LoadHarnessSupport.resolveSprintId(sprintService, sprintId, "app.ai.benchmark.sprint-id");
+        List<String> targets = Arrays.stream(endpoints.split(","))
+                .map(String::trim)
+                .filter(e -> !e.isEmpty())
+                .toList();
+        String sprintSummaryBody = targets.contains("sprint-summary")
+                ? buildSprintSummaryBody(resolvedSprintId)
+                : "{}";
+
+        log.info("AI load harness: {} requests, concurrency {}, target {} rps, endpoints {}, sprint {}",
+                totalRequests, concurrency, targetRps > 0 ? targetRps : "unbounded", targets, resolvedSprintId);
+
+        HttpClient client = LoadHarnessSupport.httpClient(Duration.ofSeconds(5), null);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+
+        List<Long> latenciesNanos = Collections.synchronizedList(new ArrayList<>());
+        List<Long> queueWaitsNanos = Collections.synchronizedList(new ArrayList<>());
+        Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(totalRequests);
+
+        long intervalNanos = targetRps > 0 ? (long) (1_000_000_000L / targetRps) : 0;
+        long startNanos = System.nanoTime();
+
+        for (int i = 0; i < totalRequests; i++) {
+            long releaseAt = startNanos + i * intervalNanos;
+            long delay = releaseAt - System.nanoTime();
+            if (delay > 0) {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+            String endpoint = targets.get(i % targets.size());
+            HttpRequest request = buildRequest(baseUrl, endpoint, resolvedSprintId, sprintSummaryBody);
+
+            workers.submit(() -> {
+                long pickedUp = System.nanoTime();
+                queueWaitsNanos.add(pickedUp - Math.max(releaseAt, startNanos));
+                try {
+                    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                    latenciesNanos.add(System.nanoTime() - pickedUp);
+                    LoadHarnessSupport.count(outcomes, classify(response));
+                } catch (Exception e) {
+                    latenciesNanos.add(System.nanoTime() - pickedUp);
+                    LoadHarnessSupport.count(outcomes, "transport-error");
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        long elapsedNanos = System.nanoTime() - startNanos;
+        workers.shutdown();
+
+        report(elapsedNanos, latenciesNanos, queueWaitsNanos, outcomes);
+    }
+
+    private String buildSprintSummaryBody(String id) throws Exception {
+        SprintDto sprint = sprintService.getSprintWithFullDetails(id);
+        return objectMapper.writeValueAsString(
+                new SprintSummaryRequest(sprint.teamMembers(), sprint, sprint.tasks(), List.of()));
+    }
+
+    private HttpRequest buildRequest(String baseUrl, String endpoint, String id, String sprintSummaryBody) {
+        String body = "sprint-summary".equals(endpoint) ? sprintSummaryBody : "{}";
+        return LoadHarnessSupport.postJson(baseUrl + "/api/ai/" + endpoint + "?refresh=" + refresh,
+                body, id, Duration.ofSeconds(120));
+    }
+
+    /**
+     * Bucket a response by outcome; results are split by where they came from (live or stored)
+     */
+    private String classify(HttpResponse<String> response) {
+        String failure = LoadHarnessSupport.aiFailure(response);
+        if (failure != null) {
+            return failure;
+        }
+        return "ok-" + response.headers().firstValue("X-AI-Source").orElse("unknown");
+    }
+
+    private void report(long elapsedNanos, List<Long> latencies, List<Long> queueWaits,
+                        Map<String, AtomicInteger> outcomes) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+
+        log.info("===== AI load harness report =====");
+        log.info("Requests: {} in {} s, throughput {} req/s",
+                latencies.size(), String.format("%.2f", seconds), String.format("%.2f", latencies.size() / seconds));
+        log.info("Latency ms    {}", LoadHarnessSupport.percentiles(LoadHarnessSupport.sorted(latencies)));
+        log.info("Queue wait ms {}", LoadHarnessSupport.percentiles(LoadHarnessSupport.sorted(queueWaits)));
+        outcomes.forEach((outcome, count) -> log.info("Outcome {}: {}", outcome, count.get()));
+    }
+}
@@ -0,0 +1,286 @@
+package com.sprintpilot.benchmark;
+
+import com.sprintpilot.datasource.ConnectionPoolMetrics;
+import com.sprintpilot.dto.ConnectionPoolStatisticsDto;
+import com.sprintpilot.entity.Sprint;
+import com.sprintpilot.entity.Task;
+import com.sprintpilot.entity.WorkLog;
+import com.sprintpilot.repository.SprintRepository;
+import com.sprintpilot.repository.TaskRepository;
+import com.sprintpilot.repository.WorkLogRepository;
+import com.sprintpilot.service.SprintService;
+import com.sprintpilot.service.WorkLogSyncService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load harness for connection pool saturation during a Jira import.
+ *
+ * Enable with app.datasource.benchmark.enabled=true. Once the application is ready it creates
+ * throwaway tasks in the sprint and replays a work log sync burst: import-threads writers each
+ * replace the work logs of one task at a time through WorkLogSyncService, the path the async sync
+ * takes after an import. Meanwhile dashboard-clients threads call the quick-stats and burndown
+ * endpoints over HTTP, and the pools are sampled every few milliseconds.
+ *
+ * The report gives dashboard latency, peak active and waiting connections per pool, and the
+ * share of samples in which threads were queued for a connection. Run it with
+ * app.datasource.background.max-connections=0 to see the same burst without the bulkhead.
+ * The throwaway tasks and their work logs are deleted afterwards.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.benchmark.enabled", havingValue = "true")
+@Slf4j
+public class ConnectionPoolLoadHarness {
+
+    private static final String TASK_KEY_PREFIX = "POOL-LOAD-";
+
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private WorkLogRepository workLogRepository;
+
+    @Autowired
+    private WorkLogSyncService workLogSyncService;
+
+    @Autowired
+    private ConnectionPoolMetrics connectionPoolMetrics;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.datasource.benchmark.tasks:200}")
+    private int taskCount;
+
+    @Value("${app.datasource.benchmark.work-logs-per-task:50}")
+    private int workLogsPerTask;
+
+    @Value("${app.datasource.benchmark.import-threads:32}")
+    private int importThreads; // Writers in the burst, like the fan-out of a large import
+
+    @Value("${app.datasource.benchmark.dashboard-clients:8}")
+    private int dashboardClients;
+
+    @Value("${app.datasource.benchmark.sample-interval-ms:5}")
+    private long sampleIntervalMs;
+
+    @Value("${app.datasource.benchmark.sprint-id:}")
+    private String sprintId; // Defaults to the current active sprint
+
+    @Value("${app.datasource.benchmark.exit-on-complete:false}")
+    private boolean exitOnComplete;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run(ApplicationReadyEvent event) {
+        LoadHarnessSupport.runOnReady(event, "Connection pool load harness", exitOnComplete, this::runBenchmark);
+    }
+
+    private void runBenchmark(String baseUrl) throws Exception {
+        String resolvedSprintId = LoadHarnessSupport.resolveSprintId(sprintService, sprintId,
+                "app.datasource.benchmark.sprint-id");
+        List<Task> tasks = createTasks(resolvedSprintId);
+        log.info("Connection pool load harness: {} tasks x {} work logs, {} import threads, {} dashboard clients, sprint {}",
+                taskCount, workLogsPerTask, importThreads, dashboardClients, resolvedSprintId);
+
+        try {
+            connectionPoolMetrics.reset();
+            Map<String, PoolPeak> peaks = new ConcurrentHashMap<>();
+            List<Long> dashboardNanos = Collections.synchronizedList(new ArrayList<>());
+            Map<String, AtomicInteger> dashboardOutcomes = new ConcurrentHashMap<>();
+            AtomicLong savedWorkLogs = new AtomicLong();
+            AtomicInteger failedTasks = new AtomicInteger();
+            AtomicInteger importsRunning = new AtomicInteger(tasks.size());
+
+            ExecutorService importers = Executors.newFixedThreadPool(importThreads);
+            ExecutorService clients = Executors.newFixedThreadPool(dashboardClients + 1);
+            long startNanos = System.nanoTime();
+
+            Future<?> sampler = clients.submit(() -> samplePools(peaks, importsRunning));
+            List<Future<?>> dashboards = new ArrayList<>();
+            for (int i = 0; i < dashboardClients; i++) {
+                dashboards.add(clients.submit(() ->
+                        driveDashboard(baseUrl, resolvedSprintId, importsRunning, dashboardNanos, dashboardOutcomes)));
+            }
+            for (Task task : tasks) {
+                importers.submit(() -> {
+                    try {
+                        savedWorkLogs.addAndGet(workLogSyncService.replaceWorkLogs(task, generateWorkLogs(task)));
+                    } catch (Exception e) {
+                        failedTasks.incrementAndGet();
+                        log.debug("Import of {} failed: {}", task.getTaskKey(), e.getMessage());
+                    } finally {
+                        importsRunning.decrementAndGet();
+                    }
+                });
+            }
+            importers.shutdown();
+            importers.awaitTermination(30, TimeUnit.MINUTES);
+            long importNanos = System.nanoTime() - startNanos;
+            for (Future<?> dashboard : dashboards) {
+                dashboard.get();
+            }
+            sampler.get();
+            clients.shutdown();
+
+            report(importNanos, savedWorkLogs.get(), failedTasks.get(), dashboardNanos, dashboardOutcomes, peaks,
+                    connectionPoolMetrics.snapshot());
+        } finally {
+            deleteTasks(tasks);
+        }
+    }
+
+    private List<Task> createTasks(String id) {
+        Sprint sprint = sprintRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("Sprint not found: " + id));
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task();
+            task.setSprint(sprint);
+            task.setTaskKey(TASK_KEY_PREFIX + i);
+            task.setSummary("Connection pool load harness task " + i);
+            task.setCategory(Task.TaskCategory.FEATURE);
+            tasks.add(task);
+        }
+        return taskRepository.saveAll(tasks);
+    }
+
+    private List<WorkLog> generateWorkLogs(Task task) {
+        List<WorkLog> workLogs = new ArrayList<>(workLogsPerTask);
+        Sprint sprint = task.getSprint();
+        int days = sprint.getDuration() != null && sprint.getDuration() > 0 ? sprint.getDuration() : 10;
+        for (int i = 0; i < workLogsPerTask; i++) {
+            int seconds = 1800 * (1 + i % 8);
+            workLogs.add(WorkLog.builder()
+                    .id(task.getId() + "-wl-" + i)
+                    .timeSpentSeconds(seconds)
+                    .timeSpentHours(BigDecimal.valueOf(seconds / 3600.0))
+                    .loggedDate(sprint.getStartDate().plusDays(i % days))
+                    .author("load-author-" + (i % 5))
+                    .build());
+        }
+        return workLogs;
+    }
+
+    private void samplePools(Map<String, PoolPeak> peaks, AtomicInteger importsRunning) {
+        while (importsRunning.get() > 0) {
+            for (ConnectionPoolStatisticsDto.PoolStatistics pool : connectionPoolMetrics.snapshot().pools()) {
+                peaks.computeIfAbsent(pool.pool(), name -> new PoolPeak()).record(pool);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(sampleIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void driveDashboard(String baseUrl, String id, AtomicInteger importsRunning,
+                                List<Long> latenciesNanos, Map<String, AtomicInteger> outcomes) {
+        HttpClient client = LoadHarnessSupport.httpClient(Duration.ofSeconds(5), null);
+        String body = "{\"sprintId\":\"" + id + "\"}";
+        List<HttpRequest> requests = List.of(
+                LoadHarnessSupport.postJson(baseUrl + "/api/sprints/metrics/quickStats", body, null, Duration.ofSeconds(60)),
+                LoadHarnessSupport.postJson(baseUrl + "/api/sprints/metrics/burndown-velocity", body, null,
+                        Duration.ofSeconds(60)));
+        int i = 0;
+        while (importsRunning.get() > 0) {
+            HttpRequest request = requests.get(i++ % requests.size());
+            long start = System.nanoTime();
+            String outcome;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                outcome = response.statusCode() == 200 ? "ok" : "http-" + response.statusCode();
+            } catch (Exception e) {
+                outcome = "transport-error";
+            }
+            latenciesNanos.add(System.nanoTime() - start);
+            LoadHarnessSupport.count(outcomes, outcome);
+        }
+    }
+
+    private void deleteTasks(List<Task> tasks) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            tasks.forEach(task -> workLogRepository.deleteByTaskId(task.getId()));
+            taskRepository.deleteAllById(tasks.stream().map(Task::getId).toList());
+        });
+        log.info("Connection pool load harness: removed {} throwaway tasks", tasks.size());
+    }
+
+    private void report(long importNanos, long savedWorkLogs, int failedTasks, List<Long> dashboardNanos,
+                        Map<String, AtomicInteger> dashboardOutcomes, Map<String, PoolPeak> peaks,
+                        ConnectionPoolStatisticsDto statistics) {
+        double seconds = importNanos / 1_000_000_000.0;
+
+        log.info("===== Connection pool load harness report =====");
+        log.info("Import: {} work logs in {} s ({} /s), {} task(s) failed",
+                savedWorkLogs, String.format("%.2f", seconds), String.format("%.0f", savedWorkLogs / seconds), failedTasks);
+        log.info("Dashboard: {} requests, latency ms {}",
+                dashboardNanos.size(), LoadHarnessSupport.percentiles(LoadHarnessSupport.sorted(dashboardNanos)));
+        dashboardOutcomes.forEach((outcome, count) -> log.info("Dashboard outcome {}: {}", outcome, count.get()));
+        for (ConnectionPoolStatisticsDto.PoolStatistics pool : statistics.pools()) {
+            PoolPeak peak = peaks.getOrDefault(pool.pool(), new PoolPeak());
+            ConnectionPoolStatisticsDto.AcquireStatistics acquire = pool.acquire();
+            log.info("Pool {}: peak active {}/{}, peak waiting {}, saturated in {}% of {} samples",
+                    pool.pool(), peak.maxActive, pool.maximumPoolSize(), peak.maxWaiting,
+                    String.format("%.1f", peak.saturatedPercent()), peak.samples);
+            log.info("Pool {}: {} acquires, wait ms p50={} p95={} p99={} max={}, {} timeout(s)",
+                    pool.pool(), acquire.acquisitions(), acquire.p50Ms(), acquire.p95Ms(), acquire.p99Ms(),
+                    acquire.maxMs(), acquire.timeouts());
+        }
+        ConnectionPoolStatisticsDto.BulkheadStatistics bulkhead = statistics.backgroundBulkhead();
+        log.info("Background bulkhead: {} permits, {} granted, {} rejected, wait ms mean={} max={}",
+                bulkhead.maxConnections() > 0 ? bulkhead.maxConnections() : "unlimited", bulkhead.acquisitions(),
+                bulkhead.rejected(), bulkhead.meanWaitMs(), bulkhead.maxWaitMs());
+    }
+
+    private static final class PoolPeak {
+        private int maxActive;
+        private int maxWaiting;
+        private int samples;
+        private int saturatedSamples;
+
+        synchronized void record(ConnectionPoolStatisticsDto.PoolStatistics pool) {
+            maxActive = Math.max(maxActive, pool.activeConnections());
+            maxWaiting = Math.max(maxWaiting, pool.threadsAwaitingConnection());
+            samples++;
+            if (pool.threadsAwaitingConnection() > 0) {
+                saturatedSamples++;
+            }
+        }
+
+        synchronized double saturatedPercent() {
+            return samples == 0 ? 0 : saturatedSamples * 100.0 / samples;
+        }
+    }
+}
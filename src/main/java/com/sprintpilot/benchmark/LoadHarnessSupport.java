@@ -0,0 +1,154 @@
+package com.sprintpilot.benchmark;
+
+import com.sprintpilot.dto.SprintDto;
+import com.sprintpilot.service.SprintService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lifecycle, HTTP and reporting helpers shared by the load harnesses.
+ *
+ * A harness runs once the application is ready, against the server's own port, and logs a
+ * report when it is done. With exit-on-complete the application then shuts down, so a run can
+ * be scripted from the command line.
+ */
+@Slf4j
+final class LoadHarnessSupport {
+
+    private LoadHarnessSupport() {
+    }
+
+    @FunctionalInterface
+    interface Benchmark {
+        void run(String baseUrl) throws Exception;
+    }
+
+    /**
+     * Runs the benchmark against this server, then exits the application if asked to
+     */
+    static void runOnReady(ApplicationReadyEvent event, String name, boolean exitOnComplete, Benchmark benchmark) {
+        ApplicationContext context = event.getApplicationContext();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        try {
+            benchmark.run("http://localhost:" + port);
+        } catch (Exception e) {
+            log.error("{} failed: {}", name, e.getMessage(), e);
+        }
+        if (exitOnComplete) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    /**
+     * The configured sprint, or the current active sprint when none is configured
+     *
+     * @param property Property to name in the error when there is neither
+     */
+    static String resolveSprintId(SprintService sprintService, String configured, String property) {
+        if (configured != null && !configured.isBlank()) {
+            return configured;
+        }
+        SprintDto current = sprintService.getCurrentActiveSprint();
+        if (current == null) {
+            throw new IllegalStateException("No active sprint; set " + property);
+        }
+        return current.id();
+    }
+
+    static HttpClient httpClient(Duration connectTimeout, Executor executor) {
+        HttpClient.Builder builder = HttpClient.newBuilder().connectTimeout(connectTimeout);
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        return builder.build();
+    }
+
+    static HttpRequest get(String url, Duration timeout) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(timeout)
+                .GET()
+                .build();
+    }
+
+    /**
+     * JSON POST; the sprint cookie is set when sprintId is not null
+     */
+    static HttpRequest postJson(String url, String body, String sprintId, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(timeout)
+                .header("Content-Type", "application/json");
+        if (sprintId != null) {
+            builder.header("Cookie", "currentSprintId=" + sprintId);
+        }
+        return builder.POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    /**
+     * Outcome of an /api/ai/* response, or null when it carries a result. Rate-limit and
+     * provider errors come back as HTTP 200 with a marker in the text, so the body is inspected too.
+     */
+    static String aiFailure(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            return "http-" + response.statusCode();
+        }
+        String body = response.body();
+        if (body.contains("Rate Limit Exceeded")) {
+            return "rate-limited";
+        }
+        if (body.contains("AI Service Busy")) {
+            return "bulkhead-full";
+        }
+        if (body.contains("AI Service Error")) {
+            return "model-error";
+        }
+        return null;
+    }
+
+    static void count(Map<String, AtomicInteger> outcomes, String outcome) {
+        outcomes.computeIfAbsent(outcome, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    static List<Long> sorted(Collection<Long> nanos) {
+        List<Long> sorted;
+        synchronized (nanos) {
+            sorted = new ArrayList<>(nanos);
+        }
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * "p50=.. p95=.. p99=.. max=.." in milliseconds
+     */
+    static String percentiles(List<Long> sortedNanos) {
+        return "p50=" + millis(sortedNanos, 0.50) + " p95=" + millis(sortedNanos, 0.95)
+                + " p99=" + millis(sortedNanos, 0.99) + " max=" + millis(sortedNanos, 1.0);
+    }
+
+    static String millis(List<Long> sortedNanos, double percentile) {
+        if (sortedNanos.isEmpty()) {
+            return "-";
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        long value = sortedNanos.get(Math.max(0, Math.min(index, sortedNanos.size() - 1)));
+        return String.format("%.1f", value / 1_000_000.0);
+    }
+}
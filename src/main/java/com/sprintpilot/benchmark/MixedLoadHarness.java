@@ -0,0 +1,196 @@
+package com.sprintpilot.benchmark;
+
+import com.sprintpilot.bulkhead.DownstreamBulkheads;
+import com.sprintpilot.dto.BulkheadStatisticsDto;
+import com.sprintpilot.service.SprintService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load harness comparing platform and virtual threads under mixed load.
+ *
+ * Enable with app.threads.benchmark.enabled=true, normally together with app.ai.mock-mode=true
+ * and a rate limit high enough not to interfere. Once the application is ready, closed-loop
+ * clients call the running server over HTTP for duration-seconds: dashboard clients alternate
+ * the quick-stats and burndown endpoints (short, database-bound), AI clients request a fresh
+ * risk summary (long, blocked on the model behind the openai bulkhead).
+ *
+ * With more clients than Tomcat has platform threads, slow AI requests hold every worker thread
+ * and dashboard requests queue behind them. Run once with spring.threads.virtual.enabled=false
+ * and once with true to compare throughput, dashboard latency, platform thread count and heap.
+ * Clients run on virtual threads themselves, so the client side does not limit either run.
+ */
+@Component
+@ConditionalOnProperty(name = "app.threads.benchmark.enabled", havingValue = "true")
+@Slf4j
+public class MixedLoadHarness {
+
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private DownstreamBulkheads downstreamBulkheads;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${server.tomcat.threads.max:200}")
+    private int tomcatMaxThreads;
+
+    @Value("${app.threads.benchmark.dashboard-clients:200}")
+    private int dashboardClients;
+
+    @Value("${app.threads.benchmark.ai-clients:300}")
+    private int aiClients;
+
+    @Value("${app.threads.benchmark.warmup-seconds:5}")
+    private int warmupSeconds;
+
+    @Value("${app.threads.benchmark.duration-seconds:30}")
+    private int durationSeconds;
+
+    @Value("${app.threads.benchmark.sprint-id:}")
+    private String sprintId; // Defaults to the current active sprint
+
+    @Value("${app.threads.benchmark.exit-on-complete:false}")
+    private boolean exitOnComplete;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run(ApplicationReadyEvent event) {
+        LoadHarnessSupport.runOnReady(event, "Mixed load harness", exitOnComplete, this::runBenchmark);
+    }
+
+    private void runBenchmark(String baseUrl) throws Exception {
+        String resolvedSprintId = LoadHarnessSupport.resolveSprintId(sprintService, sprintId,
+                "app.threads.benchmark.sprint-id");
+        log.info("Mixed load harness: {} threads, {} dashboard + {} AI clients, {} s (+{} s warm-up), sprint {}",
+                virtualThreads ? "virtual" : "platform (Tomcat max " + tomcatMaxThreads + ")",
+                dashboardClients, aiClients, durationSeconds, warmupSeconds, resolvedSprintId);
+
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = LoadHarnessSupport.httpClient(Duration.ofSeconds(10), clients);
+        List<HttpRequest> dashboardRequests = List.of(
+                LoadHarnessSupport.get(baseUrl + "/api/sprints/metrics/quickStats?sprintId=" + resolvedSprintId,
+                        Duration.ofSeconds(120)),
+                LoadHarnessSupport.get(baseUrl + "/api/sprints/metrics/burndown-velocity?sprintId=" + resolvedSprintId,
+                        Duration.ofSeconds(120)));
+        List<HttpRequest> aiRequests = List.of(LoadHarnessSupport.postJson(
+                baseUrl + "/api/ai/risk-summary?refresh=true", "{}", resolvedSprintId, Duration.ofSeconds(120)));
+
+        Workload dashboard = new Workload("dashboard");
+        Workload ai = new Workload("ai");
+        long startNanos = System.nanoTime();
+        long measureFrom = startNanos + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        for (int i = 0; i < dashboardClients; i++) {
+            clients.submit(() -> drive(client, dashboardRequests, dashboard, measureFrom, deadline));
+        }
+        for (int i = 0; i < aiClients; i++) {
+            clients.submit(() -> drive(client, aiRequests, ai, measureFrom, deadline));
+        }
+
+        // Measurement window starts once every client is busy
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, measureFrom - System.nanoTime()));
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        threads.resetPeakThreadCount();
+        downstreamBulkheads.reset();
+        AtomicInteger maxThreads = new AtomicInteger();
+        AtomicLong maxHeapBytes = new AtomicLong();
+        while (System.nanoTime() < deadline) {
+            maxThreads.accumulateAndGet(threads.getThreadCount(), Math::max);
+            maxHeapBytes.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        int peakThreads = threads.getPeakThreadCount();
+        List<BulkheadStatisticsDto> bulkheads = downstreamBulkheads.statistics();
+
+        clients.shutdown();
+        if (!clients.awaitTermination(2, TimeUnit.MINUTES)) {
+            clients.shutdownNow();
+        }
+        report(dashboard, ai, peakThreads, maxHeapBytes.get(), bulkheads);
+    }
+
+    private void drive(HttpClient client, List<HttpRequest> requests, Workload workload,
+                       long measureFrom, long deadline) {
+        int i = 0;
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = requests.get(i++ % requests.size());
+            long start = System.nanoTime();
+            String outcome;
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                String failure = LoadHarnessSupport.aiFailure(response);
+                outcome = failure != null ? failure : "ok";
+            } catch (Exception e) {
+                outcome = "transport-error";
+            }
+            long end = System.nanoTime();
+            // Only requests that both start and finish inside the window count
+            if (start >= measureFrom && end <= deadline) {
+                workload.record(end - start, outcome);
+            }
+        }
+    }
+
+    private void report(Workload dashboard, Workload ai, int peakThreads, long maxHeapBytes,
+                        List<BulkheadStatisticsDto> bulkheads) {
+        log.info("===== Mixed load harness report ({} threads) =====", virtualThreads ? "virtual" : "platform");
+        for (Workload workload : List.of(dashboard, ai)) {
+            List<Long> sorted = LoadHarnessSupport.sorted(workload.latenciesNanos);
+            log.info("{}: {} requests, {} req/s, latency ms {}",
+                    workload.name, sorted.size(), String.format("%.1f", sorted.size() / (double) durationSeconds),
+                    LoadHarnessSupport.percentiles(sorted));
+            workload.outcomes.forEach((outcome, count) ->
+                    log.info("{} outcome {}: {}", workload.name, outcome, count.get()));
+        }
+        log.info("JVM: peak platform threads {}, peak heap used {} MB", peakThreads, maxHeapBytes / (1024 * 1024));
+        for (BulkheadStatisticsDto bulkhead : bulkheads) {
+            if (bulkhead.acquisitions() + bulkhead.rejected() > 0) {
+                log.info("Bulkhead {}: {} permits, {} granted, {} rejected, wait ms mean={} max={}",
+                        bulkhead.name(), bulkhead.maxConcurrent(), bulkhead.acquisitions(), bulkhead.rejected(),
+                        bulkhead.meanWaitMs(), bulkhead.maxWaitMs());
+            }
+        }
+    }
+
+    private static final class Workload {
+        private final String name;
+        private final List<Long> latenciesNanos = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+
+        Workload(String name) {
+            this.name = name;
+        }
+
+        void record(long nanos, String outcome) {
+            latenciesNanos.add(nanos);
+            LoadHarnessSupport.count(outcomes, outcome);
+        }
+    }
+}
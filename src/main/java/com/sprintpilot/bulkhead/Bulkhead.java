@@ -0,0 +1,172 @@
+package com.sprintpilot.bulkhead;
+
+import com.sprintpilot.dto.BulkheadStatisticsDto;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many callers use one downstream at once.
+ *
+ * A fair semaphore rather than a thread pool, so the limit holds whatever thread the caller is
+ * on: with virtual threads, waiting callers park without occupying a platform thread. A permit
+ * not granted within the acquire timeout fails the call with {@link BulkheadFullException}.
+ * Background batches that must not lose work use {@link #callQueued}, which waits as long as
+ * it takes. maxConcurrent = 0 turns the bulkhead off.
+ */
+public class Bulkhead {
+
+    /**
+     * Blocking I/O run while holding a permit
+     */
+    @FunctionalInterface
+    public interface BlockingCall<T> {
+        T call() throws IOException, InterruptedException;
+    }
+
+    /**
+     * Work run while holding a permit whose exceptions pass through unchanged (an intercepted call)
+     */
+    @FunctionalInterface
+    public interface ThrowingCall<T> {
+        T call() throws Throwable;
+    }
+
+    private final String name;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMs;
+    private final Semaphore permits;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public Bulkhead(String name, int maxConcurrent, long acquireTimeoutMs) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = maxConcurrent > 0 ? new Semaphore(maxConcurrent, true) : null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Runs blocking I/O (an HTTP call) while holding a permit
+     */
+    public <T> T call(BlockingCall<T> work) throws IOException, InterruptedException {
+        acquire(true);
+        try {
+            return work.call();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Runs blocking I/O while holding a permit, waiting without the acquire timeout. For
+     * background batches that queue far more calls than there are permits; every call ahead
+     * is itself bounded by its HTTP timeout, so the queue always drains.
+     */
+    public <T> T callQueued(BlockingCall<T> work) throws IOException, InterruptedException {
+        acquire(false);
+        try {
+            return work.call();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Runs the work while holding a permit, rethrowing whatever it throws
+     */
+    public <T> T invoke(ThrowingCall<T> work) throws Throwable {
+        acquire(true);
+        try {
+            return work.call();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Runs the work while holding a permit; an interrupt while waiting becomes a RuntimeException
+     */
+    public <T> T execute(Supplier<T> work) {
+        try {
+            acquire(true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a " + name + " permit", e);
+        }
+        try {
+            return work.get();
+        } finally {
+            release();
+        }
+    }
+
+    public BulkheadStatisticsDto statistics() {
+        long granted = acquisitions.sum();
+        long rejected = rejections.sum();
+        long attempts = granted + rejected;
+        return new BulkheadStatisticsDto(
+                name,
+                maxConcurrent,
+                permits == null ? 0 : maxConcurrent - permits.availablePermits(),
+                permits == null ? 0 : permits.getQueueLength(),
+                granted,
+                rejected,
+                attempts == 0 ? null : nanosToMillis(waitNanos.sum() / attempts),
+                attempts == 0 ? null : nanosToMillis(maxWaitNanos.get()));
+    }
+
+    public void reset() {
+        acquisitions.reset();
+        rejections.reset();
+        waitNanos.reset();
+        maxWaitNanos.set(0);
+    }
+
+    public static double nanosToMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    private void acquire(boolean timed) throws InterruptedException {
+        if (permits == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        if (timed) {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } else {
+            permits.acquire();
+            acquired = true;
+        }
+        long waited = System.nanoTime() - start;
+        waitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        if (!acquired) {
+            rejections.increment();
+            throw new BulkheadFullException("No " + name + " permit within " + acquireTimeoutMs + " ms");
+        }
+        acquisitions.increment();
+    }
+
+    private void release() {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+}
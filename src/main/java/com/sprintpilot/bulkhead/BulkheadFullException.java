@@ -0,0 +1,11 @@
+package com.sprintpilot.bulkhead;
+
+/**
+ * Thrown when a bulkhead permit was not granted within its acquire timeout
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
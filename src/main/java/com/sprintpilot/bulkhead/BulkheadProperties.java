@@ -0,0 +1,55 @@
+package com.sprintpilot.bulkhead;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Concurrency limits per downstream (app.bulkheads.&lt;name&gt;.*), see DownstreamBulkheads
+ */
+@Component
+@ConfigurationProperties(prefix = "app.bulkheads")
+@Data
+public class BulkheadProperties {
+
+    private Limit jira = new Limit(8, 30000);
+    private Limit confluence = new Limit(4, 30000);
+    private Limit teams = new Limit(2, 60000);
+    private Limit openai = new Limit(16, 30000);
+    private Limit database = new Limit(14, 30000);
+
+    public Map<String, Limit> asMap() {
+        Map<String, Limit> limits = new LinkedHashMap<>();
+        limits.put("jira", jira);
+        limits.put("confluence", confluence);
+        limits.put("teams", teams);
+        limits.put("openai", openai);
+        limits.put("database", database);
+        return limits;
+    }
+
+    @Data
+    public static class Limit {
+
+        /**
+         * Calls in flight at once; 0 turns the bulkhead off
+         */
+        private int maxConcurrent;
+
+        /**
+         * How long a caller waits for a permit before the call fails
+         */
+        private long acquireTimeoutMs;
+
+        public Limit() {
+        }
+
+        public Limit(int maxConcurrent, long acquireTimeoutMs) {
+            this.maxConcurrent = maxConcurrent;
+            this.acquireTimeoutMs = acquireTimeoutMs;
+        }
+    }
+}
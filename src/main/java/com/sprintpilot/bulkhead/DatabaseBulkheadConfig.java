@@ -0,0 +1,69 @@
+package com.sprintpilot.bulkhead;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+
+/**
+ * Puts the database bulkhead around @Transactional methods of @Service beans.
+ *
+ * With virtual threads Tomcat no longer caps concurrent requests, so without this every request
+ * would queue inside Hikari and fail after its connection-timeout. The advisor runs outside the
+ * transaction interceptor: a caller waits for a permit first (up to the bulkhead's acquire
+ * timeout) and only then takes a connection, which is then free because permits stay below the
+ * pool size. One permit per thread covers nested service calls; repository calls made outside a
+ * service transaction are not counted, which is what the headroom below the pool size is for.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DatabaseBulkheadConfig {
+
+    private static final ThreadLocal<Boolean> HOLDING_PERMIT = new ThreadLocal<>();
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor databaseBulkheadAdvisor(ObjectProvider<DownstreamBulkheads> downstreamBulkheads) {
+        MethodInterceptor interceptor = invocation -> {
+            if (HOLDING_PERMIT.get() != null) {
+                return invocation.proceed();
+            }
+            HOLDING_PERMIT.set(Boolean.TRUE);
+            try {
+                return downstreamBulkheads.getObject().database().invoke(invocation::proceed);
+            } finally {
+                HOLDING_PERMIT.remove();
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new TransactionalServicePointcut(), interceptor);
+        // Outside the transaction advisor, which defaults to the lowest precedence
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+
+    private static final class TransactionalServicePointcut extends StaticMethodMatcherPointcut {
+
+        TransactionalServicePointcut() {
+            setClassFilter(new AnnotationClassFilter(Service.class, true));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+            return AnnotatedElementUtils.hasAnnotation(specificMethod, Transactional.class)
+                    || AnnotatedElementUtils.hasAnnotation(targetClass, Transactional.class);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.sprintpilot.bulkhead;
+
+import com.sprintpilot.datasource.BackgroundConnectionBulkhead;
+import com.sprintpilot.dto.BulkheadStatisticsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One bulkhead per downstream the application blocks on: Jira, Confluence, the Teams webhook,
+ * the AI provider and the database. The database bulkhead covers transactional service calls
+ * (see DatabaseBulkheadConfig) and background writers have BackgroundConnectionBulkhead, so
+ * together they stay below the Hikari pool size and callers queue here rather than time out
+ * in the pool.
+ *
+ * These limits, not executor pool sizes, bound concurrency per downstream. With
+ * spring.threads.virtual.enabled=true requests and @Async work run on virtual threads without
+ * a fixed thread count, so a slow downstream only queues its own callers here.
+ */
+@Component
+@Slf4j
+public class DownstreamBulkheads {
+
+    private final Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+    private final BackgroundConnectionBulkhead backgroundConnectionBulkhead;
+
+    public DownstreamBulkheads(BulkheadProperties properties, BackgroundConnectionBulkhead backgroundConnectionBulkhead) {
+        properties.asMap().forEach((name, limit) ->
+                bulkheads.put(name, new Bulkhead(name, limit.getMaxConcurrent(), limit.getAcquireTimeoutMs())));
+        this.backgroundConnectionBulkhead = backgroundConnectionBulkhead;
+        log.info("Downstream bulkheads: {}", bulkheads.values().stream()
+                .map(bulkhead -> bulkhead.getName() + "=" + bulkhead.getMaxConcurrent())
+                .toList());
+    }
+
+    public Bulkhead jira() {
+        return bulkheads.get("jira");
+    }
+
+    public Bulkhead confluence() {
+        return bulkheads.get("confluence");
+    }
+
+    public Bulkhead teams() {
+        return bulkheads.get("teams");
+    }
+
+    public Bulkhead openAi() {
+        return bulkheads.get("openai");
+    }
+
+    public Bulkhead database() {
+        return bulkheads.get("database");
+    }
+
+    /**
+     * Every downstream bulkhead, followed by the background connection bulkhead
+     */
+    public List<BulkheadStatisticsDto> statistics() {
+        List<BulkheadStatisticsDto> statistics = new ArrayList<>();
+        bulkheads.values().forEach(bulkhead -> statistics.add(bulkhead.statistics()));
+        statistics.add(backgroundConnectionBulkhead.bulkhead().statistics());
+        return statistics;
+    }
+
+    public void reset() {
+        bulkheads.values().forEach(Bulkhead::reset);
+        backgroundConnectionBulkhead.reset();
+    }
+}
@@ -0,0 +1,42 @@
+package com.sprintpilot.cache;
+
+import com.sprintpilot.entity.Sprint;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts second-level cache entries Hibernate cannot invalidate on its own.
+ *
+ * Sprint.teamMembers is cached as a collection over sprint_team, but the service layer writes
+ * those rows through the SprintTeam entity, which Hibernate does not connect to the collection.
+ * Writers call {@link #evictSprintTeam} after changing a sprint's membership. The entry is evicted
+ * straight away and again after commit, so a copy cached by a concurrent reader in between is
+ * dropped as well. Everything else (entity writes, JPQL bulk updates, native deletes with query
+ * spaces) is invalidated by Hibernate.
+ */
+@Component
+public class EntityCacheEvictor {
+
+    private static final String SPRINT_TEAM_MEMBERS = Sprint.class.getName() + ".teamMembers";
+
+    private final Cache cache;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+
+    public void evictSprintTeam(String sprintId) {
+        cache.evictCollectionData(SPRINT_TEAM_MEMBERS, sprintId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evictCollectionData(SPRINT_TEAM_MEMBERS, sprintId);
+                }
+            });
+        }
+    }
+}
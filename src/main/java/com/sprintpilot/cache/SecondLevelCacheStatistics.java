@@ -0,0 +1,71 @@
+package com.sprintpilot.cache;
+
+import com.sprintpilot.dto.CacheStatisticsDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads Hibernate's cache counters (hibernate.generate_statistics) for the hit-ratio endpoint
+ */
+@Component
+public class SecondLevelCacheStatistics {
+
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public CacheStatisticsDto snapshot() {
+        Statistics statistics = sessionFactory.getStatistics();
+
+        List<CacheStatisticsDto.RegionStatistics> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(name -> regionStatistics(name, statistics.getCacheRegionStatistics(name)))
+                .toList();
+
+        return new CacheStatisticsDto(
+                statistics.isStatisticsEnabled(),
+                LocalDateTime.ofInstant(statistics.getStart(), ZoneId.systemDefault()),
+                counts(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount(),
+                        statistics.getSecondLevelCachePutCount()),
+                counts(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                        statistics.getQueryCachePutCount()),
+                statistics.getPrepareStatementCount(),
+                regions);
+    }
+
+    /**
+     * Starts a new counting window
+     */
+    public void reset() {
+        sessionFactory.getStatistics().clear();
+    }
+
+    private CacheStatisticsDto.RegionStatistics regionStatistics(String name, CacheRegionStatistics region) {
+        if (region == null) {
+            return new CacheStatisticsDto.RegionStatistics(name, 0, 0, 0, null, null);
+        }
+        long elements = region.getElementCountInMemory();
+        return new CacheStatisticsDto.RegionStatistics(name, region.getHitCount(), region.getMissCount(),
+                region.getPutCount(), hitRatio(region.getHitCount(), region.getMissCount()),
+                elements == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN ? null : elements);
+    }
+
+    private CacheStatisticsDto.CacheCounts counts(long hits, long misses, long puts) {
+        return new CacheStatisticsDto.CacheCounts(hits, misses, puts, hitRatio(hits, misses));
+    }
+
+    private Double hitRatio(long hits, long misses) {
+        long lookups = hits + misses;
+        return lookups == 0 ? null : Math.round(hits * 10000.0 / lookups) / 10000.0;
+    }
+}
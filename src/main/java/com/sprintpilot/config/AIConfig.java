@@ -1,5 +1,6 @@
 package com.sprintpilot.config;
 
+import com.sprintpilot.service.impl.LocalChatModel;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
@@ -7,7 +8,7 @@ import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.Refill;
@@ -23,10 +24,11 @@ import java.time.Duration;
  * 
  * Supported Providers:
  * - openai: OpenAI GPT models (via spring-ai-openai)
- * - mock: Mock implementation for testing
+ * - mock: Local deterministic ChatModel (no network or API key needed)
  * 
  * Configuration:
  * Set app.ai.provider property to choose provider (default: openai)
+ * Set app.ai.mock-mode=true to swap in the local model regardless of provider
  * 
  * References:
  * - OpenAI: https://docs.spring.io/spring-ai/reference/api/chat/openai-chat.html
@@ -58,6 +60,24 @@ public class AIConfig {
     @Value("${app.ai.rate-limit.burst-capacity:20}")
     private int burstCapacity;
     
+    @Value("${app.ai.mock.latency-ms:800}")
+    private long mockLatencyMs;
+    
+    @Value("${app.ai.mock.latency-jitter-ms:200}")
+    private long mockLatencyJitterMs;
+    
+    @Value("${app.ai.mock.tokens-per-second:60}")
+    private int mockTokensPerSecond;
+    
+    @Value("${app.ai.mock.response-tokens:250}")
+    private int mockResponseTokens;
+    
+    @Value("${app.ai.mock.failure-rate:0.0}")
+    private double mockFailureRate;
+    
+    @Value("${app.ai.mock.seed:42}")
+    private long mockSeed;
+    
     /**
      * Creates the OpenAI ChatModel bean when provider is set to 'openai'
      * This bean is used by OpenAIService for AI-powered features
@@ -66,7 +86,7 @@ public class AIConfig {
      * @throws IllegalStateException if API key is missing
      */
     @Bean
-    @ConditionalOnProperty(name = "app.ai.provider", havingValue = "openai", matchIfMissing = true)
+    @ConditionalOnExpression("'${app.ai.provider:openai}' == 'openai' and !${app.ai.mock-mode:false}")
     public ChatModel openAiChatModel() {
         if (openaiApiKey == null || openaiApiKey.isBlank()) {
             throw new IllegalStateException(
@@ -102,6 +122,25 @@ public class AIConfig {
                 .build();
     }
     
+    /**
+     * Creates the local ChatModel when provider is 'mock' or mock mode is on
+     * Latency, token rate and failure injection come from app.ai.mock.* properties
+     * 
+     * @return ChatModel that runs entirely in-process
+     */
+    @Bean
+    @ConditionalOnExpression("'${app.ai.provider:openai}' == 'mock' or ${app.ai.mock-mode:false}")
+    public ChatModel localChatModel() {
+        return new LocalChatModel(
+                mockLatencyMs,
+                mockLatencyJitterMs,
+                mockTokensPerSecond,
+                mockResponseTokens,
+                mockFailureRate,
+                mockSeed
+        );
+    }
+    
     /**
      * Creates a rate limiter bucket for controlling API request frequency
      * Implements token bucket algorithm with configurable rate and burst capacity
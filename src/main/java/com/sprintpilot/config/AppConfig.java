@@ -1,10 +1,14 @@
 package com.sprintpilot.config;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -16,17 +20,43 @@ import java.util.concurrent.Executor;
 @EnableScheduling
 public class AppConfig {
     
+    /**
+     * Shared mapper for API responses and stored payloads (domain event outbox).
+     * Compact unless app.json.indent-output=true (the dev profile turns it on);
+     * BigDecimals are written as plain numbers, never in exponent notation.
+     */
     @Bean
-    public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+    public ObjectMapper objectMapper(@Value("${app.json.indent-output:false}") boolean indentOutput) {
+        ObjectMapper mapper = configure(new ObjectMapper());
+        mapper.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+        mapper.configure(SerializationFeature.INDENT_OUTPUT, indentOutput);
+        return mapper;
+    }
+    
+    /**
+     * CBOR for clients that send Accept: application/cbor, e.g. for full SprintDto payloads
+     * with embedded tasks. JSON stays the default for everyone else.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(configure(new CBORMapper()));
+    }
+    
+    private static <M extends ObjectMapper> M configure(M mapper) {
         mapper.registerModule(new JavaTimeModule());
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        mapper.enable(SerializationFeature.INDENT_OUTPUT);
         return mapper;
     }
     
+    /**
+     * Shared executor for @Async listeners (AI artefact refresh). On virtual threads when
+     * spring.threads.virtual.enabled=true; the openai bulkhead then bounds the AI calls.
+     */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return AsyncConfig.virtualThreadExecutor("SprintPilot-Async-", 0);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(10);
@@ -1,15 +1,22 @@
 package com.sprintpilot.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Configuration for asynchronous task execution
- * Used for background processing like work log synchronization
+ * Used for background processing like work log synchronization, Teams delivery and live sprint streams
+ *
+ * With spring.threads.virtual.enabled=true (Tomcat and scheduling follow the same switch) the
+ * pools below become virtual-thread executors without a size. Concurrency per downstream is then
+ * bounded by the bulkheads in DownstreamBulkheads instead of by how many threads a pool has.
  */
 @Configuration
 @EnableAsync
@@ -22,7 +29,10 @@ public class AsyncConfig {
      * - Queue capacity: 100 tasks
      */
     @Bean(name = "workLogExecutor")
-    public Executor workLogExecutor() {
+    public Executor workLogExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("WorkLog-", 60);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
@@ -33,5 +43,59 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+    
+    /**
+     * Worker pool for Teams webhook deliveries from the outbox
+     * - Small on purpose: Teams throttles webhooks at a few requests per second
+     * - Rejected work stays in the outbox and is picked up on the next poll
+     */
+    @Bean(name = "teamsDispatchExecutor")
+    public Executor teamsDispatchExecutor(
+            @Value("${teams.dispatcher.workers:2}") int workers,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            // Each poll claims at most 50 rows, so the claims bound the queue
+            return virtualThreadExecutor("TeamsDispatch-", 30);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("TeamsDispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+    
+    /**
+     * Per-task Jira work log fetches within one sync
+     * - Virtual threads: one per task; the jira bulkhead bounds the calls in flight
+     * - Otherwise the common fork-join pool
+     */
+    @Bean(name = "workLogFetchExecutor")
+    public Executor workLogFetchExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return virtualThreads ? virtualThreadExecutor("WorkLogFetch-", 0) : ForkJoinPool.commonPool();
+    }
+    
+    /**
+     * Fan-out of live sprint updates to SSE subscribers
+     * - Virtual threads: a write stalled on a slow client parks instead of pinning a pool thread
+     * - No pool to size; idle subscribers hold no thread at all
+     */
+    @Bean(name = "sprintStreamExecutor")
+    public Executor sprintStreamExecutor() {
+        return virtualThreadExecutor("SprintStream-", 0);
+    }
+    
+    /**
+     * One new virtual thread per task. A termination timeout above zero makes shutdown wait
+     * that many seconds for running tasks, like setAwaitTerminationSeconds on a pool.
+     */
+    static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, long awaitTerminationSeconds) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(awaitTerminationSeconds * 1000);
+        return executor;
+    }
 }
-
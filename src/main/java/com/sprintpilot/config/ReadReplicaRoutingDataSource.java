@@ -0,0 +1,95 @@
+package com.sprintpilot.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else to the primary.
+ *
+ * The replica is only used while its last lag check succeeded and reported no more than
+ * max-lag-seconds; otherwise read-only transactions fall back to the primary until a later
+ * check passes. Must sit behind a LazyConnectionDataSourceProxy so the connection is fetched
+ * after the transaction's read-only flag has been set.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource replica;
+    private final ReplicaDataSourceProperties properties;
+    private volatile boolean replicaUsable;
+    private volatile boolean checked;
+    private volatile double replicaLagSeconds = -1;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaDataSourceProperties properties) {
+        this.replica = replica;
+        this.properties = properties;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaUsable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkReplica() {
+        boolean usable;
+        String reason;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+            double lag = rs.next() ? rs.getDouble(1) : 0;
+            if (rs.wasNull()) {
+                // The lag query found no streaming WAL receiver: however current the replica looks, it is cut off
+                replicaLagSeconds = -1;
+                usable = false;
+                reason = "no active WAL receiver";
+            } else {
+                replicaLagSeconds = lag;
+                usable = replicaLagSeconds <= properties.getMaxLagSeconds();
+                reason = "lag " + replicaLagSeconds + "s, limit " + properties.getMaxLagSeconds() + "s";
+            }
+        } catch (SQLException e) {
+            replicaLagSeconds = -1;
+            usable = false;
+            reason = e.getMessage();
+        }
+
+        // Log the first result and every change after it
+        if (!checked || usable != replicaUsable) {
+            if (usable) {
+                log.info("Read replica available, routing read-only transactions to it ({})", reason);
+            } else {
+                log.warn("Read replica unavailable, routing read-only transactions to the primary ({})", reason);
+            }
+        }
+        replicaUsable = usable;
+        checked = true;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Lag reported by the last check, or -1 when the replica could not be reached
+     */
+    public double getReplicaLagSeconds() {
+        return replicaLagSeconds;
+    }
+}
@@ -0,0 +1,41 @@
+package com.sprintpilot.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read replica used for read-only transactions (see ReadReplicaDataSourceConfig).
+ * Pool settings for the replica live under app.datasource.replica.hikari.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.datasource.replica")
+@Data
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+
+    /**
+     * Reads go back to the primary while the replica is further behind than this
+     */
+    private long maxLagSeconds = 10;
+
+    private long lagCheckIntervalMs = 5000;
+
+    /**
+     * Returns the replica's lag in seconds as a single number, or NULL when the replica cannot be
+     * trusted at all. The default reads PostgreSQL streaming replication state: NULL while no WAL
+     * receiver is streaming (a disconnected replica stops receiving, replays what it has and would
+     * otherwise look current), 0 once everything received has been replayed, so an idle primary
+     * does not look like lag. Seeing the receiver status needs pg_read_all_stats (or pg_monitor)
+     * for the replica user; without it the replica is never used.
+     */
+    private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+}
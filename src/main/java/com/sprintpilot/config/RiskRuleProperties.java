@@ -0,0 +1,46 @@
+package com.sprintpilot.config;
+
+import com.sprintpilot.entity.Task;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Risk policy for task analysis (app.risk.*).
+ *
+ * Rules are checked in declaration order and the first one whose conditions all hold
+ * decides the risk factor. A condition that is not set is not checked.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.risk")
+@Data
+public class RiskRuleProperties {
+    
+    private List<Rule> rules = new ArrayList<>();
+    private Task.RiskFactor defaultResult = Task.RiskFactor.ON_TRACK;
+    // Task lists larger than one chunk are scored chunk by chunk in parallel
+    private int chunkSize = 512;
+    
+    @Data
+    public static class Rule {
+        private String name;
+        private Task.RiskFactor result;
+        private Set<Task.TaskStatus> statuses;
+        private Set<Task.TaskPriority> priorities;
+        // Inclusive bounds on days from today to the due date; tasks without a due date never match
+        private Double minDaysUntilDue;
+        private Double maxDaysUntilDue;
+        // Matches when percent complete (time spent vs estimate) is below this value
+        private Double maxCompletePercent;
+        // Matches when percent of the start-to-due window elapsed exceeds percent complete by more than this
+        private Double minScheduleGap;
+        // Start and due date are both set and the due date is after the start date
+        private boolean requiresTimeline;
+        // Original estimate or story points are set
+        private boolean requiresEstimate;
+    }
+}
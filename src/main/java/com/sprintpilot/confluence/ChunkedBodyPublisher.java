@@ -0,0 +1,225 @@
+package com.sprintpilot.confluence;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Request body publisher fed by a writer running alongside the HTTP send.
+ *
+ * The writer fills fixed-size chunks which are handed to the HttpClient through a
+ * small bounded queue, so at most (queue depth + 2) chunks are in memory regardless
+ * of the body size. The body length is unknown up front, so HTTP/1.1 requests go
+ * out with chunked transfer encoding.
+ *
+ * The HttpClient does not always close the body stream: a cancelled or timed-out send, or a
+ * server that answers 4xx/5xx before reading the whole body, just stops reading. The writer
+ * therefore gives up once the body has not been read within the request timeout, so a failed
+ * send does not leave its writer thread parked with the page data.
+ */
+public final class ChunkedBodyPublisher {
+
+    /**
+     * Produces the request body. Runs on its own thread for each send attempt.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
+    private static final int QUEUE_DEPTH = 4;
+    private static final long OFFER_POLL_MS = 200;
+    private static final byte[] END_OF_BODY = new byte[0];
+    private static final AtomicInteger WRITER_SEQUENCE = new AtomicInteger();
+
+    private ChunkedBodyPublisher() {
+    }
+
+    /**
+     * @param timeout How long the writer waits for the body to be read, normally the request timeout
+     */
+    public static HttpRequest.BodyPublisher of(BodyWriter writer, Duration timeout) {
+        return of(writer, DEFAULT_CHUNK_SIZE, timeout);
+    }
+
+    public static HttpRequest.BodyPublisher of(BodyWriter writer, int chunkSize, Duration timeout) {
+        return HttpRequest.BodyPublishers.ofInputStream(() -> start(writer, chunkSize, timeout));
+    }
+
+    private static InputStream start(BodyWriter writer, int chunkSize, Duration timeout) {
+        ChunkPipe pipe = new ChunkPipe(chunkSize, timeout);
+        Thread.ofVirtual()
+                .name("http-body-writer-" + WRITER_SEQUENCE.incrementAndGet())
+                .start(() -> {
+                    try {
+                        writer.writeTo(pipe.sink);
+                        // Only a completed write ends the body normally
+                        pipe.sink.close();
+                    } catch (Throwable t) {
+                        pipe.fail(t);
+                    }
+                });
+        return pipe.source;
+    }
+
+    /**
+     * Bounded hand-off between the body writer and the HttpClient reading the body
+     */
+    private static final class ChunkPipe {
+
+        private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(QUEUE_DEPTH);
+        private final int chunkSize;
+        private final Duration timeout;
+        private final long deadlineNanos;
+        private volatile Throwable failure;
+        private volatile boolean consumerClosed;
+
+        final OutputStream sink;
+        final InputStream source;
+
+        ChunkPipe(int chunkSize, Duration timeout) {
+            this.chunkSize = chunkSize;
+            this.timeout = timeout;
+            this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+            this.sink = new ChunkSink();
+            this.source = new ChunkSource();
+        }
+
+        private final class ChunkSink extends OutputStream {
+            private byte[] current = new byte[chunkSize];
+            private int count;
+            private boolean closed;
+
+            @Override
+            public void write(int b) throws IOException {
+                if (count == current.length) {
+                    handOff();
+                }
+                current[count++] = (byte) b;
+            }
+
+            @Override
+            public void write(byte[] bytes, int off, int len) throws IOException {
+                while (len > 0) {
+                    if (count == current.length) {
+                        handOff();
+                    }
+                    int n = Math.min(len, current.length - count);
+                    System.arraycopy(bytes, off, current, count, n);
+                    count += n;
+                    off += n;
+                    len -= n;
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                if (count > 0) {
+                    handOff();
+                }
+                enqueue(END_OF_BODY);
+            }
+
+            private void handOff() throws IOException {
+                byte[] full = count == current.length ? current : Arrays.copyOf(current, count);
+                enqueue(full);
+                current = new byte[chunkSize];
+                count = 0;
+            }
+        }
+
+        private final class ChunkSource extends InputStream {
+            private byte[] current = new byte[0];
+            private int position;
+            private boolean finished;
+
+            @Override
+            public int read() throws IOException {
+                if (!ensureAvailable()) {
+                    return -1;
+                }
+                return current[position++] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] bytes, int off, int len) throws IOException {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!ensureAvailable()) {
+                    return -1;
+                }
+                int n = Math.min(len, current.length - position);
+                System.arraycopy(current, position, bytes, off, n);
+                position += n;
+                return n;
+            }
+
+            @Override
+            public void close() {
+                consumerClosed = true;
+                chunks.clear();
+            }
+
+            private boolean ensureAvailable() throws IOException {
+                while (!finished && position == current.length) {
+                    byte[] next;
+                    try {
+                        next = chunks.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while waiting for request body");
+                    }
+                    if (next == END_OF_BODY) {
+                        finished = true;
+                        if (failure != null) {
+                            throw new IOException("Failed to write request body", failure);
+                        }
+                    } else {
+                        current = next;
+                        position = 0;
+                    }
+                }
+                return position < current.length;
+            }
+        }
+
+        void fail(Throwable t) {
+            failure = t;
+            try {
+                enqueue(END_OF_BODY);
+            } catch (IOException ignored) {
+                // Consumer already gone, nobody left to report to
+            }
+        }
+
+        private void enqueue(byte[] chunk) throws IOException {
+            try {
+                while (!chunks.offer(chunk, OFFER_POLL_MS, TimeUnit.MILLISECONDS)) {
+                    if (consumerClosed) {
+                        throw new IOException("Request body is no longer being read");
+                    }
+                    if (System.nanoTime() - deadlineNanos > 0) {
+                        throw new IOException("Request body was not read within " + timeout);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while writing request body");
+            }
+        }
+    }
+}
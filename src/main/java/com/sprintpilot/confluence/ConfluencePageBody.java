@@ -0,0 +1,17 @@
+package com.sprintpilot.confluence;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Page content in Confluence Storage Format, written on demand instead of held as a string.
+ * Used by the streaming create/update calls so a large page is produced while it is sent.
+ */
+@FunctionalInterface
+public interface ConfluencePageBody {
+    
+    /**
+     * Writes the page content. May be called more than once if the request is re-sent.
+     */
+    void writeTo(Writer out) throws IOException;
+}
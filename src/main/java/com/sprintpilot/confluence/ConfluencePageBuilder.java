@@ -1,10 +1,9 @@
 package com.sprintpilot.confluence;
 
+import com.sprintpilot.template.CompiledTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Builds Confluence page content by replacing placeholders in templates
@@ -21,6 +20,7 @@ public class ConfluencePageBuilder {
     
     /**
      * Builds a Confluence page content from a template with variable replacements
+     * Supports {{variableName}} placeholders and {{#if variable}}...{{/if}} blocks
      * 
      * @param templateName Name of the template file (e.g., "sprint-planning-page.html")
      * @param variables Map of variable names to values for placeholder replacement
@@ -28,78 +28,36 @@ public class ConfluencePageBuilder {
      * @throws Exception if template cannot be loaded or processed
      */
     public String buildPageContent(String templateName, Map<String, String> variables) throws Exception {
-        String template = templateLoader.loadTemplate(templateName);
-        return replacePlaceholders(template, variables);
+        return templateLoader.loadCompiledTemplate(templateName).render(variables);
     }
     
     /**
-     * Replaces placeholders in template string
-     * Supports:
-     * - Simple placeholders: {{variableName}}
-     * - Conditional blocks: {{#if variable}}...{{/if}}
-     * - Loops: {{#each items}}...{{/each}}
-     */
-    private String replacePlaceholders(String template, Map<String, String> variables) {
-        if (template == null || variables == null) {
-            return template;
-        }
-        
-        String result = template;
-        
-        // Replace simple placeholders: {{variableName}}
-        for (Map.Entry<String, String> entry : variables.entrySet()) {
-            String placeholder = "{{" + entry.getKey() + "}}";
-            String value = entry.getValue() != null ? entry.getValue() : "";
-            result = result.replace(placeholder, value);
-        }
-        
-        // Handle conditional blocks: {{#if variable}}...{{/if}}
-        result = processConditionalBlocks(result, variables);
-        
-        // Handle loops: {{#each items}}...{{/each}}
-        result = processLoops(result, variables);
-        
-        return result;
-    }
-    
-    /**
-     * Processes conditional blocks: {{#if variable}}...{{/if}}
+     * Builds a streaming page body: the template and its fragments are rendered
+     * into the request body while it is being sent, so the page is never held as a whole.
+     * Like htmlToConfluenceStorage, the HTML is passed through unchanged.
+     * 
+     * @param templateName Name of the template file
+     * @param variables Scalar placeholder values
+     * @param fragments Sections written directly into the output
+     * @return Page body for ConfluenceClient streaming calls
+     * @throws Exception if template cannot be loaded
      */
-    private String processConditionalBlocks(String template, Map<String, String> variables) {
-        Pattern pattern = Pattern.compile("\\{\\{#if\\s+(\\w+)\\}\\}(.*?)\\{\\{/if\\}\\}", Pattern.DOTALL);
-        Matcher matcher = pattern.matcher(template);
-        StringBuffer result = new StringBuffer();
-        
-        while (matcher.find()) {
-            String variableName = matcher.group(1);
-            String blockContent = matcher.group(2);
-            
-            String value = variables.get(variableName);
-            boolean condition = value != null && !value.isEmpty() && !value.equals("false") && !value.equals("0");
-            
-            if (condition) {
-                // Keep the content, but process nested placeholders
-                String processedContent = replacePlaceholders(blockContent, variables);
-                matcher.appendReplacement(result, Matcher.quoteReplacement(processedContent));
-            } else {
-                // Remove the block
-                matcher.appendReplacement(result, "");
-            }
-        }
-        matcher.appendTail(result);
-        
-        return result.toString();
+    public ConfluencePageBody buildPageBody(String templateName, Map<String, String> variables,
+                                            Map<String, CompiledTemplate.Fragment> fragments) throws Exception {
+        CompiledTemplate template = templateLoader.loadCompiledTemplate(templateName);
+        return out -> template.renderTo(variables, fragments, out);
     }
     
     /**
-     * Processes loop blocks: {{#each items}}...{{/each}}
-     * Note: This is a simplified implementation. For complex nested structures,
-     * consider using a proper templating engine like Handlebars or Mustache
+     * Fingerprint of a template's source, so stored page state can be invalidated
+     * when a template changes
+     * 
+     * @param templateName Name of the template file
+     * @return Hex fingerprint of the template text
+     * @throws Exception if template cannot be loaded
      */
-    private String processLoops(String template, Map<String, String> variables) {
-        // For now, loops are handled by passing pre-formatted HTML strings
-        // This can be enhanced later if needed
-        return template;
+    public String templateFingerprint(String templateName) throws Exception {
+        return templateLoader.templateFingerprint(templateName);
     }
     
     /**
@@ -0,0 +1,114 @@
+package com.sprintpilot.confluence;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Marks the generated sections of a page and replaces them in the stored page body.
+ *
+ * Each generated section sits between two anchor macros (sprintpilot-&lt;key&gt;-start and
+ * sprintpilot-&lt;key&gt;-end), which Confluence keeps in the storage format and does not
+ * display. A re-sync replaces the content between a pair and copies everything else from the
+ * stored body unchanged, so tables people fill in by hand survive.
+ */
+public final class ConfluenceSectionSplicer {
+
+    private static final String MARKER_PREFIX = "sprintpilot-";
+
+    // Confluence adds attributes such as ac:schema-version and ac:macro-id when it stores the macro
+    private static final Pattern MARKER = Pattern.compile(
+            "<ac:structured-macro\\b[^>]*>\\s*<ac:parameter\\b[^>]*>" + MARKER_PREFIX
+                    + "([a-z]+)-(start|end)</ac:parameter>\\s*</ac:structured-macro>");
+
+    private ConfluenceSectionSplicer() {
+    }
+
+    /**
+     * The section's content between its start and end markers
+     */
+    public static ConfluencePageBody marked(String key, ConfluencePageBody content) {
+        return out -> {
+            out.write(marker(key, "start"));
+            content.writeTo(out);
+            out.write(marker(key, "end"));
+        };
+    }
+
+    /**
+     * Keys of the marked sections in a stored page body, in page order
+     */
+    public static Set<String> sectionKeys(String storage) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (Span span : spans(storage)) {
+            keys.add(span.key());
+        }
+        return keys;
+    }
+
+    /**
+     * The stored body with the content of the given sections replaced. Sections without
+     * markers in the stored body are appended at the end, marked, in map order.
+     *
+     * @param storage Current page body in Confluence Storage Format
+     * @param sections New content by section key
+     */
+    public static ConfluencePageBody splice(String storage, Map<String, ConfluencePageBody> sections) {
+        String stored = storage != null ? storage : "";
+        List<Span> spans = spans(stored);
+        return out -> {
+            Set<String> written = new LinkedHashSet<>();
+            int position = 0;
+            for (Span span : spans) {
+                ConfluencePageBody content = sections.get(span.key());
+                if (content == null || !written.add(span.key())) {
+                    continue;
+                }
+                out.write(stored, position, span.contentStart() - position);
+                content.writeTo(out);
+                position = span.contentEnd();
+            }
+            out.write(stored, position, stored.length() - position);
+            for (Map.Entry<String, ConfluencePageBody> section : sections.entrySet()) {
+                if (!written.contains(section.getKey())) {
+                    out.write("\n\n");
+                    marked(section.getKey(), section.getValue()).writeTo(out);
+                }
+            }
+        };
+    }
+
+    private static String marker(String key, String edge) {
+        return "<ac:structured-macro ac:name=\"anchor\"><ac:parameter ac:name=\"\">" + MARKER_PREFIX + key + "-" + edge
+                + "</ac:parameter></ac:structured-macro>";
+    }
+
+    /**
+     * Start/end marker pairs; an unmatched marker is ignored
+     */
+    private static List<Span> spans(String storage) {
+        List<Span> spans = new ArrayList<>();
+        if (storage == null) {
+            return spans;
+        }
+        Matcher matcher = MARKER.matcher(storage);
+        String openKey = null;
+        int contentStart = 0;
+        while (matcher.find()) {
+            if (matcher.group(2).equals("start")) {
+                openKey = matcher.group(1);
+                contentStart = matcher.end();
+            } else if (matcher.group(1).equals(openKey)) {
+                spans.add(new Span(openKey, contentStart, matcher.start()));
+                openKey = null;
+            }
+        }
+        return spans;
+    }
+
+    private record Span(String key, int contentStart, int contentEnd) {}
+}
@@ -1,11 +1,19 @@
 package com.sprintpilot.confluence;
 
+import com.sprintpilot.template.CompiledTemplate;
+import com.sprintpilot.template.TemplateCompiler;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Loads Confluence page templates from resources
@@ -16,6 +24,10 @@ public class ConfluenceTemplateLoader {
     
     private static final String TEMPLATE_BASE_PATH = "templates/confluence/";
     
+    // Templates are classpath resources, so each is parsed once for the life of the app
+    private final Map<String, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
+    private final Map<String, String> templateFingerprints = new ConcurrentHashMap<>();
+    
     /**
      * Loads a template from the resources directory
      * 
@@ -35,5 +47,49 @@ public class ConfluenceTemplateLoader {
             return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
         }
     }
+    
+    /**
+     * Returns the parsed form of a template, compiling it on first use
+     * 
+     * @param templateName Name of the template file
+     * @return Cached compiled template
+     * @throws IOException if template file cannot be loaded
+     */
+    public CompiledTemplate loadCompiledTemplate(String templateName) throws IOException {
+        try {
+            return compiledTemplates.computeIfAbsent(templateName, name -> {
+                try {
+                    return TemplateCompiler.compile(name, loadTemplate(name));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    /**
+     * SHA-256 of the template source, used to notice template changes between deployments
+     * 
+     * @param templateName Name of the template file
+     * @return Hex fingerprint of the template text
+     * @throws IOException if template file cannot be loaded
+     */
+    public String templateFingerprint(String templateName) throws IOException {
+        try {
+            return templateFingerprints.computeIfAbsent(templateName, name -> {
+                try {
+                    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                    return HexFormat.of().formatHex(digest.digest(loadTemplate(name).getBytes(StandardCharsets.UTF_8)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (NoSuchAlgorithmException e) {
+                    throw new IllegalStateException("SHA-256 not available", e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 }
-
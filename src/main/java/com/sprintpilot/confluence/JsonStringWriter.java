@@ -0,0 +1,98 @@
+package com.sprintpilot.confluence;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Writer that escapes everything written to it as the contents of a JSON string
+ * and passes it to a JsonGenerator as raw output.
+ *
+ * The caller writes the opening and closing quotes. Text is buffered and escaped
+ * in blocks; a trailing high surrogate is held back so a pair is never split.
+ */
+public final class JsonStringWriter extends Writer {
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    private final JsonGenerator generator;
+    private final JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int count;
+    
+    public JsonStringWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+    
+    @Override
+    public void write(int c) throws IOException {
+        if (count == buffer.length) {
+            drain(false);
+        }
+        buffer[count++] = (char) c;
+    }
+    
+    @Override
+    public void write(char[] chars, int off, int len) throws IOException {
+        while (len > 0) {
+            if (count == buffer.length) {
+                drain(false);
+            }
+            int n = Math.min(len, buffer.length - count);
+            System.arraycopy(chars, off, buffer, count, n);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+    
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        while (len > 0) {
+            if (count == buffer.length) {
+                drain(false);
+            }
+            int n = Math.min(len, buffer.length - count);
+            str.getChars(off, off + n, buffer, count);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+    
+    /**
+     * Escapes and writes any buffered text, including a dangling high surrogate
+     */
+    @Override
+    public void flush() throws IOException {
+        drain(true);
+        generator.flush();
+    }
+    
+    /**
+     * Flushes buffered text; the generator itself is left open for the caller
+     */
+    @Override
+    public void close() throws IOException {
+        drain(true);
+    }
+    
+    private void drain(boolean all) throws IOException {
+        int end = count;
+        if (!all && end > 0 && Character.isHighSurrogate(buffer[end - 1])) {
+            end--;
+        }
+        if (end > 0) {
+            char[] escaped = encoder.quoteAsString(CharBuffer.wrap(buffer, 0, end));
+            generator.writeRaw(escaped, 0, escaped.length);
+        }
+        int remaining = count - end;
+        if (remaining > 0) {
+            buffer[0] = buffer[end];
+        }
+        count = remaining;
+    }
+}
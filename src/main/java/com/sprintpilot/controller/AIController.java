@@ -7,6 +7,8 @@ import com.sprintpilot.dto.SprintEventDto;
 import com.sprintpilot.dto.SprintSummaryRequest;
 import com.sprintpilot.dto.TaskDto;
 import com.sprintpilot.dto.TeamMemberDto;
+import com.sprintpilot.entity.AIArtefact;
+import com.sprintpilot.service.AIArtefactService;
 import com.sprintpilot.service.AIService;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,22 +19,44 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/ai")
 @Slf4j
 public class AIController {
     
+    // Freshness headers on AI responses: source is "precomputed" or "live"
+    private static final String AI_SOURCE_HEADER = "X-AI-Source";
+    private static final String AI_GENERATED_AT_HEADER = "X-AI-Generated-At";
+    private static final String AI_AGE_HEADER = "X-AI-Age-Seconds";
+    
     @Autowired
     private AIService aiService;
     
+    @Autowired
+    private AIArtefactService aiArtefactService;
+    
     @PostMapping("/sprint-summary")
-    public ResponseEntity<ApiResponse<String>> generateSprintSummary(@RequestBody SprintSummaryRequest request) {
-        try {    
+    public ResponseEntity<ApiResponse<String>> generateSprintSummary(
+            @RequestBody SprintSummaryRequest request,
+            @RequestParam(defaultValue = "false") boolean refresh) {
+        try {
+            String sprintId = request.sprint() != null ? request.sprint().id() : null;
+            if (!refresh) {
+                Optional<AIArtefact> stored = aiArtefactService.findFresh(sprintId, AIArtefact.ArtefactType.SPRINT_SUMMARY);
+                if (stored.isPresent()) {
+                    return storedResponse(stored.get());
+                }
+            }
+            
             // Use top-level team/tasks if available, otherwise fall back to sprint's nested data
             List<TeamMemberDto> team = (request.team() != null && !request.team().isEmpty()) 
                 ? request.team() 
@@ -49,7 +73,8 @@ public class AIController {
                 request.workload()
             );
             
-            return ResponseEntity.ok(ApiResponse.success(summary));
+            aiArtefactService.storeOnDemand(sprintId, AIArtefact.ArtefactType.SPRINT_SUMMARY, summary);
+            return liveResponse(summary);
         } catch (Exception e) {
             log.error("Failed to generate sprint summary {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -74,6 +99,7 @@ public class AIController {
     @PostMapping("/risk-summary")
     public ResponseEntity<ApiResponse<String>> generateRiskSummary(
             @RequestBody Map<String, Object> request,
+            @RequestParam(defaultValue = "false") boolean refresh,
             HttpServletRequest httpRequest) {
         try {
             // Get sprint ID from cookie
@@ -84,12 +110,20 @@ public class AIController {
                     .body(ApiResponse.failure("Sprint ID not found in cookie"));
             }
             
+            if (!refresh) {
+                Optional<AIArtefact> stored = aiArtefactService.findFresh(sprintId, AIArtefact.ArtefactType.RISK_SUMMARY);
+                if (stored.isPresent()) {
+                    return storedResponse(stored.get());
+                }
+            }
+            
             log.info("Generating risk summary for sprint: {}", sprintId);
             
             // Delegate to service layer - all business logic moved there
             String summary = aiService.generateRiskSummaryForSprint(sprintId);
             
-            return ResponseEntity.ok(ApiResponse.success(summary));
+            aiArtefactService.storeOnDemand(sprintId, AIArtefact.ArtefactType.RISK_SUMMARY, summary);
+            return liveResponse(summary);
         } catch (Exception e) {
             log.error("Failed to generate risk summary: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -97,6 +131,26 @@ public class AIController {
         }
     }
     
+    /**
+     * Build a response for a precomputed artefact, exposing when it was generated
+     */
+    private ResponseEntity<ApiResponse<String>> storedResponse(AIArtefact artefact) {
+        long ageSeconds = Duration.between(artefact.getGeneratedAt(), LocalDateTime.now()).getSeconds();
+        return ResponseEntity.ok()
+            .header(AI_SOURCE_HEADER, "precomputed")
+            .header(AI_GENERATED_AT_HEADER, artefact.getGeneratedAt().toString())
+            .header(AI_AGE_HEADER, String.valueOf(ageSeconds))
+            .body(ApiResponse.success("Generated at " + artefact.getGeneratedAt(), artefact.getContent()));
+    }
+    
+    private ResponseEntity<ApiResponse<String>> liveResponse(String content) {
+        return ResponseEntity.ok()
+            .header(AI_SOURCE_HEADER, "live")
+            .header(AI_GENERATED_AT_HEADER, LocalDateTime.now().toString())
+            .header(AI_AGE_HEADER, "0")
+            .body(ApiResponse.success(content));
+    }
+    
     /**
      * Helper method to extract sprint ID from cookies
      */
@@ -151,14 +205,25 @@ public class AIController {
     }
     
     @PostMapping("/performance-insights")
-    public ResponseEntity<ApiResponse<String>> analyzeHistoricalPerformance(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<ApiResponse<String>> analyzeHistoricalPerformance(
+            @RequestBody Map<String, Object> request,
+            @RequestParam(defaultValue = "false") boolean refresh) {
         try {
+            if (!refresh) {
+                Optional<AIArtefact> stored = aiArtefactService.findFresh(
+                        AIArtefact.HISTORY_SCOPE, AIArtefact.ArtefactType.PERFORMANCE_INSIGHTS);
+                if (stored.isPresent()) {
+                    return storedResponse(stored.get());
+                }
+            }
+            
             log.info("Generating performance insights from historical sprint data");
             
             // Delegate to service layer - all business logic moved there
             String insights = aiService.generatePerformanceInsightsFromHistory();
             
-            return ResponseEntity.ok(ApiResponse.success(insights));
+            aiArtefactService.storeOnDemand(AIArtefact.HISTORY_SCOPE, AIArtefact.ArtefactType.PERFORMANCE_INSIGHTS, insights);
+            return liveResponse(insights);
         } catch (Exception e) {
             log.error("Failed to generate performance insights: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,49 @@
+package com.sprintpilot.controller;
+
+import com.sprintpilot.bulkhead.DownstreamBulkheads;
+import com.sprintpilot.dto.ApiResponse;
+import com.sprintpilot.dto.BulkheadStatisticsDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for downstream bulkhead telemetry
+ */
+@RestController
+@RequestMapping("/api/bulkheads")
+public class BulkheadController {
+
+    @Autowired
+    private DownstreamBulkheads downstreamBulkheads;
+
+    /**
+     * Permits in use, queued callers and permit waits per downstream
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<BulkheadStatisticsDto>>> getStatistics() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(downstreamBulkheads.statistics()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to read bulkhead statistics", e.getMessage()));
+        }
+    }
+
+    /**
+     * Zero the counters to measure a fresh window
+     */
+    @PostMapping("/reset")
+    public ResponseEntity<ApiResponse<List<BulkheadStatisticsDto>>> resetStatistics() {
+        try {
+            downstreamBulkheads.reset();
+            return ResponseEntity.ok(ApiResponse.success("Bulkhead statistics reset", downstreamBulkheads.statistics()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to reset bulkhead statistics", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.sprintpilot.controller;
+
+import com.sprintpilot.cache.SecondLevelCacheStatistics;
+import com.sprintpilot.dto.ApiResponse;
+import com.sprintpilot.dto.CacheStatisticsDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for Hibernate second-level cache statistics
+ */
+@RestController
+@RequestMapping("/api/cache/stats")
+public class CacheStatisticsController {
+    
+    @Autowired
+    private SecondLevelCacheStatistics secondLevelCacheStatistics;
+    
+    /**
+     * Hit ratios for the entity, collection and query caches
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<CacheStatisticsDto>> getStatistics() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(secondLevelCacheStatistics.snapshot()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to read cache statistics", e.getMessage()));
+        }
+    }
+    
+    /**
+     * Zero the counters to measure a fresh window
+     */
+    @PostMapping("/reset")
+    public ResponseEntity<ApiResponse<CacheStatisticsDto>> resetStatistics() {
+        try {
+            secondLevelCacheStatistics.reset();
+            return ResponseEntity.ok(ApiResponse.success("Cache statistics reset", secondLevelCacheStatistics.snapshot()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to reset cache statistics", e.getMessage()));
+        }
+    }
+}
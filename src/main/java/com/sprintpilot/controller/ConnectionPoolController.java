@@ -0,0 +1,47 @@
+package com.sprintpilot.controller;
+
+import com.sprintpilot.datasource.ConnectionPoolMetrics;
+import com.sprintpilot.dto.ApiResponse;
+import com.sprintpilot.dto.ConnectionPoolStatisticsDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for database connection pool telemetry
+ */
+@RestController
+@RequestMapping("/api/datasource/pools")
+public class ConnectionPoolController {
+
+    @Autowired
+    private ConnectionPoolMetrics connectionPoolMetrics;
+
+    /**
+     * Active, idle and waiting connections per pool, with acquire-wait percentiles
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<ConnectionPoolStatisticsDto>> getStatistics() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(connectionPoolMetrics.snapshot()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to read connection pool statistics", e.getMessage()));
+        }
+    }
+
+    /**
+     * Zero the timings to measure a fresh window
+     */
+    @PostMapping("/reset")
+    public ResponseEntity<ApiResponse<ConnectionPoolStatisticsDto>> resetStatistics() {
+        try {
+            connectionPoolMetrics.reset();
+            return ResponseEntity.ok(ApiResponse.success("Connection pool statistics reset", connectionPoolMetrics.snapshot()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to reset connection pool statistics", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.sprintpilot.controller;
+
+import com.sprintpilot.dto.ApiResponse;
+import com.sprintpilot.dto.DomainEventDto;
+import com.sprintpilot.event.DomainEventPublisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for the domain event change feed
+ */
+@RestController
+@RequestMapping("/api/events")
+public class DomainEventController {
+    
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+    
+    /**
+     * Events recorded after the given feed position (oldest first)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<DomainEventDto>>> getEvents(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(required = false) String sprintId,
+            @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(domainEventPublisher.feed(after, sprintId, limit)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to fetch domain events", e.getMessage()));
+        }
+    }
+}
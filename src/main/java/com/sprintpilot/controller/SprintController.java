@@ -4,24 +4,40 @@ import com.sprintpilot.config.AtlassianConfigProperties;
 import com.sprintpilot.dto.ApiResponse;
 import com.sprintpilot.dto.SprintDto;
 import com.sprintpilot.dto.SprintEventDto;
+import com.sprintpilot.dto.SprintHeaderDto;
 import com.sprintpilot.dto.SprintMetricsDto;
+import com.sprintpilot.entity.Sprint;
 import com.sprintpilot.service.SprintMetricsService;
 import com.sprintpilot.service.SprintService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.StringUtils;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/sprints")
 @Slf4j
 public class SprintController {
+
+    // Body formats of the API responses, in the order content negotiation prefers them
+    private static final List<MediaType> PRODUCIBLE_MEDIA_TYPES =
+        List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
     
     @Autowired
     private SprintService sprintService;
@@ -57,32 +73,59 @@ public class SprintController {
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<SprintDto>> getSprintById(@PathVariable String id) {
-        try {
-            SprintDto sprint = sprintService.getSprintWithFullDetails(id);
-            return ResponseEntity.ok(ApiResponse.success(sprint));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(ApiResponse.error("Sprint not found", e.getMessage()));
-        }
+    public ResponseEntity<ApiResponse<SprintDto>> getSprintById(@PathVariable String id, WebRequest webRequest) {
+        return conditionalGet(id, "sprint", webRequest, () -> {
+            try {
+                SprintDto sprint = sprintService.getSprintWithFullDetails(id);
+                return ResponseEntity.ok(ApiResponse.success(sprint));
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("Sprint not found", e.getMessage()));
+            }
+        });
     }
     
     @GetMapping
-    public ResponseEntity<ApiResponse<List<SprintDto>>> getAllSprints() {
+    public ResponseEntity<ApiResponse<List<SprintDto>>> getAllSprints(
+            @RequestParam(required = false) String fields) {
         try {
-            List<SprintDto> sprints = sprintService.getAllSprints();
+            List<SprintDto> sprints = sprintService.getAllSprints(SprintDto.Include.parse(fields));
             return ResponseEntity.ok(ApiResponse.success(sprints));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Invalid fields parameter", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("Failed to fetch sprints", e.getMessage()));
         }
     }
     
+    /**
+     * Sprint headers (dates, status and counts) without nested lists
+     * 
+     * @param status Optional status filter, e.g. ACTIVE or ARCHIVED
+     */
+    @GetMapping("/headers")
+    public ResponseEntity<ApiResponse<List<SprintHeaderDto>>> getSprintHeaders(
+            @RequestParam(required = false) Sprint.SprintStatus status) {
+        try {
+            List<SprintHeaderDto> headers = sprintService.getSprintHeaders(status);
+            return ResponseEntity.ok(ApiResponse.success(headers));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("Failed to fetch sprint headers", e.getMessage()));
+        }
+    }
+    
     @GetMapping("/active")
-    public ResponseEntity<ApiResponse<List<SprintDto>>> getActiveSprints() {
+    public ResponseEntity<ApiResponse<List<SprintDto>>> getActiveSprints(
+            @RequestParam(required = false) String fields) {
         try {
-            List<SprintDto> sprints = sprintService.getActiveSprints();
+            List<SprintDto> sprints = sprintService.getActiveSprints(SprintDto.Include.parse(fields));
             return ResponseEntity.ok(ApiResponse.success(sprints));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Invalid fields parameter", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("Failed to fetch active sprints", e.getMessage()));
@@ -90,10 +133,14 @@ public class SprintController {
     }
     
     @GetMapping("/archived")
-    public ResponseEntity<ApiResponse<List<SprintDto>>> getArchivedSprints() {
+    public ResponseEntity<ApiResponse<List<SprintDto>>> getArchivedSprints(
+            @RequestParam(required = false) String fields) {
         try {
-            List<SprintDto> sprints = sprintService.getArchivedSprints();
+            List<SprintDto> sprints = sprintService.getArchivedSprints(SprintDto.Include.parse(fields));
             return ResponseEntity.ok(ApiResponse.success(sprints));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Invalid fields parameter", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("Failed to fetch archived sprints", e.getMessage()));
@@ -271,8 +318,22 @@ public class SprintController {
      */
     @PostMapping("/metrics/burndown-velocity")
     public ResponseEntity<ApiResponse<SprintMetricsDto>> getSprintMetrics(@RequestBody Map<String, String> request) {
-        String sprintId = request.get("sprintId");
-        String projectName = request.get("projectName");
+        return sprintMetricsResponse(request.get("sprintId"), request.get("projectName"));
+    }
+
+    /**
+     * Cacheable variant of POST /metrics/burndown-velocity; answers 304 when If-None-Match still matches
+     */
+    @GetMapping("/metrics/burndown-velocity")
+    public ResponseEntity<ApiResponse<SprintMetricsDto>> getSprintMetrics(
+            @RequestParam String sprintId,
+            @RequestParam(required = false) String projectName,
+            WebRequest webRequest) {
+        return conditionalGet(sprintId, "burndown-velocity:" + projectName, webRequest,
+            () -> sprintMetricsResponse(sprintId, projectName));
+    }
+
+    private ResponseEntity<ApiResponse<SprintMetricsDto>> sprintMetricsResponse(String sprintId, String projectName) {
         if(!StringUtils.hasText(projectName)) {
             projectName = atlassianConfigProperties.getJiraProjectName();
         }
@@ -299,9 +360,22 @@ public class SprintController {
      */
     @PostMapping("/metrics/workDistribution")
     public ResponseEntity<ApiResponse<com.sprintpilot.dto.WorkDistributionDto>> getWorkDistribution(@RequestBody Map<String, String> request) {
-        String sprintId = request.get("sprintId");
-        String projectName = request.get("projectName");
-        
+        return workDistributionResponse(request.get("sprintId"), request.get("projectName"));
+    }
+
+    /**
+     * Cacheable variant of POST /metrics/workDistribution
+     */
+    @GetMapping("/metrics/workDistribution")
+    public ResponseEntity<ApiResponse<com.sprintpilot.dto.WorkDistributionDto>> getWorkDistribution(
+            @RequestParam String sprintId,
+            @RequestParam(required = false) String projectName,
+            WebRequest webRequest) {
+        return conditionalGet(sprintId, "workDistribution:" + projectName, webRequest,
+            () -> workDistributionResponse(sprintId, projectName));
+    }
+
+    private ResponseEntity<ApiResponse<com.sprintpilot.dto.WorkDistributionDto>> workDistributionResponse(String sprintId, String projectName) {
         if(!StringUtils.hasText(projectName)) {
             projectName = atlassianConfigProperties.getJiraProjectName();
         }
@@ -329,8 +403,20 @@ public class SprintController {
      */
     @PostMapping("/metrics/quickStats")
     public ResponseEntity<ApiResponse<com.sprintpilot.dto.QuickStatsDto>> getQuickStats(@RequestBody Map<String, String> request) {
-        String sprintId = request.get("sprintId");
-        
+        return quickStatsResponse(request.get("sprintId"));
+    }
+
+    /**
+     * Cacheable variant of POST /metrics/quickStats
+     */
+    @GetMapping("/metrics/quickStats")
+    public ResponseEntity<ApiResponse<com.sprintpilot.dto.QuickStatsDto>> getQuickStats(
+            @RequestParam String sprintId,
+            WebRequest webRequest) {
+        return conditionalGet(sprintId, "quickStats", webRequest, () -> quickStatsResponse(sprintId));
+    }
+
+    private ResponseEntity<ApiResponse<com.sprintpilot.dto.QuickStatsDto>> quickStatsResponse(String sprintId) {
         if (!StringUtils.hasText(sprintId)) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error("sprintId is required", null));
@@ -354,8 +440,20 @@ public class SprintController {
      */
     @PostMapping("/metrics/velocityTrend")
     public ResponseEntity<ApiResponse<com.sprintpilot.dto.VelocityTrendDto>> getVelocityTrend(@RequestBody Map<String, String> request) {
-        String currentSprintId = request.get("sprintId");
+        return velocityTrendResponse(request.get("sprintId"));
+    }
 
+    /**
+     * Cacheable variant of POST /metrics/velocityTrend
+     */
+    @GetMapping("/metrics/velocityTrend")
+    public ResponseEntity<ApiResponse<com.sprintpilot.dto.VelocityTrendDto>> getVelocityTrend(
+            @RequestParam String sprintId,
+            WebRequest webRequest) {
+        return conditionalGet(sprintId, "velocityTrend", webRequest, () -> velocityTrendResponse(sprintId));
+    }
+
+    private ResponseEntity<ApiResponse<com.sprintpilot.dto.VelocityTrendDto>> velocityTrendResponse(String currentSprintId) {
         if (!StringUtils.hasText(currentSprintId)) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error("sprintId is required", null));
@@ -379,8 +477,20 @@ public class SprintController {
      */
     @PostMapping("/metrics/summary")
     public ResponseEntity<ApiResponse<com.sprintpilot.dto.SprintSummaryMetricsDto>> getSummaryMetrics(@RequestBody Map<String, String> request) {
-        String currentSprintId = request.get("sprintId");
+        return summaryMetricsResponse(request.get("sprintId"));
+    }
+
+    /**
+     * Cacheable variant of POST /metrics/summary
+     */
+    @GetMapping("/metrics/summary")
+    public ResponseEntity<ApiResponse<com.sprintpilot.dto.SprintSummaryMetricsDto>> getSummaryMetrics(
+            @RequestParam String sprintId,
+            WebRequest webRequest) {
+        return conditionalGet(sprintId, "summary", webRequest, () -> summaryMetricsResponse(sprintId));
+    }
 
+    private ResponseEntity<ApiResponse<com.sprintpilot.dto.SprintSummaryMetricsDto>> summaryMetricsResponse(String currentSprintId) {
         if (!StringUtils.hasText(currentSprintId)) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error("sprintId is required", null));
@@ -404,8 +514,20 @@ public class SprintController {
      */
     @PostMapping("/metrics/current")
     public ResponseEntity<ApiResponse<com.sprintpilot.dto.CurrentSprintMetricsDto>> getCurrentSprintMetrics(@RequestBody Map<String, String> request) {
-        String currentSprintId = request.get("sprintId");
+        return currentSprintMetricsResponse(request.get("sprintId"));
+    }
+
+    /**
+     * Cacheable variant of POST /metrics/current
+     */
+    @GetMapping("/metrics/current")
+    public ResponseEntity<ApiResponse<com.sprintpilot.dto.CurrentSprintMetricsDto>> getCurrentSprintMetrics(
+            @RequestParam String sprintId,
+            WebRequest webRequest) {
+        return conditionalGet(sprintId, "current", webRequest, () -> currentSprintMetricsResponse(sprintId));
+    }
 
+    private ResponseEntity<ApiResponse<com.sprintpilot.dto.CurrentSprintMetricsDto>> currentSprintMetricsResponse(String currentSprintId) {
         if (!StringUtils.hasText(currentSprintId)) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error("sprintId is required", null));
@@ -420,38 +542,103 @@ public class SprintController {
                 .body(ApiResponse.error("Failed to calculate current sprint metrics", e.getMessage()));
         }
     }
+
+    /**
+     * Conditional GET driven by the sprint data version. The ETag covers the resource, the data
+     * version, today's date (burndown and days remaining move with the calendar) and the media
+     * type the client negotiated, so a client whose If-None-Match still matches gets a 304 after
+     * one version query, without the metrics being computed or serialised. Error responses are
+     * returned untagged.
+     *
+     * The tag is weak: it names the data, not the bytes, and Tomcat only compresses responses
+     * whose ETag is weak. JSON and CBOR share each URL, so responses carry Vary: Accept.
+     */
+    private <T> ResponseEntity<ApiResponse<T>> conditionalGet(String sprintId, String resource, WebRequest webRequest,
+                                                              Supplier<ResponseEntity<ApiResponse<T>>> response) {
+        String eTag;
+        try {
+            eTag = "W/\"" + DigestUtils.md5DigestAsHex((resource + "|" + sprintService.getSprintDataVersion(sprintId)
+                + "|" + LocalDate.now() + "|" + negotiatedMediaType(webRequest)).getBytes(StandardCharsets.UTF_8)) + "\"";
+        } catch (Exception e) {
+            // Unknown sprint: let the handler produce its usual error
+            return response.get();
+        }
+        // Set on the servlet response so 304s carry it too
+        if (webRequest instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+            servletWebRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        ResponseEntity<ApiResponse<T>> computed = response.get();
+        if (!computed.getStatusCode().is2xxSuccessful()) {
+            return computed;
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(computed.getBody());
+    }
+
+    /**
+     * The body format content negotiation will pick for this request: the first of JSON and
+     * CBOR (see AppConfig) that the Accept header admits, in order of preference, JSON otherwise
+     */
+    private static MediaType negotiatedMediaType(WebRequest webRequest) {
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(webRequest.getHeader(HttpHeaders.ACCEPT)));
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType mediaType : accepted) {
+            for (MediaType producible : PRODUCIBLE_MEDIA_TYPES) {
+                if (mediaType.isCompatibleWith(producible)) {
+                    return producible;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
     
     // New endpoints for sprint management starting point
     
     @GetMapping("/current")
-    public ResponseEntity<ApiResponse<SprintDto>> getCurrentActiveSprint() {
+    public ResponseEntity<ApiResponse<SprintDto>> getCurrentActiveSprint(
+            @RequestParam(required = false) String fields) {
         try {
-            SprintDto currentSprint = sprintService.getCurrentActiveSprint();
+            SprintDto currentSprint = sprintService.getCurrentActiveSprint(SprintDto.Include.parse(fields));
             if (currentSprint != null) {
                 return ResponseEntity.ok(ApiResponse.success("Current active sprint found", currentSprint));
             } else {
                 return ResponseEntity.ok(ApiResponse.success("No active sprint found", null));
             }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Invalid fields parameter", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("Failed to get current sprint", e.getMessage()));
         }
     }
     
+    /**
+     * Polled by the sprint setup page. The current sprint comes without its task list
+     * unless fields asks for it; template DTOs are not built at all, only counted.
+     */
     @GetMapping("/status")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getSprintStatus() {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getSprintStatus(
+            @RequestParam(defaultValue = "events,teamMembers") String fields) {
         try {
-            boolean hasActive = sprintService.hasActiveSprint();
-            SprintDto currentSprint = sprintService.getCurrentActiveSprint();
-            List<SprintDto> templates = sprintService.getSprintTemplates();
+            SprintDto currentSprint = sprintService.getCurrentActiveSprint(SprintDto.Include.parse(fields));
+            long templatesCount = sprintService.countSprintTemplates();
             
             Map<String, Object> status = new HashMap<>();
-            status.put("hasActiveSprint", hasActive);
+            status.put("hasActiveSprint", currentSprint != null);
             status.put("currentSprint", currentSprint);
-            status.put("hasTemplates", !templates.isEmpty());
-            status.put("templatesCount", templates.size());
+            status.put("hasTemplates", templatesCount > 0);
+            status.put("templatesCount", templatesCount);
             
             return ResponseEntity.ok(ApiResponse.success("Sprint status retrieved", status));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Invalid fields parameter", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("Failed to get sprint status", e.getMessage()));
@@ -459,10 +646,14 @@ public class SprintController {
     }
     
     @GetMapping("/templates")
-    public ResponseEntity<ApiResponse<List<SprintDto>>> getSprintTemplates() {
+    public ResponseEntity<ApiResponse<List<SprintDto>>> getSprintTemplates(
+            @RequestParam(required = false) String fields) {
         try {
-            List<SprintDto> templates = sprintService.getSprintTemplates();
+            List<SprintDto> templates = sprintService.getSprintTemplates(SprintDto.Include.parse(fields));
             return ResponseEntity.ok(ApiResponse.success("Sprint templates retrieved", templates));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("Invalid fields parameter", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("Failed to get sprint templates", e.getMessage()));
@@ -0,0 +1,47 @@
+package com.sprintpilot.controller;
+
+import com.sprintpilot.dto.SprintStreamMessageDto;
+import com.sprintpilot.stream.SprintStreamListener;
+import com.sprintpilot.stream.SprintStreamRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for live sprint updates over Server-Sent Events
+ */
+@RestController
+@RequestMapping("/api/sprints")
+@Slf4j
+public class SprintStreamController {
+
+    @Autowired
+    private SprintStreamRegistry sprintStreamRegistry;
+
+    @Autowired
+    private SprintStreamListener sprintStreamListener;
+
+    /**
+     * Stream of changes to the sprint: connected, then deltas and metrics-changed as they commit
+     */
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamSprint(@PathVariable String id) {
+        SprintStreamMessageDto connected;
+        try {
+            connected = sprintStreamListener.connected(id);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        SseEmitter emitter = sprintStreamRegistry.subscribe(id, connected);
+        if (emitter == null) {
+            log.warn("Rejected stream for sprint {}: {} connections open", id, sprintStreamRegistry.connectionCount());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        // Keeps proxies such as nginx from buffering the stream
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+}
@@ -44,6 +44,7 @@ public class TaskController {
      * @param riskFactor Optional risk factor filter (ON_TRACK, AT_RISK, OFF_TRACK)
      * @param page Page number (0-based)
      * @param size Number of items per page
+     * @param cursor Keyset cursor returned as nextCursor by the previous page
      * @return Paginated list of tasks with assignee names
      */
     @Operation(
@@ -59,7 +60,9 @@ public class TaskController {
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of items per page")
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "nextCursor from the previous page; takes precedence over page offset")
+            @RequestParam(required = false) String cursor) {
         try {
             log.info("GET /api/tasks/sprint/{} - riskFactor: {}, page: {}, size: {}", sprintId, riskFactor, page, size);
             
@@ -72,7 +75,7 @@ public class TaskController {
                 // Continue even if analysis fails
             }
             
-            TaskPageResponse response = taskService.getTasksBySprintIdPaginated(sprintId, riskFactor, page, size);
+            TaskPageResponse response = taskService.getTasksBySprintIdPaginated(sprintId, riskFactor, page, size, cursor);
             log.info("Returning {} tasks (page {}/{})", response.tasks().size(), response.currentPage() + 1, response.totalPages());
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (Exception e) {
@@ -132,6 +132,40 @@ public class TeamMemberController {
         }
     }
     
+    /**
+     * Replace a team member's leave days in one call
+     * PUT /api/team-members/{id}/leave-days
+     * Only the difference to the stored leave days is written; dates that are already holidays are skipped.
+     * Reads current sprint ID from cookie 'currentSprintId' to assign sprint to new leave days
+     */
+    @PutMapping("/{id}/leave-days")
+    public ResponseEntity<ApiResponse<TeamMemberDto>> replaceLeaveDays(
+            @PathVariable String id,
+            @Parameter(description = "Leave dates (yyyy-MM-dd)", required = true)
+            @RequestBody List<String> leaveDays,
+            HttpServletRequest request) {
+        try {
+            String currentSprintId = getSprintIdFromCookie(request);
+            
+            TeamMemberDto updatedMember = teamService.replaceLeaveDays(id, leaveDays, currentSprintId);
+            return ResponseEntity.ok(
+                    ApiResponse.success("Leave days updated successfully", updatedMember));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body(ApiResponse.failure("Validation failed: " + e.getMessage()));
+        } catch (RuntimeException e) {
+            if (e.getMessage() != null && e.getMessage().contains("not found")) {
+                return ResponseEntity
+                        .status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.failure(e.getMessage()));
+            }
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.failure("Failed to update leave days: " + e.getMessage()));
+        }
+    }
+    
     /**
      * Delete a team member
      * DELETE /api/team-members/{id}
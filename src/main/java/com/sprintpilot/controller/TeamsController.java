@@ -68,15 +68,17 @@ public class TeamsController {
             // Build Teams MessageCard dynamically
             String messageJson = buildSprintSummaryMessageCard(sprint, summaryText);
             
-            // Send to Teams
+            // Queue for Teams
             boolean sent = teamsNotificationService.sendRawMessage(messageJson);
             
             if (sent) {
-                log.info("Sprint summary sent to Teams for sprint: {}", sprintId);
-                return ResponseEntity.ok(ApiResponse.success("Sprint summary sent to Teams successfully", null));
+                // Delivery happens in the background; retries are handled by the outbox
+                log.info("Sprint summary queued for Teams for sprint: {}", sprintId);
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("Sprint summary queued for delivery to Teams", null));
             } else {
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to send sprint summary to Teams", null));
+                    .body(ApiResponse.error("Failed to queue sprint summary for Teams", null));
             }
             
         } catch (Exception e) {
@@ -253,15 +255,17 @@ public class TeamsController {
             // Build Teams MessageCard dynamically for risk summary
             String messageJson = buildRiskSummaryMessageCard(sprint, summaryText);
             
-            // Send to Teams
+            // Queue for Teams
             boolean sent = teamsNotificationService.sendRawMessage(messageJson);
             
             if (sent) {
-                log.info("Risk summary sent to Teams for sprint: {}", sprintId);
-                return ResponseEntity.ok(ApiResponse.success("Risk summary sent to Teams successfully", null));
+                // Delivery happens in the background; retries are handled by the outbox
+                log.info("Risk summary queued for Teams for sprint: {}", sprintId);
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("Risk summary queued for delivery to Teams", null));
             } else {
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to send risk summary to Teams", null));
+                    .body(ApiResponse.error("Failed to queue risk summary for Teams", null));
             }
             
         } catch (Exception e) {
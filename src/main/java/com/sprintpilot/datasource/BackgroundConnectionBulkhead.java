@@ -0,0 +1,65 @@
+package com.sprintpilot.datasource;
+
+import com.sprintpilot.bulkhead.Bulkhead;
+import com.sprintpilot.dto.BulkheadStatisticsDto;
+import com.sprintpilot.dto.ConnectionPoolStatisticsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Caps how many pooled connections background writers (work log sync after a Jira import) hold
+ * at once, so a burst of saves leaves the rest of the primary pool to web requests.
+ *
+ * Background work queues here for a permit instead of queueing inside Hikari, where it would
+ * compete with dashboard requests for every freed connection. A permit not granted within
+ * acquire-timeout-ms fails that unit of work, as a pool timeout would.
+ * max-connections=0 turns the bulkhead off.
+ */
+@Component
+@Slf4j
+public class BackgroundConnectionBulkhead {
+
+    private final Bulkhead bulkhead;
+
+    public BackgroundConnectionBulkhead(
+            @Value("${app.datasource.background.max-connections:4}") int maxConnections,
+            @Value("${app.datasource.background.acquire-timeout-ms:60000}") long acquireTimeoutMs,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.bulkhead = new Bulkhead("background-connections", maxConnections, acquireTimeoutMs);
+        if (maxConnections >= poolSize) {
+            log.warn("Background connection limit {} leaves no connections of the {}-connection pool for web requests",
+                    maxConnections, poolSize);
+        }
+    }
+
+    /**
+     * Runs the work while holding one background permit. The work should take at most one
+     * connection at a time, i.e. run as a single transaction.
+     */
+    public <T> T execute(Supplier<T> work) {
+        return bulkhead.execute(work);
+    }
+
+    public Bulkhead bulkhead() {
+        return bulkhead;
+    }
+
+    public ConnectionPoolStatisticsDto.BulkheadStatistics statistics() {
+        BulkheadStatisticsDto statistics = bulkhead.statistics();
+        return new ConnectionPoolStatisticsDto.BulkheadStatistics(
+                statistics.maxConcurrent(),
+                statistics.inUse(),
+                statistics.waiting(),
+                statistics.acquisitions(),
+                statistics.rejected(),
+                statistics.meanWaitMs(),
+                statistics.maxWaitMs());
+    }
+
+    public void reset() {
+        bulkhead.reset();
+    }
+}
@@ -0,0 +1,191 @@
+package com.sprintpilot.datasource;
+
+import com.sprintpilot.dto.ConnectionPoolStatisticsDto;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.sprintpilot.bulkhead.Bulkhead.nanosToMillis;
+
+/**
+ * Connection pool telemetry for GET /api/datasource/pools.
+ *
+ * Registers itself as the metrics tracker of every Hikari pool in the context (the single
+ * auto-configured pool, or primary and replica when the read replica is enabled) to time
+ * connection acquires and usage, and reads live occupancy from each pool's MXBean.
+ */
+@Component
+public class ConnectionPoolMetrics implements BeanPostProcessor, MetricsTrackerFactory {
+
+    private final List<HikariDataSource> dataSources = new CopyOnWriteArrayList<>();
+    private final Map<String, PoolTimings> timings = new ConcurrentHashMap<>();
+    private final ObjectProvider<BackgroundConnectionBulkhead> backgroundBulkhead;
+    private volatile LocalDateTime since = LocalDateTime.now();
+
+    // Looked up lazily: as a BeanPostProcessor this is created before ordinary beans
+    public ConnectionPoolMetrics(ObjectProvider<BackgroundConnectionBulkhead> backgroundBulkhead) {
+        this.backgroundBulkhead = backgroundBulkhead;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // Pools start on the first getConnection(), after bean initialization, so the tracker is in place in time
+        if (bean instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null) {
+            dataSource.setMetricsTrackerFactory(this);
+            dataSources.add(dataSource);
+        }
+        return bean;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return timings.computeIfAbsent(poolName, name -> new PoolTimings());
+    }
+
+    public ConnectionPoolStatisticsDto snapshot() {
+        List<ConnectionPoolStatisticsDto.PoolStatistics> pools = dataSources.stream()
+                .map(this::poolStatistics)
+                .toList();
+        return new ConnectionPoolStatisticsDto(since, pools, backgroundBulkhead.getObject().statistics());
+    }
+
+    /**
+     * Starts a new timing window; live occupancy is unaffected
+     */
+    public void reset() {
+        timings.values().forEach(PoolTimings::reset);
+        backgroundBulkhead.getObject().reset();
+        since = LocalDateTime.now();
+    }
+
+    private ConnectionPoolStatisticsDto.PoolStatistics poolStatistics(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        PoolTimings poolTimings = timings.get(dataSource.getPoolName());
+        return new ConnectionPoolStatisticsDto.PoolStatistics(
+                dataSource.getPoolName(),
+                pool != null,
+                dataSource.getMaximumPoolSize(),
+                pool != null ? pool.getActiveConnections() : 0,
+                pool != null ? pool.getIdleConnections() : 0,
+                pool != null ? pool.getThreadsAwaitingConnection() : 0,
+                poolTimings != null ? poolTimings.acquireStatistics() : PoolTimings.EMPTY_ACQUIRE,
+                poolTimings != null ? poolTimings.usageStatistics() : PoolTimings.EMPTY_USAGE);
+    }
+
+    /**
+     * Acquire and usage timings of one pool. Acquire waits are counted in power-of-two microsecond
+     * buckets so percentiles come without keeping samples; a percentile is the upper bound of its
+     * bucket, capped at the observed maximum.
+     */
+    static final class PoolTimings implements IMetricsTracker {
+
+        static final ConnectionPoolStatisticsDto.AcquireStatistics EMPTY_ACQUIRE =
+                new ConnectionPoolStatisticsDto.AcquireStatistics(0, 0, null, null, null, null, null);
+        static final ConnectionPoolStatisticsDto.UsageStatistics EMPTY_USAGE =
+                new ConnectionPoolStatisticsDto.UsageStatistics(0, null, null);
+
+        private static final int BUCKETS = 40;
+
+        private final LongAdder[] acquireBuckets = new LongAdder[BUCKETS];
+        private final LongAdder acquireNanos = new LongAdder();
+        private final AtomicLong maxAcquireNanos = new AtomicLong();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder usages = new LongAdder();
+        private final LongAdder usageMillis = new LongAdder();
+        private final AtomicLong maxUsageMillis = new AtomicLong();
+
+        PoolTimings() {
+            for (int i = 0; i < BUCKETS; i++) {
+                acquireBuckets[i] = new LongAdder();
+            }
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(elapsedAcquiredNanos);
+            acquireBuckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros))].increment();
+            acquireNanos.add(elapsedAcquiredNanos);
+            maxAcquireNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usages.increment();
+            usageMillis.add(elapsedBorrowedMillis);
+            maxUsageMillis.accumulateAndGet(elapsedBorrowedMillis, Math::max);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+
+        ConnectionPoolStatisticsDto.AcquireStatistics acquireStatistics() {
+            long[] counts = new long[BUCKETS];
+            long acquisitions = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = acquireBuckets[i].sum();
+                acquisitions += counts[i];
+            }
+            if (acquisitions == 0) {
+                return new ConnectionPoolStatisticsDto.AcquireStatistics(0, timeouts.sum(), null, null, null, null, null);
+            }
+            long max = maxAcquireNanos.get();
+            return new ConnectionPoolStatisticsDto.AcquireStatistics(
+                    acquisitions,
+                    timeouts.sum(),
+                    nanosToMillis(acquireNanos.sum() / acquisitions),
+                    percentileMillis(counts, acquisitions, 0.50, max),
+                    percentileMillis(counts, acquisitions, 0.95, max),
+                    percentileMillis(counts, acquisitions, 0.99, max),
+                    nanosToMillis(max));
+        }
+
+        ConnectionPoolStatisticsDto.UsageStatistics usageStatistics() {
+            long count = usages.sum();
+            return new ConnectionPoolStatisticsDto.UsageStatistics(
+                    count,
+                    count == 0 ? null : Math.round(usageMillis.sum() * 100.0 / count) / 100.0,
+                    count == 0 ? null : maxUsageMillis.get());
+        }
+
+        void reset() {
+            for (LongAdder bucket : acquireBuckets) {
+                bucket.reset();
+            }
+            acquireNanos.reset();
+            maxAcquireNanos.set(0);
+            timeouts.reset();
+            usages.reset();
+            usageMillis.reset();
+            maxUsageMillis.set(0);
+        }
+
+        private static double percentileMillis(long[] counts, long total, double percentile, long maxNanos) {
+            long rank = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    // Bucket i holds waits below 2^i microseconds
+                    return nanosToMillis(Math.min(TimeUnit.MICROSECONDS.toNanos(1L << i), maxNanos));
+                }
+            }
+            return nanosToMillis(maxNanos);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sprintpilot.dto;
+
+/**
+ * Occupancy and wait times of one downstream bulkhead since the last reset
+ *
+ * @param name          Downstream the bulkhead guards, e.g. jira or openai
+ * @param maxConcurrent Permits; 0 when the bulkhead is off
+ * @param inUse         Calls holding a permit right now
+ * @param waiting       Callers queued for a permit right now
+ * @param acquisitions  Permits granted
+ * @param rejected      Calls failed because no permit came within the acquire timeout
+ * @param meanWaitMs    Mean wait for a permit (null before the first call)
+ * @param maxWaitMs     Longest wait for a permit (null before the first call)
+ */
+public record BulkheadStatisticsDto(
+    String name,
+    int maxConcurrent,
+    int inUse,
+    int waiting,
+    long acquisitions,
+    long rejected,
+    Double meanWaitMs,
+    Double maxWaitMs
+) {
+}
@@ -0,0 +1,37 @@
+package com.sprintpilot.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hibernate second-level and query cache counters since startup or the last reset
+ *
+ * @param statisticsEnabled     False when hibernate.generate_statistics is off; all counters are then zero
+ * @param since                 Start of the counting window
+ * @param secondLevel           Entity and collection cache lookups across all regions
+ * @param queryCache            Cached query result lookups
+ * @param prepareStatementCount JDBC statements prepared in the window, to compare against cache hits
+ * @param regions               Counters per cache region (entity class, collection role or query region)
+ */
+public record CacheStatisticsDto(
+    boolean statisticsEnabled,
+    LocalDateTime since,
+    CacheCounts secondLevel,
+    CacheCounts queryCache,
+    long prepareStatementCount,
+    List<RegionStatistics> regions
+) {
+
+    /**
+     * @param hitRatio hits / (hits + misses), or null before the first lookup
+     */
+    public record CacheCounts(long hits, long misses, long puts, Double hitRatio) {
+    }
+
+    /**
+     * @param elementsInMemory Entries currently held, or null when the provider does not report it
+     */
+    public record RegionStatistics(String region, long hits, long misses, long puts, Double hitRatio,
+                                   Long elementsInMemory) {
+    }
+}
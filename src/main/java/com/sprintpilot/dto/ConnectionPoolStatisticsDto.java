@@ -0,0 +1,50 @@
+package com.sprintpilot.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Connection pool occupancy and timings since startup or the last reset
+ *
+ * @param since              Start of the timing window
+ * @param pools              One entry per Hikari pool (primary, and replica when enabled)
+ * @param backgroundBulkhead Permits held and awaited by background writers on the primary pool
+ */
+public record ConnectionPoolStatisticsDto(
+    LocalDateTime since,
+    List<PoolStatistics> pools,
+    BulkheadStatistics backgroundBulkhead
+) {
+
+    /**
+     * @param started                   False until the pool hands out its first connection
+     * @param threadsAwaitingConnection Threads blocked in getConnection() right now; above zero means saturated
+     */
+    public record PoolStatistics(String pool, boolean started, int maximumPoolSize, int activeConnections,
+                                 int idleConnections, int threadsAwaitingConnection,
+                                 AcquireStatistics acquire, UsageStatistics usage) {
+    }
+
+    /**
+     * Time spent in getConnection(). Percentiles are bucket upper bounds; all times are null before the first acquire
+     *
+     * @param timeouts Acquires that gave up after spring.datasource.hikari.connection-timeout
+     */
+    public record AcquireStatistics(long acquisitions, long timeouts, Double meanMs, Double p50Ms, Double p95Ms,
+                                    Double p99Ms, Double maxMs) {
+    }
+
+    /**
+     * How long connections were held between borrow and return
+     */
+    public record UsageStatistics(long borrows, Double meanMs, Long maxMs) {
+    }
+
+    /**
+     * @param maxConnections Permits, i.e. connections background work may hold at once; 0 when the bulkhead is off
+     * @param rejected       Work that gave up after app.datasource.background.acquire-timeout-ms
+     */
+    public record BulkheadStatistics(int maxConnections, int inUse, int waiting, long acquisitions, long rejected,
+                                     Double meanWaitMs, Double maxWaitMs) {
+    }
+}
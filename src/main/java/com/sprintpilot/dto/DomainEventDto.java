@@ -0,0 +1,27 @@
+package com.sprintpilot.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the domain event change feed
+ *
+ * @param id            Feed position; pass the last one seen as "after" to continue
+ * @param eventType     Event class, e.g. TaskChangedEvent
+ * @param aggregateType Kind of entity that changed
+ * @param aggregateId   ID of the entity that changed
+ * @param sprintId      Sprint the change belongs to (may be null)
+ * @param payload       Event fields, as a tree so JSON and CBOR clients both get an embedded object
+ * @param occurredAt    When the change was committed
+ */
+public record DomainEventDto(
+    Long id,
+    String eventType,
+    String aggregateType,
+    String aggregateId,
+    String sprintId,
+    JsonNode payload,
+    LocalDateTime occurredAt
+) {
+}
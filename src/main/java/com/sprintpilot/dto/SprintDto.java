@@ -2,7 +2,9 @@ package com.sprintpilot.dto;
 
 import com.sprintpilot.entity.Sprint;
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 public record SprintDto(
         String id,
@@ -47,4 +49,54 @@ public record SprintDto(
             tasks = List.of();
         }
     }
+    
+    /**
+     * Nested lists a caller can ask for with the fields request parameter
+     */
+    public enum Include {
+        EVENTS("events"),
+        TEAM_MEMBERS("teamMembers"),
+        TASKS("tasks");
+        
+        private static final Set<String> SCALAR_FIELDS = Set.of(
+                "id", "sprintName", "startDate", "endDate", "duration", "freezeDate", "status");
+        
+        private final String fieldName;
+        
+        Include(String fieldName) {
+            this.fieldName = fieldName;
+        }
+        
+        public String getFieldName() {
+            return fieldName;
+        }
+        
+        /**
+         * Parse a comma-separated field list. Null means every list; scalar fields are always
+         * returned, so "id" alone yields a sprint without any nested lists.
+         */
+        public static Set<Include> parse(String fields) {
+            if (fields == null) {
+                return EnumSet.allOf(Include.class);
+            }
+            Set<Include> includes = EnumSet.noneOf(Include.class);
+            for (String field : fields.split(",")) {
+                String name = field.trim();
+                if (name.isEmpty() || SCALAR_FIELDS.contains(name)) {
+                    continue;
+                }
+                Include include = null;
+                for (Include candidate : values()) {
+                    if (candidate.fieldName.equals(name)) {
+                        include = candidate;
+                    }
+                }
+                if (include == null) {
+                    throw new IllegalArgumentException("Unknown sprint field: " + name);
+                }
+                includes.add(include);
+            }
+            return includes;
+        }
+    }
 }
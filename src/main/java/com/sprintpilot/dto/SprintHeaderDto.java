@@ -0,0 +1,29 @@
+package com.sprintpilot.dto;
+
+import com.sprintpilot.entity.Sprint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Sprint fields and counts without the nested task, event and team lists
+ */
+public record SprintHeaderDto(
+        String id,
+        String sprintName,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer duration,
+        LocalDate freezeDate,
+        Sprint.SprintStatus status,
+        long taskCount,
+        long completedTaskCount,
+        BigDecimal totalStoryPoints,
+        long teamMemberCount,
+        long eventCount
+) {
+    public SprintHeaderDto {
+        if (totalStoryPoints == null) {
+            totalStoryPoints = BigDecimal.ZERO;
+        }
+    }
+}
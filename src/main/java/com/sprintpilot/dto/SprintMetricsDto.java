@@ -31,6 +31,7 @@ public class SprintMetricsDto {
         private BigDecimal completedStoryPoints;
         private String startDate;
         private String endDate;
+        private List<MemberBurndown> memberBurndown;
     }
     
     @Data
@@ -44,6 +45,29 @@ public class SprintMetricsDto {
         private BigDecimal completedPoints;
     }
     
+    /**
+     * Hours burned by one work log author, day by day across the sprint
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MemberBurndown {
+        private String author;
+        private BigDecimal totalHours;
+        private List<MemberBurnPoint> points;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MemberBurnPoint {
+        private String date;
+        private BigDecimal loggedHours;
+        private BigDecimal cumulativeHours;
+    }
+    
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
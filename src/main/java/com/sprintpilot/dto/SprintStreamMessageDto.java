@@ -0,0 +1,23 @@
+package com.sprintpilot.dto;
+
+import com.sprintpilot.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * One message on a sprint's live update stream (GET /api/sprints/{id}/stream)
+ *
+ * @param sprintId    Sprint the stream belongs to
+ * @param type        SSE event name, e.g. tasks-changed or metrics-changed
+ * @param change      Domain event that caused the message (null for connected and metrics-changed)
+ * @param dataVersion Current version of the sprint's data; metrics fetched before it changed are stale
+ * @param sentAt      When the message was sent
+ */
+public record SprintStreamMessageDto(
+    String sprintId,
+    String type,
+    DomainEvent change,
+    String dataVersion,
+    LocalDateTime sentAt
+) {
+}
@@ -12,7 +12,8 @@ public record TaskPageResponse(
         long totalElements,
         int pageSize,
         boolean hasNext,
-        boolean hasPrevious
+        boolean hasPrevious,
+        String nextCursor  // Pass back as cursor to fetch the following page; null on the last page
 ) {
 }
 
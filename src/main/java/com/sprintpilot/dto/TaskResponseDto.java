@@ -23,6 +23,7 @@ public record TaskResponseDto(
         LocalDate dueDate,
         BigDecimal timeSpent,
         Task.RiskFactor riskFactor,  // Risk factor calculated by backend
+        String riskRule,  // Risk rule that set riskFactor
         List<AssigneeDto> assignees,
         String assigneeName  // Primary assignee name for display
 ) {
@@ -0,0 +1,22 @@
+package com.sprintpilot.dto;
+
+import com.sprintpilot.entity.Task;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Columns needed to score a task's risk factor, loaded without the entity graph
+ */
+public record TaskRiskInput(
+        String id,
+        Task.TaskStatus status,
+        Task.TaskPriority priority,
+        LocalDate startDate,
+        LocalDate dueDate,
+        BigDecimal storyPoints,
+        BigDecimal originalEstimate,
+        BigDecimal timeSpent,
+        Task.RiskFactor riskFactor,
+        String riskRule
+) {
+}
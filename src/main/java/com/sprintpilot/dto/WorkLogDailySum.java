@@ -0,0 +1,13 @@
+package com.sprintpilot.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Seconds logged by one author on one day of a sprint, aggregated in the database
+ */
+public record WorkLogDailySum(
+        LocalDate loggedDate,
+        String author,
+        Long timeSpentSeconds
+) {
+}
@@ -0,0 +1,57 @@
+package com.sprintpilot.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Stored AI-generated content (sprint summary, risk summary, performance insights)
+ * so the AI endpoints can answer without waiting on the model.
+ */
+@Entity
+@Table(name = "ai_artefact",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"scope_key", "artefact_type"}))
+@Data
+public class AIArtefact {
+
+    /**
+     * Scope key used for artefacts that are not tied to a single sprint
+     */
+    public static final String HISTORY_SCOPE = "history";
+
+    @Id
+    @Column(name = "id")
+    private String id;
+
+    @Column(name = "scope_key", nullable = false, length = 100)
+    private String scopeKey; // Sprint ID, or HISTORY_SCOPE
+
+    @Column(name = "artefact_type", nullable = false, length = 30)
+    @Enumerated(EnumType.STRING)
+    private ArtefactType artefactType;
+
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "input_fingerprint", length = 64)
+    private String inputFingerprint; // SHA-256 of the prompt input, null for on-demand results
+
+    @Column(name = "generated_by", length = 30)
+    private String generatedBy; // Trigger name or ON_DEMAND
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (generatedAt == null) generatedAt = LocalDateTime.now();
+        if (id == null) id = "ai-" + UUID.randomUUID().toString();
+    }
+
+    public enum ArtefactType {
+        SPRINT_SUMMARY,
+        RISK_SUMMARY,
+        PERFORMANCE_INSIGHTS
+    }
+}
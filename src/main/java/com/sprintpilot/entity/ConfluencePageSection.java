@@ -0,0 +1,47 @@
+package com.sprintpilot.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One section of a sprint's Confluence page: a hash of the data it was rendered from.
+ * Rendered HTML is not stored; a changed page is rendered again from current data.
+ */
+@Entity
+@Table(name = "confluence_page_section",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"sprint_id", "section_key"}))
+@Data
+public class ConfluencePageSection {
+
+    @Id
+    @Column(name = "id")
+    private String id;
+
+    @Column(name = "sprint_id", nullable = false, length = 100)
+    private String sprintId;
+
+    @Column(name = "section_key", nullable = false, length = 30)
+    private String sectionKey;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // SHA-256 of the section's source data
+
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String content; // Summary section only: the completion summary data, as JSON
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (updatedAt == null) updatedAt = LocalDateTime.now();
+        if (id == null) id = "cpsec-" + UUID.randomUUID().toString();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
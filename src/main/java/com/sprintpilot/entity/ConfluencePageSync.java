@@ -0,0 +1,50 @@
+package com.sprintpilot.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Last known state of a sprint's Confluence page, so exports can skip
+ * the Atlassian search/GET calls and unchanged pages are not rewritten.
+ */
+@Entity
+@Table(name = "confluence_page_sync")
+@Data
+public class ConfluencePageSync {
+
+    @Id
+    @Column(name = "id")
+    private String id;
+
+    @Column(name = "sprint_id", nullable = false, unique = true, length = 100)
+    private String sprintId;
+
+    @Column(name = "space_key", nullable = false, length = 50)
+    private String spaceKey;
+
+    @Column(name = "page_id", nullable = false, length = 50)
+    private String pageId;
+
+    @Column(name = "page_title")
+    private String pageTitle;
+
+    @Column(name = "page_version", nullable = false)
+    private Integer pageVersion; // Version we last wrote (or read) on Confluence
+
+    @Column(name = "page_url", length = 500)
+    private String pageUrl;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "synced_at")
+    private LocalDateTime syncedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+        if (id == null) id = "cps-" + UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.sprintpilot.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * A domain event written in the same transaction as the change it describes.
+ * The ID grows with every event, so it doubles as the position in the change feed.
+ */
+@Entity
+@Table(name = "domain_event_outbox",
+       indexes = {
+           @Index(name = "idx_domain_event_unpublished", columnList = "published_at, occurred_at"),
+           @Index(name = "idx_domain_event_sprint", columnList = "sprint_id, id")
+       })
+@Data
+public class DomainEventRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", length = 100)
+    private String aggregateId;
+
+    @Column(name = "sprint_id", length = 100)
+    private String sprintId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload; // Event as JSON
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt; // Null until delivered to in-process listeners
+
+    @PrePersist
+    protected void onCreate() {
+        if (occurredAt == null) occurredAt = LocalDateTime.now();
+    }
+}
@@ -7,7 +7,11 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "leave_day")
+@Table(name = "leave_day",
+       indexes = {
+           @Index(name = "idx_leave_day_member_sprint", columnList = "member_id, sprint_id"),
+           @Index(name = "idx_leave_day_sprint", columnList = "sprint_id")
+       })
 @Data
 public class LeaveDay {
     
@@ -1,6 +1,8 @@
 package com.sprintpilot.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -16,7 +18,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "sprint")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "sprint",
+       indexes = @Index(name = "idx_sprint_status_end_date", columnList = "status, end_date"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -58,7 +63,9 @@ public class Sprint {
     @ToString.Exclude
     private List<SprintEvent> events = new ArrayList<>();
     
+    // Cached as member ids; rows written through SprintTeam are evicted by EntityCacheEvictor
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
         name = "sprint_team",
         joinColumns = @JoinColumn(name = "sprint_id"),
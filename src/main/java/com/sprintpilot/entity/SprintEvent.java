@@ -1,6 +1,8 @@
 package com.sprintpilot.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.ToString;
 import java.time.LocalDate;
@@ -8,7 +10,10 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "sprint_event")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "sprint_event",
+       indexes = @Index(name = "idx_sprint_event_sprint_type", columnList = "sprint_id, event_type"))
 @Data
 public class SprintEvent {
     
@@ -47,12 +52,21 @@ public class SprintEvent {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) createdAt = LocalDateTime.now();
+        if (updatedAt == null) updatedAt = LocalDateTime.now();
         if (id == null) id = "event-" + System.currentTimeMillis();
     }
     
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
     public enum EventType {
         DEPLOYMENT,
         MEETING,
@@ -11,7 +11,11 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "task")
+@Table(name = "task",
+       indexes = {
+           @Index(name = "idx_task_sprint_status", columnList = "sprint_id, status"),
+           @Index(name = "idx_task_sprint_key", columnList = "sprint_id, task_key")
+       })
 @Data
 public class Task {
     
@@ -64,6 +68,10 @@ public class Task {
     @Enumerated(EnumType.STRING)
     private RiskFactor riskFactor;
     
+    // Name of the risk rule that produced riskFactor
+    @Column(name = "risk_rule", length = 64)
+    private String riskRule;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
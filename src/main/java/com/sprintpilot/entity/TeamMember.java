@@ -1,6 +1,8 @@
 package com.sprintpilot.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.ToString;
 import java.math.BigDecimal;
@@ -10,6 +12,8 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "team_member")
 @Data
 public class TeamMember {
@@ -0,0 +1,68 @@
+package com.sprintpilot.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A Teams notification waiting to be delivered (or already delivered).
+ * Rows stay in the table until retention clean-up, so a failed webhook call never loses a message.
+ */
+@Entity
+@Table(name = "teams_outbox",
+       indexes = @Index(name = "idx_teams_outbox_due", columnList = "status, next_attempt_at"))
+@Data
+public class TeamsOutboxMessage {
+
+    @Id
+    @Column(name = "id")
+    private String id;
+
+    @Column(name = "template_name", length = 100)
+    private String templateName; // Null for raw message cards
+
+    @Column(name = "coalesce_key", length = 150)
+    private String coalesceKey; // Messages with the same key are sent as one digest card
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload; // Card JSON, or template variables as JSON for digest messages
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) nextAttemptAt = createdAt;
+        if (status == null) status = OutboxStatus.PENDING;
+        if (attempts == null) attempts = 0;
+        if (id == null) id = "teams-" + UUID.randomUUID().toString();
+    }
+
+    public enum OutboxStatus {
+        PENDING,
+        SENDING,
+        SENT,
+        FAILED // Gave up after max attempts or a non-retryable response
+    }
+}
@@ -2,6 +2,7 @@ package com.sprintpilot.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -12,26 +13,35 @@ import java.time.LocalDateTime;
  * Used specifically for burndown chart calculations
  */
 @Entity
-@Table(name = "work_logs")
+@Table(name = "work_logs",
+       indexes = @Index(name = "idx_work_logs_sprint_date", columnList = "sprint_id, logged_date"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class WorkLog {
+public class WorkLog implements Persistable<String> {
     
+    // Jira worklog ID. The partitioned table's key is (id, logged_date), so the database does not
+    // stop one id from appearing on two dates; WorkLogSyncServiceImpl keeps one row per id on import.
     @Id
     @Column(name = "id", length = 100)
-    private String id; // Jira worklog ID
+    private String id;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
     
+    @Column(name = "sprint_id")
+    private String sprintId; // Copied from the task so burndown queries can skip the task join
+    
     @Column(name = "time_spent_hours", precision = 10, scale = 2)
     private BigDecimal timeSpentHours;
     
-    @Column(name = "logged_date")
+    @Column(name = "time_spent_seconds")
+    private Integer timeSpentSeconds; // As reported by Jira; burndown sums use this
+    
+    @Column(name = "logged_date", nullable = false)
     private LocalDate loggedDate; // The date when work was logged
     
     @Column(name = "author", length = 255)
@@ -40,10 +50,28 @@ public class WorkLog {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
+    // Ids come from Jira, so Spring Data cannot tell a new row by a null id and would merge, which
+    // selects by id first; with no logged_date in that lookup it scans every partition
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+    
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
         }
     }
+    
+    @PostPersist
+    @PostLoad
+    protected void markPersisted() {
+        persisted = true;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
 }
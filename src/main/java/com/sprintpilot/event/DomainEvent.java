@@ -0,0 +1,27 @@
+package com.sprintpilot.event;
+
+/**
+ * A change to domain data, recorded in the domain_event_outbox table and delivered to
+ * in-process listeners after the writing transaction commits (see {@link DomainEventPublisher}).
+ *
+ * Events describe what changed, so listeners can update caches and aggregates for the
+ * affected rows instead of recomputing everything.
+ */
+public sealed interface DomainEvent
+        permits TaskChangedEvent, WorkLogChangedEvent, LeaveChangedEvent, HolidayChangedEvent, SprintArchivedEvent {
+
+    /**
+     * Kind of entity the event is about (task, member, holiday, sprint)
+     */
+    String aggregateType();
+
+    /**
+     * ID of the entity the event is about
+     */
+    String aggregateId();
+
+    /**
+     * Sprint the change belongs to, or null when it is not tied to one sprint
+     */
+    String sprintId();
+}
@@ -0,0 +1,193 @@
+package com.sprintpilot.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintpilot.dto.DomainEventDto;
+import com.sprintpilot.entity.DomainEventRecord;
+import com.sprintpilot.repository.DomainEventOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Domain event bus backed by the domain_event_outbox table.
+ *
+ * {@link #publish} stores the event in the caller's transaction, so an event exists exactly
+ * when its change was committed. Once the transaction commits the event is handed to
+ * in-process listeners (plain {@code @EventListener} methods; the data is already committed)
+ * and the row is marked published. A scheduled relay re-delivers rows that were committed
+ * but never delivered, so listeners must tolerate seeing an event twice.
+ *
+ * Listeners run on the committing thread; anything slow or writing to the database should
+ * be {@code @Async}, as in AIArtefactRefreshListener.
+ *
+ * IDs are allocated at insert, not at commit, so a row can become visible after rows with
+ * higher IDs. The feed therefore stops below the lowest ID whose transaction is still open in
+ * this instance, and only returns rows older than feed-visibility-seconds, which covers
+ * transactions in other instances. A consumer that has read up to a position never misses
+ * a lower ID that commits later, as long as no publishing transaction stays open longer than that.
+ */
+@Component
+@Slf4j
+public class DomainEventPublisher {
+
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES =
+            Arrays.stream(DomainEvent.class.getPermittedSubclasses())
+                    .map(type -> type.asSubclass(DomainEvent.class))
+                    .collect(Collectors.toMap(Class::getSimpleName, Function.identity()));
+
+    private static final int MAX_FEED_PAGE = 500;
+
+    private final DomainEventOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentSkipListSet<Long> uncommittedIds = new ConcurrentSkipListSet<>();
+
+    @Value("${app.events.feed-visibility-seconds:5}")
+    private long feedVisibilitySeconds;
+
+    @Value("${app.events.relay-grace-seconds:30}")
+    private long relayGraceSeconds;
+
+    @Value("${app.events.retention-hours:168}")
+    private long retentionHours;
+
+    public DomainEventPublisher(DomainEventOutboxRepository outboxRepository,
+                                ApplicationEventPublisher applicationEventPublisher,
+                                ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Records the event and delivers it after the current transaction commits
+     * (right away when there is no transaction)
+     */
+    public void publish(DomainEvent event) {
+        DomainEventRecord record = new DomainEventRecord();
+        record.setEventType(event.getClass().getSimpleName());
+        record.setAggregateType(event.aggregateType());
+        record.setAggregateId(event.aggregateId());
+        record.setSprintId(event.sprintId());
+        try {
+            record.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize domain event " + event, e);
+        }
+        Long id = outboxRepository.save(record).getId();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Holds the feed below this ID until the transaction commits or rolls back
+            uncommittedIds.add(id);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(id, event);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    uncommittedIds.remove(id);
+                }
+            });
+        } else {
+            deliver(id, event);
+        }
+    }
+
+    /**
+     * Change feed: events after the given position, oldest first, optionally for one sprint.
+     * Only events past the visibility horizon are returned (see class comment).
+     */
+    public List<DomainEventDto> feed(long afterId, String sprintId, int limit) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_FEED_PAGE)));
+        Long lowestUncommitted = uncommittedIds.ceiling(Long.MIN_VALUE); // first() throws when emptied concurrently
+        long beforeId = lowestUncommitted != null ? lowestUncommitted : Long.MAX_VALUE;
+        LocalDateTime visibleBefore = LocalDateTime.now().minusSeconds(feedVisibilitySeconds);
+        List<DomainEventRecord> records = sprintId != null && !sprintId.isBlank()
+                ? outboxRepository.findSprintFeed(sprintId, afterId, beforeId, visibleBefore, page)
+                : outboxRepository.findFeed(afterId, beforeId, visibleBefore, page);
+        return records.stream()
+                .map(record -> new DomainEventDto(
+                        record.getId(),
+                        record.getEventType(),
+                        record.getAggregateType(),
+                        record.getAggregateId(),
+                        record.getSprintId(),
+                        readPayload(record),
+                        record.getOccurredAt()))
+                .toList();
+    }
+
+    /**
+     * Re-delivers events whose in-process delivery never happened
+     */
+    @Scheduled(fixedDelayString = "${app.events.relay-interval-ms:5000}")
+    public void relayUndelivered() {
+        List<DomainEventRecord> undelivered = outboxRepository
+                .findTop100ByPublishedAtIsNullAndOccurredAtLessThanEqualOrderByIdAsc(
+                        LocalDateTime.now().minusSeconds(relayGraceSeconds));
+        for (DomainEventRecord record : undelivered) {
+            Class<? extends DomainEvent> type = EVENT_TYPES.get(record.getEventType());
+            if (type == null) {
+                log.warn("Skipping domain event {} of unknown type {}", record.getId(), record.getEventType());
+                outboxRepository.markPublished(List.of(record.getId()), LocalDateTime.now());
+                continue;
+            }
+            try {
+                deliver(record.getId(), objectMapper.readValue(record.getPayload(), type));
+            } catch (JsonProcessingException e) {
+                log.error("Cannot read domain event {}: {}", record.getId(), e.getMessage());
+                outboxRepository.markPublished(List.of(record.getId()), LocalDateTime.now());
+            }
+        }
+        if (!undelivered.isEmpty()) {
+            log.info("Relayed {} undelivered domain events", undelivered.size());
+        }
+    }
+
+    /**
+     * Removes delivered events past the retention period
+     */
+    @Scheduled(fixedDelayString = "${app.events.cleanup-interval-ms:3600000}")
+    public void purgeDelivered() {
+        int deleted = outboxRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("Purged {} delivered domain events", deleted);
+        }
+    }
+
+    private JsonNode readPayload(DomainEventRecord record) {
+        try {
+            return objectMapper.readTree(record.getPayload());
+        } catch (JsonProcessingException e) {
+            log.error("Cannot read domain event {}: {}", record.getId(), e.getMessage());
+            return objectMapper.nullNode();
+        }
+    }
+
+    private void deliver(Long id, DomainEvent event) {
+        try {
+            applicationEventPublisher.publishEvent(event);
+            outboxRepository.markPublished(List.of(id), LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // Left unpublished; the relay tries again
+            log.error("Delivering domain event {} ({}) failed: {}", id, event.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+}
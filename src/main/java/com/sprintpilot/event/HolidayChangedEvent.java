@@ -0,0 +1,41 @@
+package com.sprintpilot.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Published when a holiday was created, updated or deleted.
+ *
+ * @param holidayId Holiday that changed
+ * @param change    Kind of change
+ * @param dates     Holiday dates before and after the change (one date unless the date moved)
+ * @param recurring Whether the holiday recurs (before or after the change), so every year is affected
+ */
+public record HolidayChangedEvent(
+        String holidayId,
+        Change change,
+        List<LocalDate> dates,
+        boolean recurring
+) implements DomainEvent {
+
+    public enum Change {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    @Override
+    public String aggregateType() {
+        return "holiday";
+    }
+
+    @Override
+    public String aggregateId() {
+        return holidayId;
+    }
+
+    @Override
+    public String sprintId() {
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sprintpilot.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Published when a team member's leave days were added or removed.
+ *
+ * @param memberId     Member whose leave changed
+ * @param sprintId     Sprint recorded on the added leave days (may be null)
+ * @param addedDates   Leave dates that were added
+ * @param removedDates Leave dates that were removed
+ */
+public record LeaveChangedEvent(
+        String memberId,
+        String sprintId,
+        List<LocalDate> addedDates,
+        List<LocalDate> removedDates
+) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "member";
+    }
+
+    @Override
+    public String aggregateId() {
+        return memberId;
+    }
+}
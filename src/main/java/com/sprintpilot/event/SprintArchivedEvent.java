@@ -0,0 +1,21 @@
+package com.sprintpilot.event;
+
+/**
+ * Published when a sprint was archived (completed).
+ *
+ * @param sprintId Sprint that was archived
+ */
+public record SprintArchivedEvent(
+        String sprintId
+) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "sprint";
+    }
+
+    @Override
+    public String aggregateId() {
+        return sprintId;
+    }
+}
@@ -0,0 +1,32 @@
+package com.sprintpilot.event;
+
+import java.util.List;
+
+/**
+ * Published when tasks of a sprint were created or updated.
+ *
+ * @param sprintId Sprint the tasks belong to
+ * @param taskIds  Tasks that changed
+ * @param change   What changed them
+ */
+public record TaskChangedEvent(
+        String sprintId,
+        List<String> taskIds,
+        Change change
+) implements DomainEvent {
+
+    public enum Change {
+        JIRA_SYNC,
+        RISK_ASSESSED
+    }
+
+    @Override
+    public String aggregateType() {
+        return "sprint";
+    }
+
+    @Override
+    public String aggregateId() {
+        return sprintId;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sprintpilot.event;
+
+import java.util.List;
+
+/**
+ * Published when the work logs of tasks in a sprint were replaced by a Jira sync.
+ *
+ * @param sprintId Sprint the tasks belong to
+ * @param taskIds  Tasks whose work logs changed
+ * @param workLogs Number of work logs stored for those tasks
+ */
+public record WorkLogChangedEvent(
+        String sprintId,
+        List<String> taskIds,
+        int workLogs
+) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "sprint";
+    }
+
+    @Override
+    public String aggregateId() {
+        return sprintId;
+    }
+}
@@ -0,0 +1,271 @@
+package com.sprintpilot.holiday;
+
+import com.sprintpilot.dto.HolidayDto;
+import com.sprintpilot.entity.Holiday;
+import com.sprintpilot.event.HolidayChangedEvent;
+import com.sprintpilot.repository.HolidayRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory view of the holiday table.
+ *
+ * The table is read once into a snapshot; recurring holidays are expanded into a
+ * per-year calendar the first time a year is asked for, so date and location lookups
+ * need no database round-trip. A {@link HolidayChangedEvent} drops the snapshot and the
+ * next lookup reloads the table. Each invalidation replaces the published state, and a load
+ * publishes its snapshot with a compare-and-set against the state it started from, so a load
+ * that read the table before a commit cannot put pre-commit data back after the invalidation,
+ * however the two interleave.
+ *
+ * Location rules match the holiday API: a holiday without locations applies everywhere,
+ * and a null or empty location argument means "any location".
+ */
+@Component
+@Slf4j
+public class HolidayCalendarIndex {
+    
+    private final HolidayRepository holidayRepository;
+    private final AtomicReference<Published> published = new AtomicReference<>(new Published(0, null));
+    private final ReentrantLock loadLock = new ReentrantLock();
+    
+    public HolidayCalendarIndex(HolidayRepository holidayRepository) {
+        this.holidayRepository = holidayRepository;
+    }
+    
+    public boolean isHoliday(LocalDate date, String location) {
+        return snapshot().year(date.getYear()).isHoliday(date, location);
+    }
+    
+    /**
+     * Distinct holiday dates between start and end (inclusive), recurring holidays included, sorted
+     */
+    public List<LocalDate> holidayDates(LocalDate startDate, LocalDate endDate, String location) {
+        return collectDates(startDate, endDate, calendar -> calendar.dates(location));
+    }
+    
+    /**
+     * Distinct dates of holidays without locations between start and end (inclusive), sorted
+     */
+    public List<LocalDate> globalHolidayDates(LocalDate startDate, LocalDate endDate) {
+        return collectDates(startDate, endDate, calendar -> calendar.globalDates);
+    }
+    
+    private List<LocalDate> collectDates(LocalDate startDate, LocalDate endDate,
+                                         Function<YearCalendar, Set<LocalDate>> datesOfYear) {
+        Snapshot current = snapshot();
+        List<LocalDate> dates = new ArrayList<>();
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            for (LocalDate date : datesOfYear.apply(current.year(year))) {
+                if (!date.isBefore(startDate) && !date.isAfter(endDate)) {
+                    dates.add(date);
+                }
+            }
+        }
+        Collections.sort(dates);
+        return dates;
+    }
+    
+    /**
+     * Holidays stored with a date between start and end (inclusive); recurring holidays
+     * are returned only in the year they were stored for
+     */
+    public List<HolidayDto> storedHolidays(LocalDate startDate, LocalDate endDate, String location) {
+        return snapshot().byDate.subMap(startDate, true, endDate, true).values().stream()
+            .flatMap(List::stream)
+            .filter(holiday -> appliesTo(holiday, location))
+            .collect(Collectors.toList());
+    }
+    
+    public List<HolidayDto> storedHolidays(int year, String location) {
+        return storedHolidays(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31), location);
+    }
+    
+    public List<HolidayDto> allHolidays() {
+        return snapshot().byDate.values().stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+    }
+    
+    public List<HolidayDto> recurringHolidays(String location) {
+        return snapshot().recurring.stream()
+            .filter(holiday -> appliesTo(holiday, location))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Holidays that name the location explicitly (global holidays are not included)
+     */
+    public List<HolidayDto> holidaysForLocation(String location) {
+        return allHolidays().stream()
+            .filter(holiday -> holiday.location() != null && holiday.location().contains(location))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Holiday events are delivered after commit, so the next lookup reloads committed data
+     */
+    @EventListener
+    public void onHolidayChanged(HolidayChangedEvent event) {
+        invalidate();
+    }
+    
+    public void invalidate() {
+        // Always a new holder, so a load that started before this cannot publish over it
+        published.updateAndGet(current -> new Published(current.generation() + 1, null));
+    }
+    
+    private Snapshot snapshot() {
+        Snapshot current = published.get().snapshot();
+        if (current == null) {
+            // A lock rather than synchronized: load() runs a query, and a virtual thread blocking
+            // inside synchronized would pin its carrier thread for the whole round trip
+            loadLock.lock();
+            try {
+                Published before = published.get();
+                current = before.snapshot();
+                if (current == null) {
+                    current = load();
+                    if (!published.compareAndSet(before, new Published(before.generation(), current))) {
+                        // Invalidated mid-load: serve this lookup, but let the next one reload
+                        log.debug("Holiday index invalidated during load, not keeping the loaded snapshot");
+                    }
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current;
+    }
+    
+    private Snapshot load() {
+        List<Holiday> holidays = holidayRepository.findAll();
+        NavigableMap<LocalDate, List<HolidayDto>> byDate = new TreeMap<>();
+        List<HolidayDto> recurring = new ArrayList<>();
+        for (Holiday holiday : holidays) {
+            HolidayDto dto = new HolidayDto(
+                holiday.getId(),
+                holiday.getName(),
+                holiday.getHolidayDate(),
+                holiday.getHolidayType(),
+                holiday.getRecurring(),
+                holiday.getLocation() != null ? List.copyOf(holiday.getLocation()) : null
+            );
+            byDate.computeIfAbsent(dto.holidayDate(), date -> new ArrayList<>()).add(dto);
+            if (Boolean.TRUE.equals(dto.recurring())) {
+                recurring.add(dto);
+            }
+        }
+        log.debug("Loaded holiday index: {} holidays, {} recurring", holidays.size(), recurring.size());
+        return new Snapshot(byDate, recurring);
+    }
+    
+    private static boolean appliesTo(HolidayDto holiday, String location) {
+        return location == null || location.isEmpty()
+            || holiday.location() == null || holiday.location().contains(location);
+    }
+    
+    /**
+     * The snapshot in use (null until the next load) and the invalidation count it belongs to
+     */
+    private record Published(long generation, Snapshot snapshot) {}
+    
+    /**
+     * Immutable table contents plus lazily built per-year calendars
+     */
+    private static final class Snapshot {
+        
+        final NavigableMap<LocalDate, List<HolidayDto>> byDate;
+        final List<HolidayDto> recurring;
+        private final ConcurrentMap<Integer, YearCalendar> years = new ConcurrentHashMap<>();
+        
+        Snapshot(NavigableMap<LocalDate, List<HolidayDto>> byDate, List<HolidayDto> recurring) {
+            this.byDate = byDate;
+            this.recurring = recurring;
+        }
+        
+        YearCalendar year(int year) {
+            return years.computeIfAbsent(year, this::buildYear);
+        }
+        
+        private YearCalendar buildYear(int year) {
+            // Holidays per date, keyed by id so a recurring holiday stored in this year is not counted twice
+            Map<LocalDate, Map<String, HolidayDto>> days = new HashMap<>();
+            byDate.subMap(LocalDate.of(year, 1, 1), true, LocalDate.of(year, 12, 31), true)
+                .forEach((date, holidays) -> holidays.forEach(holiday ->
+                    days.computeIfAbsent(date, d -> new LinkedHashMap<>()).put(holiday.id(), holiday)));
+            for (HolidayDto holiday : recurring) {
+                MonthDay monthDay = MonthDay.from(holiday.holidayDate());
+                // A recurring 29 February only falls in leap years
+                if (monthDay.isValidYear(year)) {
+                    days.computeIfAbsent(Year.of(year).atMonthDay(monthDay), d -> new LinkedHashMap<>())
+                        .putIfAbsent(holiday.id(), holiday);
+                }
+            }
+            return new YearCalendar(days);
+        }
+    }
+    
+    /**
+     * Holiday dates of one year, split into global dates and dates per location
+     */
+    private static final class YearCalendar {
+        
+        private final Set<LocalDate> allDates = new HashSet<>();
+        private final Set<LocalDate> globalDates = new HashSet<>();
+        private final Map<String, Set<LocalDate>> datesByLocation = new HashMap<>();
+        
+        YearCalendar(Map<LocalDate, Map<String, HolidayDto>> days) {
+            days.forEach((date, holidays) -> {
+                allDates.add(date);
+                for (HolidayDto holiday : holidays.values()) {
+                    if (holiday.location() == null) {
+                        globalDates.add(date);
+                    } else {
+                        for (String location : holiday.location()) {
+                            datesByLocation.computeIfAbsent(location, l -> new HashSet<>()).add(date);
+                        }
+                    }
+                }
+            });
+        }
+        
+        boolean isHoliday(LocalDate date, String location) {
+            if (location == null || location.isEmpty()) {
+                return allDates.contains(date);
+            }
+            return globalDates.contains(date)
+                || datesByLocation.getOrDefault(location, Set.of()).contains(date);
+        }
+        
+        Set<LocalDate> dates(String location) {
+            if (location == null || location.isEmpty()) {
+                return allDates;
+            }
+            Set<LocalDate> dates = new HashSet<>(globalDates);
+            dates.addAll(datesByLocation.getOrDefault(location, Set.of()));
+            return dates;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.sprintpilot.holiday;
+
+import com.sprintpilot.entity.Sprint;
+import com.sprintpilot.entity.SprintEvent;
+import com.sprintpilot.repository.SprintEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Builds working-day calendars for a sprint.
+ *
+ * Sprint holiday events are read once per sprint and the holiday table comes from
+ * {@link HolidayCalendarIndex}, so a capacity calculation costs one query no matter how
+ * many members or locations it covers. Calendars are built on first use and shared by
+ * every member of the same location.
+ */
+@Component
+@Slf4j
+public class SprintCalendarFactory {
+    
+    private final HolidayCalendarIndex holidayCalendarIndex;
+    private final SprintEventRepository sprintEventRepository;
+    
+    public SprintCalendarFactory(HolidayCalendarIndex holidayCalendarIndex,
+                                 SprintEventRepository sprintEventRepository) {
+        this.holidayCalendarIndex = holidayCalendarIndex;
+        this.sprintEventRepository = sprintEventRepository;
+    }
+    
+    public SprintCalendars forSprint(Sprint sprint) {
+        Set<LocalDate> sprintHolidays = sprintEventRepository
+            .findBySprintIdAndEventTypeOrderByEventDate(sprint.getId(), SprintEvent.EventType.HOLIDAY).stream()
+            .map(SprintEvent::getEventDate)
+            .collect(Collectors.toSet());
+        return new SprintCalendars(sprint.getStartDate(), sprint.getEndDate(), sprintHolidays);
+    }
+    
+    /**
+     * Calendars of one sprint, keyed by member location. Members without a location only
+     * get global holidays (and sprint holiday events).
+     */
+    public final class SprintCalendars {
+        
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final Set<LocalDate> sprintHolidays;
+        private final Map<String, WorkingDayCalendar> calendars = new HashMap<>();
+        
+        private SprintCalendars(LocalDate startDate, LocalDate endDate, Set<LocalDate> sprintHolidays) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.sprintHolidays = sprintHolidays;
+        }
+        
+        public WorkingDayCalendar forLocation(String location) {
+            String key = location == null || location.isBlank() ? null : location.trim();
+            return calendars.computeIfAbsent(key, this::build);
+        }
+        
+        public int size() {
+            return calendars.size();
+        }
+        
+        private WorkingDayCalendar build(String location) {
+            Set<LocalDate> holidays = new HashSet<>(sprintHolidays);
+            holidays.addAll(location == null
+                ? holidayCalendarIndex.globalHolidayDates(startDate, endDate)
+                : holidayCalendarIndex.holidayDates(startDate, endDate, location));
+            
+            Set<LocalDate> workingDays = new HashSet<>();
+            int businessDays = 0;
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                if (WorkingDayCalendar.isBusinessDay(date)) {
+                    businessDays++;
+                    if (!holidays.contains(date)) {
+                        workingDays.add(date);
+                    }
+                }
+            }
+            log.debug("Working-day calendar for location {} ({} to {}): {} of {} business days",
+                location != null ? location : "<none>", startDate, endDate, workingDays.size(), businessDays);
+            return new WorkingDayCalendar(location, startDate, endDate, workingDays, businessDays);
+        }
+    }
+}
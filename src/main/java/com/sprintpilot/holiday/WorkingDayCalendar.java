@@ -0,0 +1,78 @@
+package com.sprintpilot.holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Working days of one location within a sprint: weekdays that are neither a holiday
+ * for that location nor a sprint holiday event.
+ */
+public final class WorkingDayCalendar {
+    
+    private final String location;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Set<LocalDate> workingDays;
+    private final int businessDays;
+    
+    WorkingDayCalendar(String location, LocalDate startDate, LocalDate endDate,
+                       Set<LocalDate> workingDays, int businessDays) {
+        this.location = location;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.workingDays = workingDays;
+        this.businessDays = businessDays;
+    }
+    
+    public static boolean isBusinessDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY;
+    }
+    
+    public String getLocation() {
+        return location;
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public boolean isWorkingDay(LocalDate date) {
+        return workingDays.contains(date);
+    }
+    
+    public int getWorkingDays() {
+        return workingDays.size();
+    }
+    
+    /**
+     * Weekdays in the sprint, before holidays are taken out
+     */
+    public int getBusinessDays() {
+        return businessDays;
+    }
+    
+    /**
+     * Holidays (table or sprint event) that fall on a weekday, each date counted once
+     */
+    public int getHolidays() {
+        return businessDays - workingDays.size();
+    }
+    
+    /**
+     * Number of the given dates that would otherwise be working days; weekends, holidays,
+     * dates outside the sprint and repeated dates are not counted
+     */
+    public long countWorkingDays(Collection<LocalDate> dates) {
+        return dates.stream()
+            .filter(workingDays::contains)
+            .distinct()
+            .count();
+    }
+}
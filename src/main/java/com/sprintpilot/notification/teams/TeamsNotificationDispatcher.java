@@ -0,0 +1,353 @@
+package com.sprintpilot.notification.teams;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintpilot.bulkhead.BulkheadFullException;
+import com.sprintpilot.bulkhead.DownstreamBulkheads;
+import com.sprintpilot.entity.TeamsOutboxMessage;
+import com.sprintpilot.entity.TeamsOutboxMessage.OutboxStatus;
+import com.sprintpilot.repository.TeamsOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Delivers Teams notifications from the teams_outbox table.
+ *
+ * Callers only insert a row, so request latency does not depend on the webhook.
+ * A scheduled poll claims due rows and hands them to the dispatch executor; the teams
+ * bulkhead keeps webhook posts to a few at a time. Failed deliveries are retried
+ * with exponential backoff; a 429 honours Retry-After and pauses every worker,
+ * since the limit applies to the whole webhook. Notifications
+ * with a digest template (task assignments) are held for a short window and all
+ * pending rows for the same sprint go out as one card.
+ */
+@Component
+public class TeamsNotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamsNotificationDispatcher.class);
+
+    /**
+     * Digest cards by single-message template: digest template and how each message becomes one line
+     */
+    private static final Map<String, Digest> DIGESTS = Map.of(
+            "task-assigned.json", new Digest("task-assigned-digest.json",
+                    v -> "**" + v.getOrDefault("taskKey", "") + "** " + v.getOrDefault("summary", "")
+                            + " → " + v.getOrDefault("assignedTo", "Unassigned")
+                            + " (" + v.getOrDefault("storyPoints", "0") + " SP, " + v.getOrDefault("priority", "") + ")"));
+
+    private final TeamsOutboxRepository outboxRepository;
+    private final TeamsMessageBuilder messageBuilder;
+    private final RestTemplate restTemplate;
+    private final Executor dispatchExecutor;
+    private final DownstreamBulkheads downstreamBulkheads;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String webhookUrl;
+
+    @Value("${teams.dispatcher.digest-window-seconds:30}")
+    private long digestWindowSeconds;
+
+    @Value("${teams.dispatcher.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${teams.dispatcher.initial-backoff-ms:2000}")
+    private long initialBackoffMs;
+
+    @Value("${teams.dispatcher.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    @Value("${teams.dispatcher.claim-timeout-seconds:120}")
+    private long claimTimeoutSeconds;
+
+    @Value("${teams.dispatcher.retention-hours:72}")
+    private long retentionHours;
+
+    // Set from a 429 Retry-After; no deliveries are started before this time
+    private volatile LocalDateTime pausedUntil = LocalDateTime.MIN;
+
+    public TeamsNotificationDispatcher(
+            TeamsOutboxRepository outboxRepository,
+            TeamsMessageBuilder messageBuilder,
+            RestTemplate restTemplate,
+            @Qualifier("teamsDispatchExecutor") Executor dispatchExecutor,
+            DownstreamBulkheads downstreamBulkheads,
+            @Value("${teams.webhook.url:}") String webhookUrl) {
+        this.outboxRepository = outboxRepository;
+        this.messageBuilder = messageBuilder;
+        this.restTemplate = restTemplate;
+        this.dispatchExecutor = dispatchExecutor;
+        this.downstreamBulkheads = downstreamBulkheads;
+        this.webhookUrl = webhookUrl;
+    }
+
+    /**
+     * Queues a ready-to-send MessageCard
+     *
+     * @return Outbox message ID
+     */
+    public String enqueueMessage(String messageJson) {
+        TeamsOutboxMessage message = new TeamsOutboxMessage();
+        message.setPayload(messageJson);
+        return outboxRepository.save(message).getId();
+    }
+
+    /**
+     * Queues a template notification. Templates with a digest are stored as variables
+     * and held for the digest window; others are rendered now.
+     *
+     * @return Outbox message ID
+     */
+    public String enqueueTemplate(String templateName, Map<String, String> variables) throws Exception {
+        if (!DIGESTS.containsKey(templateName)) {
+            return enqueueMessage(messageBuilder.buildMessage(templateName, variables));
+        }
+        TeamsOutboxMessage message = new TeamsOutboxMessage();
+        message.setTemplateName(templateName);
+        message.setCoalesceKey(templateName + ":" + variables.getOrDefault("sprintId", ""));
+        message.setPayload(objectMapper.writeValueAsString(variables));
+        message.setNextAttemptAt(LocalDateTime.now().plusSeconds(digestWindowSeconds));
+        return outboxRepository.save(message).getId();
+    }
+
+    /**
+     * Claims due messages and submits them to the worker pool
+     */
+    @Scheduled(fixedDelayString = "${teams.dispatcher.poll-interval-ms:2000}")
+    public void dispatchDue() {
+        if (webhookUrl == null || webhookUrl.trim().isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(pausedUntil)) {
+            return;
+        }
+
+        int released = outboxRepository.releaseStale(now.minusSeconds(claimTimeoutSeconds));
+        if (released > 0) {
+            logger.warn("Re-queued {} Teams notifications left in SENDING", released);
+        }
+
+        List<TeamsOutboxMessage> due = outboxRepository
+                .findTop50ByStatusAndNextAttemptAtLessThanEqualOrderByCreatedAtAsc(OutboxStatus.PENDING, now);
+        Map<String, List<TeamsOutboxMessage>> digests = new LinkedHashMap<>();
+        for (TeamsOutboxMessage message : due) {
+            if (message.getCoalesceKey() == null) {
+                if (outboxRepository.claim(message.getId(), now) == 1) {
+                    submit(List.of(message));
+                }
+            } else if (!digests.containsKey(message.getCoalesceKey())) {
+                // Take every pending message for the key, including ones still inside the window
+                List<TeamsOutboxMessage> batch = new ArrayList<>();
+                for (TeamsOutboxMessage pending : outboxRepository.findByStatusAndCoalesceKeyOrderByCreatedAtAsc(
+                        OutboxStatus.PENDING, message.getCoalesceKey())) {
+                    if (outboxRepository.claim(pending.getId(), now) == 1) {
+                        batch.add(pending);
+                    }
+                }
+                digests.put(message.getCoalesceKey(), batch);
+            }
+        }
+        digests.values().stream().filter(batch -> !batch.isEmpty()).forEach(this::submit);
+    }
+
+    /**
+     * Removes delivered messages past the retention period; failed ones are kept for inspection
+     */
+    @Scheduled(fixedDelayString = "${teams.dispatcher.cleanup-interval-ms:3600000}")
+    public void purgeDelivered() {
+        int deleted = outboxRepository.deleteSentBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            logger.info("Purged {} delivered Teams notifications", deleted);
+        }
+    }
+
+    public long countByStatus(OutboxStatus status) {
+        return outboxRepository.countByStatus(status);
+    }
+
+    private void submit(List<TeamsOutboxMessage> batch) {
+        try {
+            dispatchExecutor.execute(() -> deliver(batch));
+        } catch (RejectedExecutionException e) {
+            // Pool is saturated; put the messages back for the next poll
+            batch.forEach(message -> message.setStatus(OutboxStatus.PENDING));
+            outboxRepository.saveAll(batch);
+        }
+    }
+
+    private void deliver(List<TeamsOutboxMessage> batch) {
+        String messageJson;
+        try {
+            messageJson = buildCard(batch);
+        } catch (Exception e) {
+            logger.error("Failed to build Teams card for outbox message {}", batch.get(0).getId(), e);
+            finish(batch, OutboxStatus.FAILED, "Card build failed: " + e.getMessage(), null);
+            return;
+        }
+
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            // At most app.bulkheads.teams.max-concurrent posts at once, whatever runs the deliveries
+            ResponseEntity<String> response = downstreamBulkheads.teams().execute(() -> restTemplate.postForEntity(
+                    webhookUrl, new HttpEntity<>(messageJson, headers), String.class));
+            if (response.getStatusCode().is2xxSuccessful()) {
+                finish(batch, OutboxStatus.SENT, null, null);
+                logger.info("Teams notification delivered ({} message(s))", batch.size());
+            } else {
+                retry(batch, "HTTP " + response.getStatusCode().value(), null);
+            }
+        } catch (RestClientResponseException e) {
+            int status = e.getStatusCode().value();
+            if (status == 429) {
+                Duration retryAfter = parseRetryAfter(e.getResponseHeaders());
+                pausedUntil = LocalDateTime.now().plus(retryAfter);
+                logger.warn("Teams webhook throttled, pausing deliveries for {}s", retryAfter.toSeconds());
+                retry(batch, "HTTP 429", retryAfter);
+            } else if (status == 408 || e.getStatusCode().is5xxServerError()) {
+                retry(batch, "HTTP " + status, null);
+            } else {
+                // Other 4xx responses will not succeed on retry
+                logger.error("Teams webhook rejected notification with HTTP {}: {}", status, e.getResponseBodyAsString());
+                finish(batch, OutboxStatus.FAILED, "HTTP " + status, null);
+            }
+        } catch (BulkheadFullException e) {
+            // Never sent, so no attempt is used up; the next poll picks the messages up again
+            batch.forEach(message -> message.setStatus(OutboxStatus.PENDING));
+            outboxRepository.saveAll(batch);
+        } catch (ResourceAccessException e) {
+            retry(batch, e.getMessage(), null);
+        } catch (Exception e) {
+            logger.error("Unexpected error delivering Teams notification", e);
+            retry(batch, e.getMessage(), null);
+        }
+    }
+
+    /**
+     * Renders the card for a batch: the stored JSON, the single-message template,
+     * or the digest template when several messages were coalesced
+     */
+    private String buildCard(List<TeamsOutboxMessage> batch) throws Exception {
+        TeamsOutboxMessage first = batch.get(0);
+        if (first.getTemplateName() == null) {
+            return first.getPayload();
+        }
+        List<Map<String, String>> variables = new ArrayList<>();
+        for (TeamsOutboxMessage message : batch) {
+            variables.add(objectMapper.readValue(message.getPayload(), new TypeReference<Map<String, String>>() {}));
+        }
+        if (batch.size() == 1) {
+            return messageBuilder.buildMessage(first.getTemplateName(), variables.get(0));
+        }
+
+        Digest digest = DIGESTS.get(first.getTemplateName());
+        StringBuilder lines = new StringBuilder();
+        for (Map<String, String> entry : variables) {
+            if (lines.length() > 0) {
+                lines.append("\n\n");
+            }
+            lines.append("• ").append(digest.line().apply(entry));
+        }
+        Map<String, String> digestVariables = new HashMap<>();
+        digestVariables.put("count", String.valueOf(batch.size()));
+        digestVariables.put("sprintId", variables.get(0).getOrDefault("sprintId", ""));
+        digestVariables.put("assignments", lines.toString());
+        return messageBuilder.buildMessage(digest.templateName(), digestVariables);
+    }
+
+    private void retry(List<TeamsOutboxMessage> batch, String error, Duration retryAfter) {
+        int attempts = batch.get(0).getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            logger.error("Giving up on Teams notification after {} attempts: {}", attempts, error);
+            finish(batch, OutboxStatus.FAILED, error, attempts);
+            return;
+        }
+        Duration delay = retryAfter != null ? retryAfter : backoff(attempts);
+        LocalDateTime nextAttempt = LocalDateTime.now().plus(delay);
+        for (TeamsOutboxMessage message : batch) {
+            message.setStatus(OutboxStatus.PENDING);
+            message.setAttempts(attempts);
+            message.setNextAttemptAt(nextAttempt);
+            message.setLastError(truncate(error));
+        }
+        outboxRepository.saveAll(batch);
+        logger.warn("Teams notification attempt {} failed ({}), retrying in {}s", attempts, error, delay.toSeconds());
+    }
+
+    private void finish(List<TeamsOutboxMessage> batch, OutboxStatus status, String error, Integer attempts) {
+        LocalDateTime now = LocalDateTime.now();
+        for (TeamsOutboxMessage message : batch) {
+            message.setStatus(status);
+            message.setAttempts(attempts != null ? attempts : message.getAttempts() + 1);
+            message.setLastError(truncate(error));
+            if (status == OutboxStatus.SENT) {
+                message.setSentAt(now);
+            }
+        }
+        outboxRepository.saveAll(batch);
+    }
+
+    /**
+     * Exponential backoff with +/-20% jitter so retries from a burst do not line up
+     */
+    private Duration backoff(int attempts) {
+        long base = initialBackoffMs << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, maxBackoffMs);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    /**
+     * Retry-After is either delay-seconds or an HTTP date; falls back to the initial backoff
+     */
+    private Duration parseRetryAfter(HttpHeaders headers) {
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value != null && !value.isBlank()) {
+            try {
+                return Duration.ofSeconds(Math.max(1, Long.parseLong(value.trim())));
+            } catch (NumberFormatException e) {
+                try {
+                    ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                    Duration delay = Duration.between(ZonedDateTime.now(), at);
+                    return delay.isNegative() ? Duration.ofSeconds(1) : delay;
+                } catch (Exception ignored) {
+                    // Unparseable header, use the default below
+                }
+            }
+        }
+        return Duration.ofMillis(initialBackoffMs);
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    private record Digest(String templateName, Function<Map<String, String>, String> line) {}
+}
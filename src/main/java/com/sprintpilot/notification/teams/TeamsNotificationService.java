@@ -3,43 +3,37 @@ package com.sprintpilot.notification.teams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.Map;
 
 /**
  * Generic service for sending notifications to Microsoft Teams channels
  * Supports multiple use cases: sprint created, sprint completed, holiday created, etc.
+ * Messages are queued in the Teams outbox and delivered by TeamsNotificationDispatcher,
+ * so callers never wait on the webhook.
  */
 @Service
 public class TeamsNotificationService {
     
     private static final Logger logger = LoggerFactory.getLogger(TeamsNotificationService.class);
     
-    private final RestTemplate restTemplate;
-    private final TeamsMessageBuilder messageBuilder;
+    private final TeamsNotificationDispatcher dispatcher;
     private final String webhookUrl;
     
     public TeamsNotificationService(
-            RestTemplate restTemplate,
-            TeamsMessageBuilder messageBuilder,
+            TeamsNotificationDispatcher dispatcher,
             @Value("${teams.webhook.url:}") String webhookUrl) {
-        this.restTemplate = restTemplate;
-        this.messageBuilder = messageBuilder;
+        this.dispatcher = dispatcher;
         this.webhookUrl = webhookUrl;
     }
     
     /**
-     * Sends a notification to Teams using a template
+     * Queues a notification to Teams using a template
      * 
      * @param templateName Name of the template file (e.g., "sprint-created.json")
      * @param variables Map of variables to replace in the template (e.g., {{sprintId}} -> "SPRINT-123")
-     * @return true if notification was sent successfully, false otherwise
+     * @return true if the notification was queued for delivery, false otherwise
      */
     public boolean sendNotification(String templateName, Map<String, String> variables) {
         if (webhookUrl == null || webhookUrl.trim().isEmpty()) {
@@ -48,19 +42,20 @@ public class TeamsNotificationService {
         }
         
         try {
-            String messageJson = messageBuilder.buildMessage(templateName, variables);
-            return sendToTeams(messageJson);
+            String messageId = dispatcher.enqueueTemplate(templateName, variables);
+            logger.debug("Queued Teams notification {} ({})", messageId, templateName);
+            return true;
         } catch (Exception e) {
-            logger.error("Failed to send Teams notification for template: {}", templateName, e);
+            logger.error("Failed to queue Teams notification for template: {}", templateName, e);
             return false;
         }
     }
     
     /**
-     * Sends a raw JSON message to Teams webhook
+     * Queues a raw JSON message for the Teams webhook
      * 
      * @param messageJson JSON string in Teams MessageCard or Adaptive Card format
-     * @return true if sent successfully, false otherwise
+     * @return true if queued, false otherwise
      */
     public boolean sendRawMessage(String messageJson) {
         if (webhookUrl == null || webhookUrl.trim().isEmpty()) {
@@ -68,30 +63,12 @@ public class TeamsNotificationService {
             return false;
         }
         
-        return sendToTeams(messageJson);
-    }
-    
-    /**
-     * Internal method to send HTTP POST request to Teams webhook
-     */
-    private boolean sendToTeams(String messageJson) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            HttpEntity<String> request = new HttpEntity<>(messageJson, headers);
-            
-            ResponseEntity<String> response = restTemplate.postForEntity(webhookUrl, request, String.class);
-            
-            if (response.getStatusCode().is2xxSuccessful()) {
-                logger.info("Teams notification sent successfully");
-                return true;
-            } else {
-                logger.warn("Teams notification failed with status: {}", response.getStatusCode());
-                return false;
-            }
+            String messageId = dispatcher.enqueueMessage(messageJson);
+            logger.debug("Queued raw Teams message {}", messageId);
+            return true;
         } catch (Exception e) {
-            logger.error("Error sending Teams notification", e);
+            logger.error("Failed to queue raw Teams message", e);
             return false;
         }
     }
@@ -103,4 +80,3 @@ public class TeamsNotificationService {
         return webhookUrl != null && !webhookUrl.trim().isEmpty();
     }
 }
-
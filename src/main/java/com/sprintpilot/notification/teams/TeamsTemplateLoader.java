@@ -1,13 +1,19 @@
 package com.sprintpilot.notification.teams;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintpilot.template.CompiledTemplate;
+import com.sprintpilot.template.TemplateCompiler;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Loads Microsoft Teams message templates from JSON files in resources
@@ -17,6 +23,7 @@ public class TeamsTemplateLoader {
     
     private static final String TEMPLATE_BASE_PATH = "templates/teams/";
     private final ObjectMapper objectMapper;
+    private final Map<String, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
     
     public TeamsTemplateLoader(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
@@ -54,5 +61,31 @@ public class TeamsTemplateLoader {
         JsonNode template = loadTemplate(templateName);
         return objectMapper.writeValueAsString(template);
     }
+    
+    /**
+     * Returns the compiled form of a template, parsing it on first use.
+     * The template is serialized once with the shared ObjectMapper, so placeholders
+     * always sit inside JSON strings; values are JSON-escaped when rendered.
+     * 
+     * @param templateName Name of the template file
+     * @return Cached compiled template
+     * @throws IOException if template file cannot be loaded
+     */
+    public CompiledTemplate loadCompiledTemplate(String templateName) throws IOException {
+        try {
+            return compiledTemplates.computeIfAbsent(templateName, name -> {
+                try {
+                    return TemplateCompiler.compile(name, loadTemplateAsString(name), TeamsTemplateLoader::escapeJson);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    private static String escapeJson(String value) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(value));
+    }
 }
-
@@ -0,0 +1,13 @@
+package com.sprintpilot.repository;
+
+import com.sprintpilot.entity.AIArtefact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AIArtefactRepository extends JpaRepository<AIArtefact, String> {
+
+    Optional<AIArtefact> findByScopeKeyAndArtefactType(String scopeKey, AIArtefact.ArtefactType artefactType);
+}
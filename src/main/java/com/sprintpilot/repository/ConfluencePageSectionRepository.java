@@ -0,0 +1,13 @@
+package com.sprintpilot.repository;
+
+import com.sprintpilot.entity.ConfluencePageSection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ConfluencePageSectionRepository extends JpaRepository<ConfluencePageSection, String> {
+
+    List<ConfluencePageSection> findBySprintId(String sprintId);
+}
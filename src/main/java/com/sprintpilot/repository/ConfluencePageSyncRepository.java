@@ -0,0 +1,13 @@
+package com.sprintpilot.repository;
+
+import com.sprintpilot.entity.ConfluencePageSync;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ConfluencePageSyncRepository extends JpaRepository<ConfluencePageSync, String> {
+
+    Optional<ConfluencePageSync> findBySprintId(String sprintId);
+}
@@ -0,0 +1,56 @@
+package com.sprintpilot.repository;
+
+import com.sprintpilot.entity.DomainEventRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DomainEventOutboxRepository extends JpaRepository<DomainEventRecord, Long> {
+
+    /**
+     * Change feed: events after the given position, oldest first, up to the visibility horizon
+     * (below beforeId and recorded no later than visibleBefore)
+     */
+    @Query("SELECT e FROM DomainEventRecord e WHERE e.id > :afterId AND e.id < :beforeId " +
+           "AND e.occurredAt <= :visibleBefore ORDER BY e.id")
+    List<DomainEventRecord> findFeed(@Param("afterId") long afterId, @Param("beforeId") long beforeId,
+                                     @Param("visibleBefore") LocalDateTime visibleBefore, Pageable pageable);
+
+    /**
+     * Change feed for one sprint
+     */
+    @Query("SELECT e FROM DomainEventRecord e WHERE e.sprintId = :sprintId AND e.id > :afterId " +
+           "AND e.id < :beforeId AND e.occurredAt <= :visibleBefore ORDER BY e.id")
+    List<DomainEventRecord> findSprintFeed(@Param("sprintId") String sprintId, @Param("afterId") long afterId,
+                                           @Param("beforeId") long beforeId,
+                                           @Param("visibleBefore") LocalDateTime visibleBefore, Pageable pageable);
+
+    /**
+     * Events that were never delivered in-process (e.g. the app stopped right after commit)
+     */
+    List<DomainEventRecord> findTop100ByPublishedAtIsNullAndOccurredAtLessThanEqualOrderByIdAsc(LocalDateTime cutoff);
+
+    /**
+     * Runs in its own transaction: it is called from after-commit callbacks, where the
+     * original transaction can no longer commit anything
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("UPDATE DomainEventRecord e SET e.publishedAt = :now WHERE e.id IN :ids AND e.publishedAt IS NULL")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DomainEventRecord e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,8 +1,11 @@
 package com.sprintpilot.repository;
 
 import com.sprintpilot.entity.Holiday;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
@@ -21,6 +24,7 @@ public interface HolidayRepository extends JpaRepository<Holiday, String> {
     List<Holiday> findByYear(@Param("year") int year);
     
     @Query("SELECT h FROM Holiday h WHERE h.recurring = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Holiday> findRecurringHolidays();
     
     @Query("SELECT h FROM Holiday h WHERE h.location IS NULL ORDER BY h.holidayDate")
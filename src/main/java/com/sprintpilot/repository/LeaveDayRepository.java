@@ -1,12 +1,16 @@
 package com.sprintpilot.repository;
 
 import com.sprintpilot.entity.LeaveDay;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,10 +36,31 @@ public interface LeaveDayRepository extends JpaRepository<LeaveDay, String> {
     @Query("SELECT l FROM LeaveDay l WHERE l.member.id = :memberId AND l.sprint.id = :sprintId ORDER BY l.leaveDate")
     List<LeaveDay> findByMemberIdAndSprintId(@Param("memberId") String memberId, @Param("sprintId") String sprintId);
     
+    /**
+     * Rows of [memberId, leaveDate] for every leave day recorded against the sprint
+     */
+    @Query("SELECT l.member.id, l.leaveDate FROM LeaveDay l WHERE l.sprint.id = :sprintId")
+    List<Object[]> findMemberLeaveDatesBySprintId(@Param("sprintId") String sprintId);
+    
+    /**
+     * Rows of [memberId, leaveDate] for the members' leave days between the dates (inclusive)
+     */
+    @Query("SELECT l.member.id, l.leaveDate FROM LeaveDay l WHERE l.member.id IN :memberIds AND l.leaveDate BETWEEN :startDate AND :endDate")
+    List<Object[]> findMemberLeaveDatesByMemberIdInAndDateRange(
+        @Param("memberIds") Collection<String> memberIds,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+    
     @Query("SELECT l FROM LeaveDay l WHERE l.leaveDate = :date")
     List<LeaveDay> findByDate(@Param("date") LocalDate date);
     
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM LeaveDay l WHERE l.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<String> ids);
+    
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "leave_day"))
     @Query(value = "DELETE FROM leave_day WHERE member_id = :memberId", nativeQuery = true)
     void deleteByMemberId(@Param("memberId") String memberId);
 }
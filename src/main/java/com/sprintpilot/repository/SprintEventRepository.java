@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,4 +32,19 @@ public interface SprintEventRepository extends JpaRepository<SprintEvent, String
     
     @Query("SELECT e FROM SprintEvent e WHERE e.eventType = 'MEETING' AND e.eventSubtype = :meetingType")
     List<SprintEvent> findByMeetingType(@Param("meetingType") SprintEvent.MeetingType meetingType);
+    
+    /**
+     * Holiday event dates between the dates (inclusive) in any sprint the member is assigned to
+     */
+    @Query("SELECT DISTINCT e.eventDate FROM SprintEvent e WHERE e.eventType = com.sprintpilot.entity.SprintEvent.EventType.HOLIDAY " +
+           "AND e.eventDate BETWEEN :startDate AND :endDate " +
+           "AND e.sprint.id IN (SELECT st.sprintId FROM SprintTeam st WHERE st.memberId = :memberId)")
+    List<LocalDate> findHolidayDatesForMemberSprints(
+        @Param("memberId") String memberId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+    
+    @Query("SELECT e FROM SprintEvent e WHERE e.sprint.id IN :sprintIds ORDER BY e.eventDate, e.eventTime")
+    List<SprintEvent> findBySprintIdIn(@Param("sprintIds") Collection<String> sprintIds);
 }
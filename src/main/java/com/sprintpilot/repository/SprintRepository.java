@@ -1,8 +1,12 @@
 package com.sprintpilot.repository;
 
+import com.sprintpilot.dto.SprintHeaderDto;
 import com.sprintpilot.entity.Sprint;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -57,5 +61,49 @@ public interface SprintRepository extends JpaRepository<Sprint, String> {
      * Find last N archived sprints ordered by end date descending (most recent first)
      */
     @Query("SELECT s FROM Sprint s WHERE s.status = 'ARCHIVED' ORDER BY s.endDate DESC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Sprint> findArchivedSprintsOrderByEndDateDesc();
+    
+    /**
+     * Sprint headers with task, team and event counts in one query, newest first.
+     * Pass null to include every status.
+     */
+    @Query("SELECT new com.sprintpilot.dto.SprintHeaderDto(s.id, s.sprintName, s.startDate, s.endDate, s.duration, " +
+           "s.freezeDate, s.status, " +
+           "(SELECT COUNT(t) FROM Task t WHERE t.sprint.id = s.id), " +
+           "(SELECT COUNT(t) FROM Task t WHERE t.sprint.id = s.id AND t.status = 'DONE'), " +
+           "(SELECT SUM(t.storyPoints) FROM Task t WHERE t.sprint.id = s.id), " +
+           "(SELECT COUNT(st) FROM SprintTeam st WHERE st.sprintId = s.id), " +
+           "(SELECT COUNT(e) FROM SprintEvent e WHERE e.sprint.id = s.id)) " +
+           "FROM Sprint s WHERE (:status IS NULL OR s.status = :status) ORDER BY s.startDate DESC")
+    List<SprintHeaderDto> findSprintHeaders(@Param("status") Sprint.SprintStatus status);
+
+    /**
+     * Fingerprint of the data sprint pages and metrics are computed from: row counts and latest
+     * timestamps of the sprint's tasks, work logs, leave days, events and membership, its members,
+     * holidays, and the sprint list (velocity trend reads archived sprints). Assignments have no
+     * timestamp, so their task and member ids are hashed instead.
+     * Counts catch deletes, which leave the latest timestamp unchanged. Empty when the sprint does not exist.
+     */
+    @Query(value = "SELECT CONCAT_WS('|', " +
+           "COALESCE(CAST(s.updated_at AS VARCHAR), '-'), " +
+           "(SELECT CAST(COUNT(*) AS VARCHAR) || ':' || COALESCE(CAST(MAX(t.updated_at) AS VARCHAR), '-') " +
+           "   FROM task t WHERE t.sprint_id = s.id), " +
+           "(SELECT COALESCE(MD5(STRING_AGG(ta.task_id || '=' || ta.member_id, ',' ORDER BY ta.task_id, ta.member_id)), '-') " +
+           "   FROM task_assignment ta WHERE ta.task_id IN (SELECT t.id FROM task t WHERE t.sprint_id = s.id)), " +
+           "(SELECT CAST(COUNT(*) AS VARCHAR) || ':' || COALESCE(CAST(MAX(wl.created_at) AS VARCHAR), '-') " +
+           "   FROM work_logs wl WHERE wl.sprint_id = s.id), " +
+           "(SELECT CAST(COUNT(*) AS VARCHAR) || ':' || COALESCE(CAST(MAX(l.created_at) AS VARCHAR), '-') " +
+           "   FROM leave_day l WHERE l.sprint_id = s.id " +
+           "   OR l.member_id IN (SELECT st.member_id FROM sprint_team st WHERE st.sprint_id = s.id)), " +
+           "(SELECT CAST(COUNT(*) AS VARCHAR) || ':' || COALESCE(CAST(MAX(e.updated_at) AS VARCHAR), '-') " +
+           "   FROM sprint_event e WHERE e.sprint_id = s.id), " +
+           "(SELECT CAST(COUNT(*) AS VARCHAR) || ':' || COALESCE(CAST(MAX(st.assigned_at) AS VARCHAR), '-') " +
+           "   FROM sprint_team st WHERE st.sprint_id = s.id), " +
+           "(SELECT COALESCE(CAST(MAX(m.updated_at) AS VARCHAR), '-') FROM team_member m " +
+           "   WHERE m.id IN (SELECT st.member_id FROM sprint_team st WHERE st.sprint_id = s.id)), " +
+           "(SELECT CAST(COUNT(*) AS VARCHAR) || ':' || COALESCE(CAST(MAX(h.updated_at) AS VARCHAR), '-') FROM holiday h), " +
+           "(SELECT CAST(COUNT(*) AS VARCHAR) || ':' || COALESCE(CAST(MAX(a.updated_at) AS VARCHAR), '-') FROM sprint a)) " +
+           "FROM sprint s WHERE s.id = :id", nativeQuery = true)
+    Optional<String> findDataVersion(@Param("id") String id);
 }
@@ -1,12 +1,16 @@
 package com.sprintpilot.repository;
 
 import com.sprintpilot.entity.SprintTeam;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -46,6 +50,7 @@ public interface SprintTeamRepository extends JpaRepository<SprintTeam, String>
      * @param sprintId The sprint ID
      */
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sprint_team"))
     @Query(value = "DELETE FROM sprint_team WHERE sprint_id = :sprintId", nativeQuery = true)
     void deleteBySprintId(@Param("sprintId") String sprintId);
     
@@ -54,9 +59,20 @@ public interface SprintTeamRepository extends JpaRepository<SprintTeam, String>
      * @param memberId The member ID
      */
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sprint_team"))
     @Query(value = "DELETE FROM sprint_team WHERE member_id = :memberId", nativeQuery = true)
     void deleteByMemberId(@Param("memberId") String memberId);
     
+    /**
+     * Delete the mappings of the given members for a specific sprint in one statement
+     * @param sprintId The sprint ID
+     * @param memberIds The member IDs to unassign
+     * @return Number of mappings deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SprintTeam s WHERE s.sprintId = :sprintId AND s.memberId IN :memberIds")
+    int deleteBySprintIdAndMemberIdIn(@Param("sprintId") String sprintId, @Param("memberIds") Collection<String> memberIds);
+    
     /**
      * Get only the member IDs for a specific sprint
      * @param sprintId The sprint ID
@@ -2,13 +2,14 @@ package com.sprintpilot.repository;
 
 import com.sprintpilot.entity.Task;
 import com.sprintpilot.dto.TaskDto;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.sprintpilot.dto.TaskRiskInput;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +39,20 @@ public interface TaskRepository extends JpaRepository<Task, String> {
            "FROM Task t WHERE t.sprint.id = :sprintId")
     List<TaskDto> findTaskDtosBySprintId(@Param("sprintId") String sprintId);
     
+    /**
+     * Task DTOs for several sprints without the assignee; pair with findPrimaryAssigneeIdsBySprintIdIn
+     */
+    @Query("SELECT new com.sprintpilot.dto.TaskDto(t.id, t.sprint.id, t.taskKey, t.summary, t.description, " +
+           "t.storyPoints, t.category, t.priority, t.status, t.startDate, t.dueDate, t.timeSpent, CAST(NULL AS String)) " +
+           "FROM Task t WHERE t.sprint.id IN :sprintIds")
+    List<TaskDto> findTaskDtosBySprintIdIn(@Param("sprintIds") Collection<String> sprintIds);
+    
+    /**
+     * Lowest assignee id per assigned task, as [taskId, memberId] rows
+     */
+    @Query("SELECT t.id, MIN(a.id) FROM Task t JOIN t.assignees a WHERE t.sprint.id IN :sprintIds GROUP BY t.id")
+    List<Object[]> findPrimaryAssigneeIdsBySprintIdIn(@Param("sprintIds") Collection<String> sprintIds);
+    
     @Query("SELECT COUNT(t) FROM Task t WHERE t.sprint.id = :sprintId AND t.status = 'DONE'")
     long countCompletedTasksBySprintId(@Param("sprintId") String sprintId);
     
@@ -50,26 +65,6 @@ public interface TaskRepository extends JpaRepository<Task, String> {
     @Query("SELECT t FROM Task t WHERE t.sprint.id = :sprintId AND t.taskKey IN :taskKeys")
     List<Task> findBySprintIdAndTaskKeyIn(@Param("sprintId") String sprintId, @Param("taskKeys") List<String> taskKeys);
     
-    /**
-     * Find tasks by sprint ID and risk factor with pagination
-     * Treats null riskFactor in DB as ON_TRACK
-     * Sorts by assignee name (tasks with no assignees come last)
-     * Excludes tasks with status DONE
-     */
-    @EntityGraph(attributePaths = {"assignees", "sprint"})
-    @Query("SELECT t FROM Task t " +
-           "WHERE t.sprint.id = :sprintId " +
-           "AND t.status != 'DONE' " +
-           "AND (:riskFactor IS NULL OR " +
-           "     (t.riskFactor IS NULL AND :riskFactor = 'ON_TRACK') OR " +
-           "     (STR(t.riskFactor) = :riskFactor)) " +
-           "ORDER BY t.priority DESC, t.createdAt ASC")
-    Page<Task> findBySprintIdAndRiskFactorPaginated(
-            @Param("sprintId") String sprintId,
-            @Param("riskFactor") String riskFactor,
-            Pageable pageable
-    );
-    
     /**
      * Count tasks by sprint ID and risk factor
      * Treats null riskFactor in DB as ON_TRACK
@@ -85,4 +80,72 @@ public interface TaskRepository extends JpaRepository<Task, String> {
             @Param("sprintId") String sprintId,
             @Param("riskFactor") String riskFactor
     );
+    
+    @Query("SELECT new com.sprintpilot.dto.TaskRiskInput(t.id, t.status, t.priority, t.startDate, t.dueDate, " +
+           "t.storyPoints, t.originalEstimate, t.timeSpent, t.riskFactor, t.riskRule) " +
+           "FROM Task t WHERE t.sprint.id = :sprintId")
+    List<TaskRiskInput> findRiskInputsBySprintId(@Param("sprintId") String sprintId);
+    
+    /**
+     * Set the risk factor and the rule behind it on a batch of tasks in one statement.
+     * Bulk JPQL bypasses entity callbacks, so updated_at is left as it was.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.riskFactor = :riskFactor, t.riskRule = :riskRule WHERE t.id IN :ids")
+    int updateRiskAssessment(@Param("ids") Collection<String> ids,
+                             @Param("riskFactor") Task.RiskFactor riskFactor,
+                             @Param("riskRule") String riskRule);
+    
+    /**
+     * Key columns for one page of the risk task list, in keyset order: primary assignee
+     * name (alphabetically first assignee, unassigned last), priority high to low, then id.
+     * Pass hasCursor=false for the first page; otherwise the after* values are the keys of
+     * the last row already returned.
+     */
+    @Query(value = "SELECT k.id AS id, k.assignee_name AS assigneeName, k.priority_rank AS priorityRank FROM (" +
+           "  SELECT t.id, " +
+           "    (SELECT MIN(m.name) FROM task_assignment ta JOIN team_member m ON m.id = ta.member_id " +
+           "     WHERE ta.task_id = t.id) AS assignee_name, " +
+           "    CASE t.priority WHEN 'CRITICAL' THEN 4 WHEN 'HIGH' THEN 3 WHEN 'MEDIUM' THEN 2 " +
+           "      WHEN 'LOW' THEN 1 WHEN 'LOWEST' THEN 0 ELSE -1 END AS priority_rank " +
+           "  FROM task t " +
+           "  WHERE t.sprint_id = :sprintId " +
+           "  AND t.status <> 'DONE' " +
+           "  AND (:riskFactor = '' OR " +
+           "       (t.risk_factor IS NULL AND :riskFactor = 'ON_TRACK') OR " +
+           "       t.risk_factor = :riskFactor)" +
+           ") k " +
+           "WHERE :hasCursor = FALSE " +
+           "OR (:afterUnassigned = FALSE AND (k.assignee_name > :afterName OR k.assignee_name IS NULL " +
+           "    OR (k.assignee_name = :afterName AND (k.priority_rank < :afterRank " +
+           "        OR (k.priority_rank = :afterRank AND k.id > :afterId))))) " +
+           "OR (:afterUnassigned = TRUE AND k.assignee_name IS NULL AND (k.priority_rank < :afterRank " +
+           "    OR (k.priority_rank = :afterRank AND k.id > :afterId))) " +
+           "ORDER BY k.assignee_name ASC NULLS LAST, k.priority_rank DESC, k.id ASC " +
+           "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<TaskPageKey> findRiskTaskPageKeys(
+            @Param("sprintId") String sprintId,
+            @Param("riskFactor") String riskFactor,
+            @Param("hasCursor") boolean hasCursor,
+            @Param("afterUnassigned") boolean afterUnassigned,
+            @Param("afterName") String afterName,
+            @Param("afterRank") int afterRank,
+            @Param("afterId") String afterId,
+            @Param("limit") int limit,
+            @Param("offset") int offset
+    );
+    
+    @EntityGraph(attributePaths = {"assignees", "sprint"})
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids")
+    List<Task> findWithDetailsByIdIn(@Param("ids") Collection<String> ids);
+    
+    /**
+     * Sort keys of a task in the risk task list
+     */
+    interface TaskPageKey {
+        String getId();
+        String getAssigneeName();
+        Integer getPriorityRank();
+    }
 }
@@ -1,11 +1,15 @@
 package com.sprintpilot.repository;
 
 import com.sprintpilot.entity.TeamMember;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +19,7 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, String>
     Optional<TeamMember> findById(String id);
     
     @Query("SELECT t FROM TeamMember t WHERE t.active = true ORDER BY t.name")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<TeamMember> findActiveMembers();
     
     @Query("SELECT t FROM TeamMember t WHERE t.role = :role AND t.active = true")
@@ -34,6 +39,18 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, String>
     @Query("SELECT DISTINCT t FROM TeamMember t JOIN t.sprints s WHERE s.id = :sprintId")
     List<TeamMember> findBySprintId(@Param("sprintId") String sprintId);
     
+    @Query("SELECT t.id FROM TeamMember t WHERE t.active = true AND (t.deleted IS NULL OR t.deleted = false)")
+    List<String> findActiveMemberIds();
+    
+    @Query("SELECT t.id FROM TeamMember t WHERE t.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+    
     @Query("SELECT COUNT(t) FROM TeamMember t WHERE t.active = true")
     long countActiveMembers();
+    
+    /**
+     * Team members of several sprints at once, as [sprintId, TeamMember] rows
+     */
+    @Query("SELECT s.id, t FROM TeamMember t JOIN t.sprints s WHERE s.id IN :sprintIds ORDER BY t.name")
+    List<Object[]> findWithSprintIdBySprintIdIn(@Param("sprintIds") Collection<String> sprintIds);
 }
@@ -0,0 +1,53 @@
+package com.sprintpilot.repository;
+
+import com.sprintpilot.entity.TeamsOutboxMessage;
+import com.sprintpilot.entity.TeamsOutboxMessage.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TeamsOutboxRepository extends JpaRepository<TeamsOutboxMessage, String> {
+
+    /**
+     * Oldest messages that are due for a delivery attempt
+     */
+    List<TeamsOutboxMessage> findTop50ByStatusAndNextAttemptAtLessThanEqualOrderByCreatedAtAsc(
+            OutboxStatus status, LocalDateTime now);
+
+    /**
+     * Everything still pending for a digest, including messages not yet due
+     */
+    List<TeamsOutboxMessage> findByStatusAndCoalesceKeyOrderByCreatedAtAsc(OutboxStatus status, String coalesceKey);
+
+    long countByStatus(OutboxStatus status);
+
+    /**
+     * Claims a pending message for delivery; returns 0 if another worker got it first
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE TeamsOutboxMessage m SET m.status = com.sprintpilot.entity.TeamsOutboxMessage.OutboxStatus.SENDING, m.claimedAt = :now " +
+           "WHERE m.id = :id AND m.status = com.sprintpilot.entity.TeamsOutboxMessage.OutboxStatus.PENDING")
+    int claim(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    /**
+     * Returns messages stuck in SENDING (e.g. after a crash mid-delivery) to the queue
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE TeamsOutboxMessage m SET m.status = com.sprintpilot.entity.TeamsOutboxMessage.OutboxStatus.PENDING " +
+           "WHERE m.status = com.sprintpilot.entity.TeamsOutboxMessage.OutboxStatus.SENDING AND m.claimedAt < :cutoff")
+    int releaseStale(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TeamsOutboxMessage m WHERE m.status = com.sprintpilot.entity.TeamsOutboxMessage.OutboxStatus.SENT AND m.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,7 +1,9 @@
 package com.sprintpilot.repository;
 
+import com.sprintpilot.dto.WorkLogDailySum;
 import com.sprintpilot.entity.WorkLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,7 +22,7 @@ public interface WorkLogRepository extends JpaRepository<WorkLog, String> {
     /**
      * Find all work logs for tasks in a sprint, within a date range
      */
-    @Query("SELECT wl FROM WorkLog wl WHERE wl.task.sprint.id = :sprintId " +
+    @Query("SELECT wl FROM WorkLog wl WHERE wl.sprintId = :sprintId " +
            "AND wl.loggedDate >= :startDate AND wl.loggedDate <= :endDate")
     List<WorkLog> findBySprintIdAndDateRange(
             @Param("sprintId") String sprintId,
@@ -29,21 +31,24 @@ public interface WorkLogRepository extends JpaRepository<WorkLog, String> {
     );
     
     /**
-     * Delete all work logs for a specific task
+     * Delete all work logs for a specific task, as one statement across every partition
      */
-    void deleteByTaskId(String taskId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM WorkLog wl WHERE wl.task.id = :taskId")
+    int deleteByTaskId(@Param("taskId") String taskId);
     
     /**
-     * Sum time spent by date for a sprint (optimized aggregation query)
-     * Returns pairs of [loggedDate, sumOfTimeSpentHours]
+     * Sum seconds logged per day and author for a sprint (optimized aggregation query)
+     * Team totals are the per-day sums of these rows. Reads the denormalised sprint_id, so this is one
+     * range scan on (sprint_id, logged_date) with author and seconds taken from the index, no task join
      */
-    @Query("SELECT wl.loggedDate, SUM(wl.timeSpentHours) " +
+    @Query("SELECT new com.sprintpilot.dto.WorkLogDailySum(wl.loggedDate, wl.author, SUM(wl.timeSpentSeconds)) " +
            "FROM WorkLog wl " +
-           "WHERE wl.task.sprint.id = :sprintId " +
+           "WHERE wl.sprintId = :sprintId " +
            "AND wl.loggedDate >= :startDate AND wl.loggedDate <= :endDate " +
-           "GROUP BY wl.loggedDate " +
+           "GROUP BY wl.loggedDate, wl.author " +
            "ORDER BY wl.loggedDate")
-    List<Object[]> sumTimeSpentByDateForSprint(
+    List<WorkLogDailySum> sumTimeSpentSecondsByDateAndAuthorForSprint(
             @Param("sprintId") String sprintId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
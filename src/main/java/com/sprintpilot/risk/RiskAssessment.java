@@ -0,0 +1,13 @@
+package com.sprintpilot.risk;
+
+import com.sprintpilot.entity.Task;
+
+/**
+ * Risk factor for one task together with the name of the rule that produced it
+ */
+public record RiskAssessment(
+        String taskId,
+        Task.RiskFactor riskFactor,
+        String rule
+) {
+}
@@ -0,0 +1,212 @@
+package com.sprintpilot.risk;
+
+import com.sprintpilot.config.RiskRuleProperties;
+import com.sprintpilot.dto.TaskRiskInput;
+import com.sprintpilot.entity.Task;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Scores tasks against the rules configured under app.risk.rules.
+ *
+ * Rules are compiled once at startup into arrays of primitive checks. Each task is
+ * reduced to a small double[] of features (days until due, percent elapsed, percent
+ * complete, ...), so scoring does no BigDecimal or date arithmetic per rule. A missing
+ * date yields NaN, which fails every comparison, so rules on due dates simply do not
+ * match tasks without one.
+ */
+@Component
+@Slf4j
+public class RiskRuleEngine {
+    
+    public static final String DEFAULT_RULE = "default";
+    
+    private static final int DAYS_UNTIL_DUE = 0;
+    private static final int TIMELINE_DAYS = 1;
+    private static final int ELAPSED_PERCENT = 2;
+    private static final int COMPLETE_PERCENT = 3;
+    private static final int HAS_ESTIMATE = 4;
+    private static final int STATUS = 5;
+    private static final int PRIORITY = 6;
+    private static final int FEATURE_COUNT = 7;
+    
+    @FunctionalInterface
+    private interface Condition {
+        boolean test(double[] features);
+    }
+    
+    private record CompiledRule(String name, Task.RiskFactor result, Condition[] conditions) {
+        
+        boolean matches(double[] features) {
+            for (Condition condition : conditions) {
+                if (!condition.test(features)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+    
+    private final RiskRuleProperties properties;
+    private CompiledRule[] rules;
+    
+    public RiskRuleEngine(RiskRuleProperties properties) {
+        this.properties = properties;
+    }
+    
+    @PostConstruct
+    void compile() {
+        List<RiskRuleProperties.Rule> configured = properties.getRules();
+        if (properties.getDefaultResult() == null) {
+            throw new IllegalStateException("app.risk.default-result must be set");
+        }
+        if (properties.getChunkSize() <= 0) {
+            throw new IllegalStateException("app.risk.chunk-size must be positive");
+        }
+        
+        Set<String> names = new HashSet<>();
+        CompiledRule[] compiled = new CompiledRule[configured.size()];
+        for (int i = 0; i < configured.size(); i++) {
+            RiskRuleProperties.Rule rule = configured.get(i);
+            if (rule.getName() == null || rule.getName().isBlank()) {
+                throw new IllegalStateException("app.risk.rules[" + i + "].name must be set");
+            }
+            if (rule.getResult() == null) {
+                throw new IllegalStateException("Risk rule '" + rule.getName() + "' has no result");
+            }
+            if (!names.add(rule.getName())) {
+                throw new IllegalStateException("Duplicate risk rule name: " + rule.getName());
+            }
+            compiled[i] = new CompiledRule(rule.getName(), rule.getResult(), compileConditions(rule));
+        }
+        this.rules = compiled;
+        
+        if (compiled.length == 0) {
+            log.warn("No risk rules configured; every task will be scored {}", properties.getDefaultResult());
+        } else {
+            log.info("Compiled {} risk rules: {}", compiled.length,
+                    Arrays.stream(compiled).map(CompiledRule::name).toList());
+        }
+    }
+    
+    /**
+     * Score every task as of the given day. Results are in the same order as the input.
+     */
+    public List<RiskAssessment> assess(List<TaskRiskInput> tasks, LocalDate today) {
+        RiskAssessment[] results = new RiskAssessment[tasks.size()];
+        long todayEpochDay = today.toEpochDay();
+        int chunkSize = properties.getChunkSize();
+        int chunks = (tasks.size() + chunkSize - 1) / chunkSize;
+        
+        if (chunks <= 1) {
+            assessRange(tasks, 0, tasks.size(), todayEpochDay, results);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                int from = chunk * chunkSize;
+                assessRange(tasks, from, Math.min(from + chunkSize, tasks.size()), todayEpochDay, results);
+            });
+        }
+        return Arrays.asList(results);
+    }
+    
+    private void assessRange(List<TaskRiskInput> tasks, int from, int to, long todayEpochDay, RiskAssessment[] results) {
+        double[] features = new double[FEATURE_COUNT];
+        for (int i = from; i < to; i++) {
+            TaskRiskInput task = tasks.get(i);
+            extractFeatures(task, todayEpochDay, features);
+            results[i] = evaluate(task.id(), features);
+        }
+    }
+    
+    private RiskAssessment evaluate(String taskId, double[] features) {
+        for (CompiledRule rule : rules) {
+            if (rule.matches(features)) {
+                return new RiskAssessment(taskId, rule.result(), rule.name());
+            }
+        }
+        return new RiskAssessment(taskId, properties.getDefaultResult(), DEFAULT_RULE);
+    }
+    
+    private static void extractFeatures(TaskRiskInput task, long todayEpochDay, double[] features) {
+        double due = task.dueDate() != null ? task.dueDate().toEpochDay() : Double.NaN;
+        double start = task.startDate() != null ? task.startDate().toEpochDay() : Double.NaN;
+        double timeline = due - start;
+        
+        double estimate = positive(task.originalEstimate());
+        if (estimate == 0) {
+            estimate = positive(task.storyPoints());
+        }
+        double timeSpent = task.timeSpent() != null ? task.timeSpent().doubleValue() : 0;
+        
+        features[DAYS_UNTIL_DUE] = due - todayEpochDay;
+        features[TIMELINE_DAYS] = timeline;
+        features[ELAPSED_PERCENT] = timeline > 0 ? (todayEpochDay - start) / timeline * 100 : Double.NaN;
+        // Whole percent, rounded half up like the previous two-decimal ratio
+        features[COMPLETE_PERCENT] = estimate > 0 ? Math.round(timeSpent / estimate * 100) : 0;
+        features[HAS_ESTIMATE] = estimate > 0 ? 1 : 0;
+        features[STATUS] = task.status() != null ? task.status().ordinal() : -1;
+        features[PRIORITY] = task.priority() != null ? task.priority().ordinal() : -1;
+    }
+    
+    private static double positive(BigDecimal value) {
+        return value != null && value.signum() > 0 ? value.doubleValue() : 0;
+    }
+    
+    private static Condition[] compileConditions(RiskRuleProperties.Rule rule) {
+        List<Condition> conditions = new ArrayList<>();
+        
+        if (rule.getStatuses() != null && !rule.getStatuses().isEmpty()) {
+            long mask = ordinalMask(rule.getStatuses());
+            conditions.add(f -> inMask(mask, f[STATUS]));
+        }
+        if (rule.getPriorities() != null && !rule.getPriorities().isEmpty()) {
+            long mask = ordinalMask(rule.getPriorities());
+            conditions.add(f -> inMask(mask, f[PRIORITY]));
+        }
+        if (rule.isRequiresTimeline()) {
+            conditions.add(f -> f[TIMELINE_DAYS] > 0);
+        }
+        if (rule.isRequiresEstimate()) {
+            conditions.add(f -> f[HAS_ESTIMATE] > 0);
+        }
+        if (rule.getMinDaysUntilDue() != null) {
+            double min = rule.getMinDaysUntilDue();
+            conditions.add(f -> f[DAYS_UNTIL_DUE] >= min);
+        }
+        if (rule.getMaxDaysUntilDue() != null) {
+            double max = rule.getMaxDaysUntilDue();
+            conditions.add(f -> f[DAYS_UNTIL_DUE] <= max);
+        }
+        if (rule.getMaxCompletePercent() != null) {
+            double max = rule.getMaxCompletePercent();
+            conditions.add(f -> f[COMPLETE_PERCENT] < max);
+        }
+        if (rule.getMinScheduleGap() != null) {
+            double gap = rule.getMinScheduleGap();
+            conditions.add(f -> f[ELAPSED_PERCENT] - f[COMPLETE_PERCENT] > gap);
+        }
+        return conditions.toArray(new Condition[0]);
+    }
+    
+    private static long ordinalMask(Set<? extends Enum<?>> values) {
+        long mask = 0;
+        for (Enum<?> value : values) {
+            mask |= 1L << value.ordinal();
+        }
+        return mask;
+    }
+    
+    private static boolean inMask(long mask, double ordinal) {
+        return ordinal >= 0 && (mask & (1L << (int) ordinal)) != 0;
+    }
+}
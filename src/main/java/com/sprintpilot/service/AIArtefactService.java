@@ -0,0 +1,43 @@
+package com.sprintpilot.service;
+
+import com.sprintpilot.entity.AIArtefact;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Service for precomputed AI artefacts.
+ * Artefacts are regenerated in the background when sprint data changes and
+ * served by the AI endpoints so viewers do not wait on the model.
+ */
+public interface AIArtefactService {
+
+    /**
+     * Find a stored artefact that is still within the configured max age.
+     *
+     * @param scopeKey Sprint ID, or {@link AIArtefact#HISTORY_SCOPE} for performance insights
+     * @param type     Artefact type
+     * @return Stored artefact, or empty if none is stored or it has expired
+     */
+    Optional<AIArtefact> findFresh(String scopeKey, AIArtefact.ArtefactType type);
+
+    /**
+     * Store a result that was generated on demand by an AI endpoint.
+     * Error and rate-limit responses are ignored.
+     *
+     * @param scopeKey Sprint ID, or {@link AIArtefact#HISTORY_SCOPE}
+     * @param type     Artefact type
+     * @param content  Generated content
+     */
+    void storeOnDemand(String scopeKey, AIArtefact.ArtefactType type, String content);
+
+    /**
+     * Regenerate the given artefacts for a sprint if their input changed.
+     * Skips generation when the rate limiter is down to its reserved tokens.
+     *
+     * @param sprintId    Sprint ID
+     * @param types       Artefacts to refresh
+     * @param generatedBy Trigger name recorded on the artefact
+     */
+    void refresh(String sprintId, Set<AIArtefact.ArtefactType> types, String generatedBy);
+}
@@ -13,6 +13,13 @@ public interface AIService {
     
     String generateRiskSummary(List<TaskDto> tasks, List<TaskRiskDto> risks);
     
+    /**
+     * Generate risk summary including assignee names per task
+     * @param taskAssignees Map of taskId -> list of assignee names
+     * @return AI-generated risk summary
+     */
+    String generateRiskSummary(List<TaskDto> tasks, List<TaskRiskDto> risks, Map<String, List<String>> taskAssignees);
+    
     /**
      * Generate risk summary for a sprint by fetching tasks from database
      * @param sprintId The sprint ID
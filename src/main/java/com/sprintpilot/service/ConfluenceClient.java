@@ -1,5 +1,7 @@
 package com.sprintpilot.service;
 
+import com.sprintpilot.confluence.ConfluencePageBody;
+
 import java.util.Map;
 
 /**
@@ -31,6 +33,31 @@ public interface ConfluenceClient {
      */
     String updatePage(String pageId, String content, Integer currentVersion) throws Exception;
     
+    /**
+     * Creates a new page, writing the content straight into the request body
+     * 
+     * @param spaceKey The Confluence space key
+     * @param title Page title
+     * @param content Writer for the page content in Confluence Storage Format
+     * @param parentPageId Optional parent page ID for hierarchical structure
+     * @return Created page ID
+     * @throws Exception if page creation fails
+     */
+    String createPageStreaming(String spaceKey, String title, ConfluencePageBody content, String parentPageId) throws Exception;
+    
+    /**
+     * Replaces the content of an existing page, writing it straight into the request body.
+     * Unlike updatePage, the caller supplies title and version so the current page is not re-fetched.
+     * 
+     * @param pageId The page ID to update
+     * @param title Page title to keep
+     * @param content Writer for the new page content
+     * @param newVersion Version number to write (current version + 1)
+     * @return Updated page ID
+     * @throws Exception if page update fails
+     */
+    String updatePageStreaming(String pageId, String title, ConfluencePageBody content, int newVersion) throws Exception;
+    
     /**
      * Appends content to an existing page
      * 
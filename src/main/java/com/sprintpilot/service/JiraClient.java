@@ -30,6 +30,7 @@ public interface JiraClient {
      *
      * @param issueKeyOrId The Jira issue key or ID
      * @return List of work logs (without task reference - to be set by caller)
+     * @throws com.sprintpilot.bulkhead.BulkheadFullException if no Jira permit was granted, so the fetch never ran
      */
     List<WorkLog> fetchWorkLogsForIssue(String issueKeyOrId);
 }
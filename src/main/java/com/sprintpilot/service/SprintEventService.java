@@ -2,7 +2,9 @@ package com.sprintpilot.service;
 
 import com.sprintpilot.dto.SprintEventDto;
 import com.sprintpilot.entity.SprintEvent;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface SprintEventService {
     
@@ -26,6 +28,11 @@ public interface SprintEventService {
      */
     List<SprintEventDto> getEventsBySprintId(String sprintId);
     
+    /**
+     * Get events for several sprints in one query, grouped by sprint ID
+     */
+    Map<String, List<SprintEventDto>> getEventsBySprintIds(Collection<String> sprintIds);
+    
     /**
      * Get events by type for a sprint (MEETING, DEPLOYMENT, HOLIDAY)
      */
@@ -2,8 +2,11 @@ package com.sprintpilot.service;
 
 import com.sprintpilot.dto.SprintDto;
 import com.sprintpilot.dto.SprintEventDto;
+import com.sprintpilot.dto.SprintHeaderDto;
+import com.sprintpilot.entity.Sprint;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 public interface SprintService {
     
@@ -47,6 +50,12 @@ public interface SprintService {
 
     String getSprintName(String sprintId);
     
+    /**
+     * Opaque version of everything the sprint's pages and metrics are built from; it changes
+     * whenever the sprint, its tasks, work logs, leave days, events, members or holidays change
+     */
+    String getSprintDataVersion(String sprintId);
+    
     // New methods for active sprint detection and templates
     SprintDto getCurrentActiveSprint();
     
@@ -54,5 +63,23 @@ public interface SprintService {
     
     List<SprintDto> getSprintTemplates();
     
+    long countSprintTemplates();
+    
+    // Variants that only load the requested nested lists
+    List<SprintDto> getAllSprints(Set<SprintDto.Include> includes);
+    
+    List<SprintDto> getActiveSprints(Set<SprintDto.Include> includes);
+    
+    List<SprintDto> getArchivedSprints(Set<SprintDto.Include> includes);
+    
+    List<SprintDto> getSprintTemplates(Set<SprintDto.Include> includes);
+    
+    SprintDto getCurrentActiveSprint(Set<SprintDto.Include> includes);
+    
+    /**
+     * Sprint headers with counts instead of nested lists; null status returns all sprints
+     */
+    List<SprintHeaderDto> getSprintHeaders(Sprint.SprintStatus status);
+    
     SprintDto createSprintFromTemplate(String templateSprintId, LocalDate newStartDate);
 }
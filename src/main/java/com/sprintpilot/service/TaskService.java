@@ -18,15 +18,17 @@ public interface TaskService {
     List<TaskResponseDto> getTasksBySprintId(String sprintId);
     
     /**
-     * Get tasks for a specific sprint with pagination and optional risk factor filtering
+     * Get tasks for a specific sprint with pagination and optional risk factor filtering.
+     * Tasks are ordered by primary assignee name, priority and id.
      * 
      * @param sprintId The sprint ID
      * @param riskFactor Risk factor filter (ON_TRACK, AT_RISK, OFF_TRACK) - null for all
-     * @param page Page number (0-based)
+     * @param page Page number (0-based); only used to skip rows when no cursor is given
      * @param size Number of items per page
+     * @param cursor nextCursor from the previous page, or null to start from page
      * @return Paginated task response
      */
-    TaskPageResponse getTasksBySprintIdPaginated(String sprintId, String riskFactor, int page, int size);
+    TaskPageResponse getTasksBySprintIdPaginated(String sprintId, String riskFactor, int page, int size, String cursor);
     
     /**
      * Analyze and update risk factors for all tasks in a sprint
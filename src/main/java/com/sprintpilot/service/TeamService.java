@@ -11,6 +11,8 @@ public interface TeamService {
     
     TeamMemberDto updateTeamMember(String id, TeamMemberDto memberDto, String sprintId);
     
+    TeamMemberDto replaceLeaveDays(String id, List<String> leaveDays, String sprintId);
+    
     TeamMemberDto getTeamMemberById(String id);
     
     TeamMemberDto getTeamMemberById(String id, String sprintId);
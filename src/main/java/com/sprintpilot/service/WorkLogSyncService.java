@@ -1,6 +1,7 @@
 package com.sprintpilot.service;
 
 import com.sprintpilot.entity.Task;
+import com.sprintpilot.entity.WorkLog;
 import java.util.List;
 
 /**
@@ -15,5 +16,14 @@ public interface WorkLogSyncService {
      * @param tasks List of tasks to fetch work logs for
      */
     void syncWorkLogsAsync(List<Task> tasks);
+    
+    /**
+     * Replace the stored work logs of a task in one transaction, within the background connection limit
+     * 
+     * @param task Task the work logs belong to
+     * @param workLogs Work logs fetched from Jira
+     * @return Number of work logs saved
+     */
+    int replaceWorkLogs(Task task, List<WorkLog> workLogs);
 }
 
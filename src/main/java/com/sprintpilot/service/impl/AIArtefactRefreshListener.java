@@ -0,0 +1,58 @@
+package com.sprintpilot.service.impl;
+
+import com.sprintpilot.entity.AIArtefact;
+import com.sprintpilot.event.SprintArchivedEvent;
+import com.sprintpilot.event.TaskChangedEvent;
+import com.sprintpilot.service.AIArtefactService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Kicks off AI artefact precomputation when sprint data changes.
+ * Domain events arrive after the publishing transaction commits; the refresh runs
+ * on the shared task executor.
+ */
+@Component
+@Slf4j
+public class AIArtefactRefreshListener {
+
+    @Autowired
+    private AIArtefactService aiArtefactService;
+
+    @Value("${app.ai.precompute.enabled:true}")
+    private boolean precomputeEnabled;
+
+    @Async("taskExecutor")
+    @EventListener
+    public void onTasksChanged(TaskChangedEvent event) {
+        Set<AIArtefact.ArtefactType> types = switch (event.change()) {
+            case JIRA_SYNC -> EnumSet.of(AIArtefact.ArtefactType.SPRINT_SUMMARY, AIArtefact.ArtefactType.RISK_SUMMARY);
+            case RISK_ASSESSED -> EnumSet.of(AIArtefact.ArtefactType.RISK_SUMMARY);
+        };
+        refresh(event.sprintId(), types, event.change().name());
+    }
+
+    /**
+     * Archived sprints feed performance insights
+     */
+    @Async("taskExecutor")
+    @EventListener
+    public void onSprintArchived(SprintArchivedEvent event) {
+        refresh(event.sprintId(), EnumSet.of(AIArtefact.ArtefactType.PERFORMANCE_INSIGHTS), "SPRINT_ARCHIVED");
+    }
+
+    private void refresh(String sprintId, Set<AIArtefact.ArtefactType> types, String trigger) {
+        if (!precomputeEnabled) {
+            return;
+        }
+        log.debug("Sprint {} changed ({}), refreshing {}", sprintId, trigger, types);
+        aiArtefactService.refresh(sprintId, types, trigger);
+    }
+}
@@ -0,0 +1,236 @@
+package com.sprintpilot.service.impl;
+
+import com.sprintpilot.dto.CapacitySummaryDto;
+import com.sprintpilot.dto.MemberUtilizationDto;
+import com.sprintpilot.dto.SprintDto;
+import com.sprintpilot.entity.AIArtefact;
+import com.sprintpilot.repository.AIArtefactRepository;
+import com.sprintpilot.service.AIArtefactService;
+import com.sprintpilot.service.AIService;
+import com.sprintpilot.service.MemberService;
+import com.sprintpilot.service.SprintService;
+import io.github.bucket4j.Bucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Precomputes AI artefacts after sprint lifecycle events.
+ *
+ * Each artefact stores a fingerprint of the data it was generated from, so a
+ * refresh only calls the model when the input actually changed. Refreshes for
+ * the same artefact are coalesced: a trigger that arrives while one is running
+ * causes a single rerun instead of queueing more model calls.
+ */
+@Service
+@Slf4j
+public class AIArtefactServiceImpl implements AIArtefactService {
+
+    private static final String ON_DEMAND = "ON_DEMAND";
+
+    @Autowired
+    private AIArtefactRepository artefactRepository;
+
+    @Autowired
+    private AIService aiService;
+
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private RiskSummaryHelper riskSummaryHelper;
+
+    @Autowired
+    private PerformanceInsightsHelper performanceInsightsHelper;
+
+    @Autowired
+    private Bucket rateLimiterBucket;
+
+    @Value("${app.ai.precompute.max-age-minutes:360}")
+    private long maxAgeMinutes;
+
+    @Value("${app.ai.precompute.reserved-tokens:5}")
+    private long reservedTokens;
+
+    // Key -> rerun requested while in flight
+    private final Map<String, Boolean> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<AIArtefact> findFresh(String scopeKey, AIArtefact.ArtefactType type) {
+        if (scopeKey == null) {
+            return Optional.empty();
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(maxAgeMinutes);
+        return artefactRepository.findByScopeKeyAndArtefactType(scopeKey, type)
+                .filter(artefact -> artefact.getGeneratedAt().isAfter(cutoff));
+    }
+
+    @Override
+    public void storeOnDemand(String scopeKey, AIArtefact.ArtefactType type, String content) {
+        if (scopeKey == null || !isUsable(content)) {
+            return;
+        }
+        // No fingerprint: the next lifecycle event will regenerate from stored data
+        save(scopeKey, type, content, null, ON_DEMAND);
+    }
+
+    @Override
+    public void refresh(String sprintId, Set<AIArtefact.ArtefactType> types, String generatedBy) {
+        for (AIArtefact.ArtefactType type : types) {
+            String scopeKey = type == AIArtefact.ArtefactType.PERFORMANCE_INSIGHTS
+                    ? AIArtefact.HISTORY_SCOPE
+                    : sprintId;
+            runCoalesced(scopeKey + ":" + type, () -> {
+                try {
+                    refreshArtefact(scopeKey, type, generatedBy);
+                } catch (Exception e) {
+                    log.warn("Failed to precompute {} for {}: {}", type, scopeKey, e.getMessage());
+                }
+            });
+        }
+    }
+
+    private void refreshArtefact(String scopeKey, AIArtefact.ArtefactType type, String generatedBy) {
+        PreparedInput input = switch (type) {
+            case SPRINT_SUMMARY -> prepareSprintSummary(scopeKey);
+            case RISK_SUMMARY -> prepareRiskSummary(scopeKey);
+            case PERFORMANCE_INSIGHTS -> preparePerformanceInsights();
+        };
+        if (input == null) {
+            log.debug("No input data for {} on {}, skipping precompute", type, scopeKey);
+            return;
+        }
+
+        String fingerprint = fingerprint(input.fingerprintSource());
+        Optional<AIArtefact> existing = artefactRepository.findByScopeKeyAndArtefactType(scopeKey, type);
+        if (existing.isPresent() && fingerprint.equals(existing.get().getInputFingerprint())) {
+            log.debug("{} for {} is up to date", type, scopeKey);
+            return;
+        }
+
+        // Leave headroom in the bucket for interactive requests
+        if (rateLimiterBucket.getAvailableTokens() <= reservedTokens) {
+            log.info("Skipping {} precompute for {}: rate limit budget reserved for on-demand calls", type, scopeKey);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        String content = input.generator().get();
+        if (!isUsable(content)) {
+            log.warn("AI returned no usable {} for {}, keeping previous version", type, scopeKey);
+            return;
+        }
+
+        save(scopeKey, type, content, fingerprint, generatedBy);
+        log.info("Precomputed {} for {} in {} ms (trigger: {})",
+                type, scopeKey, System.currentTimeMillis() - start, generatedBy);
+    }
+
+    private PreparedInput prepareSprintSummary(String sprintId) {
+        SprintDto sprint = sprintService.getSprintWithFullDetails(sprintId);
+        if (sprint == null || sprint.tasks().isEmpty()) {
+            return null;
+        }
+        List<CapacitySummaryDto> workload = memberService.getMemberUtilizationBySprintId(sprintId).stream()
+                .map(this::toCapacitySummary)
+                .collect(Collectors.toList());
+        String source = sprint.toString() + workload;
+        return new PreparedInput(source,
+                () -> aiService.generateSprintSummary(sprint.teamMembers(), sprint, sprint.tasks(), workload));
+    }
+
+    private PreparedInput prepareRiskSummary(String sprintId) {
+        RiskSummaryHelper.RiskSummaryData data = riskSummaryHelper.prepareRiskSummaryData(sprintId);
+        if (data == null) {
+            return null;
+        }
+        return new PreparedInput(data.toString(),
+                () -> aiService.generateRiskSummary(data.tasks(), data.risks(), data.taskAssignees()));
+    }
+
+    private PreparedInput preparePerformanceInsights() {
+        PerformanceInsightsHelper.PerformanceData data = performanceInsightsHelper.preparePerformanceData();
+        if (data == null) {
+            return null;
+        }
+        return new PreparedInput(data.toString(),
+                () -> aiService.analyzeHistoricalPerformance(
+                        data.sprints(), data.velocityTrend(), data.workMixTrend(), data.roleUtilization()));
+    }
+
+    private CapacitySummaryDto toCapacitySummary(MemberUtilizationDto utilization) {
+        BigDecimal capacity = utilization.capacity() != null ? utilization.capacity().max(BigDecimal.ZERO) : BigDecimal.ZERO;
+        BigDecimal assigned = utilization.remainingEstimate() != null ? utilization.remainingEstimate().max(BigDecimal.ZERO) : BigDecimal.ZERO;
+        return new CapacitySummaryDto(utilization.memberId(), utilization.name(), capacity, assigned, null, null);
+    }
+
+    private void save(String scopeKey, AIArtefact.ArtefactType type, String content,
+                      String fingerprint, String generatedBy) {
+        AIArtefact artefact = artefactRepository.findByScopeKeyAndArtefactType(scopeKey, type)
+                .orElseGet(AIArtefact::new);
+        artefact.setScopeKey(scopeKey);
+        artefact.setArtefactType(type);
+        artefact.setContent(content);
+        artefact.setInputFingerprint(fingerprint);
+        artefact.setGeneratedBy(generatedBy);
+        artefact.setGeneratedAt(LocalDateTime.now());
+        try {
+            artefactRepository.save(artefact);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent writer stored the same artefact first; its content is equally fresh
+            log.debug("Concurrent write for {} on {} ignored", type, scopeKey);
+        }
+    }
+
+    /**
+     * Run work for a key at most once at a time. A request that arrives while
+     * the key is running marks it dirty, and the running thread loops once more.
+     */
+    private void runCoalesced(String key, Runnable work) {
+        if (inFlight.compute(key, (k, rerun) -> rerun == null ? Boolean.FALSE : Boolean.TRUE) != Boolean.FALSE) {
+            log.debug("Precompute for {} already running, coalescing", key);
+            return;
+        }
+        do {
+            work.run();
+        } while (inFlight.compute(key, (k, rerun) -> Boolean.TRUE.equals(rerun) ? Boolean.FALSE : null) != null);
+    }
+
+    private boolean isUsable(String content) {
+        return content != null
+                && !content.isBlank()
+                && !content.startsWith("**Rate Limit Exceeded**")
+                && !content.startsWith("**AI Service Error**")
+                && !content.equals("AI features are disabled");
+    }
+
+    private String fingerprint(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record PreparedInput(String fingerprintSource, Supplier<String> generator) {}
+}
@@ -1,14 +1,21 @@
 package com.sprintpilot.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintpilot.bulkhead.DownstreamBulkheads;
 import com.sprintpilot.config.AtlassianConfigProperties;
+import com.sprintpilot.confluence.ChunkedBodyPublisher;
+import com.sprintpilot.confluence.ConfluencePageBody;
+import com.sprintpilot.confluence.JsonStringWriter;
 import com.sprintpilot.service.ConfluenceClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -29,6 +36,9 @@ public class ConfluenceClientImpl implements ConfluenceClient {
     @Autowired
     private AtlassianConfigProperties atlassianConfig;
     
+    @Autowired
+    private DownstreamBulkheads downstreamBulkheads;
+    
     private final ObjectMapper objectMapper = new ObjectMapper();
     private HttpClient httpClient;
     
@@ -112,7 +122,7 @@ public class ConfluenceClientImpl implements ConfluenceClient {
                 .POST(HttpRequest.BodyPublishers.ofString(requestBodyJson))
                 .build();
         
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request);
         
         if (response.statusCode() != 200) {
             throw new RuntimeException("Confluence API returned status code: " + response.statusCode() + 
@@ -163,7 +173,7 @@ public class ConfluenceClientImpl implements ConfluenceClient {
                 .PUT(HttpRequest.BodyPublishers.ofString(requestBodyJson))
                 .build();
         
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request);
         
         if (response.statusCode() != 200) {
             throw new RuntimeException("Confluence API returned status code: " + response.statusCode() + 
@@ -176,17 +186,126 @@ public class ConfluenceClientImpl implements ConfluenceClient {
         return updatedPageId;
     }
     
+    @Override
+    public String createPageStreaming(String spaceKey, String title, ConfluencePageBody content,
+                                      String parentPageId) throws Exception {
+        String url = getConfluenceBaseUrl() + "/rest/api/content";
+        
+        log.debug("Creating Confluence page (streamed body): {}", title);
+        
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Authorization", getBasicAuthHeader())
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .timeout(atlassianConfig.getReadTimeout())
+                .POST(ChunkedBodyPublisher.of(out -> writePageRequest(out, null, title, spaceKey, null, parentPageId, content),
+                        atlassianConfig.getReadTimeout()))
+                .build();
+        
+        HttpResponse<String> response = send(request);
+        
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("Confluence API returned status code: " + response.statusCode() + 
+                    ", body: " + response.body());
+        }
+        
+        String pageId = objectMapper.readTree(response.body()).get("id").asText();
+        log.info("Confluence page created successfully: {} (ID: {})", title, pageId);
+        return pageId;
+    }
+    
+    @Override
+    public String updatePageStreaming(String pageId, String title, ConfluencePageBody content,
+                                      int newVersion) throws Exception {
+        String url = getConfluenceBaseUrl() + "/rest/api/content/" + pageId;
+        
+        log.debug("Updating Confluence page (streamed body): {} to version {}", pageId, newVersion);
+        
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Authorization", getBasicAuthHeader())
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .timeout(atlassianConfig.getReadTimeout())
+                .PUT(ChunkedBodyPublisher.of(out -> writePageRequest(out, pageId, title, null, newVersion, null, content),
+                        atlassianConfig.getReadTimeout()))
+                .build();
+        
+        HttpResponse<String> response = send(request);
+        
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("Confluence API returned status code: " + response.statusCode() + 
+                    ", body: " + response.body());
+        }
+        
+        String updatedPageId = objectMapper.readTree(response.body()).get("id").asText();
+        log.info("Confluence page updated successfully: {}", updatedPageId);
+        return updatedPageId;
+    }
+    
+    /**
+     * Writes the create/update JSON payload directly to the request body.
+     * Same shape as the Map-based payload, but body.storage.value is streamed from the
+     * page writer through a JSON-escaping writer instead of being held as a string.
+     */
+    private void writePageRequest(OutputStream out, String pageId, String title, String spaceKey,
+                                  Integer version, String parentPageId, ConfluencePageBody content) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            if (pageId != null) {
+                generator.writeStringField("id", pageId);
+            }
+            generator.writeStringField("type", "page");
+            generator.writeStringField("title", title);
+            if (spaceKey != null) {
+                generator.writeObjectFieldStart("space");
+                generator.writeStringField("key", spaceKey);
+                generator.writeEndObject();
+            }
+            if (version != null) {
+                generator.writeObjectFieldStart("version");
+                generator.writeNumberField("number", version);
+                generator.writeEndObject();
+            }
+            if (parentPageId != null && !parentPageId.isEmpty()) {
+                generator.writeArrayFieldStart("ancestors");
+                generator.writeStartObject();
+                generator.writeStringField("id", parentPageId);
+                generator.writeEndObject();
+                generator.writeEndArray();
+            }
+            
+            generator.writeObjectFieldStart("body");
+            generator.writeObjectFieldStart("storage");
+            generator.writeStringField("representation", "storage");
+            generator.writeFieldName("value");
+            // Opening quote goes through writeRawValue so the generator records the value
+            generator.writeRawValue("\"");
+            JsonStringWriter valueWriter = new JsonStringWriter(generator);
+            content.writeTo(valueWriter);
+            valueWriter.close();
+            generator.writeRaw('"');
+            generator.writeEndObject();
+            generator.writeEndObject();
+            
+            generator.writeEndObject();
+        }
+    }
+    
     @Override
     public String appendToPage(String pageId, String contentSection, Integer currentVersion) throws Exception {
         // Get current page content
         Map<String, Object> currentPage = getPage(pageId);
         String currentContent = extractContentFromPage(currentPage);
-        
-        // Append new section
-        String newContent = currentContent + "\n\n" + contentSection;
-        
-        // Update page with appended content
-        return updatePage(pageId, newContent, currentVersion);
+        int version = currentVersion != null ? currentVersion : (Integer) currentPage.get("version") + 1;
+        
+        // Stream the current content followed by the new section; the combined page is never built
+        return updatePageStreaming(pageId, (String) currentPage.get("title"), out -> {
+            out.write(currentContent);
+            out.write("\n\n");
+            out.write(contentSection);
+        }, version);
     }
     
     @Override
@@ -202,7 +321,7 @@ public class ConfluenceClientImpl implements ConfluenceClient {
                 .GET()
                 .build();
         
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request);
         
         if (response.statusCode() != 200) {
             throw new RuntimeException("Confluence API returned status code: " + response.statusCode() + 
@@ -254,7 +373,7 @@ public class ConfluenceClientImpl implements ConfluenceClient {
                 .GET()
                 .build();
         
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request);
         
         if (response.statusCode() != 200) {
             throw new RuntimeException("Confluence API returned status code: " + response.statusCode() + 
@@ -295,6 +414,13 @@ public class ConfluenceClientImpl implements ConfluenceClient {
         return "";
     }
     
+    /**
+     * Sends a Confluence request once a Confluence bulkhead permit is free
+     */
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return downstreamBulkheads.confluence().call(() -> httpClient.send(request, HttpResponse.BodyHandlers.ofString()));
+    }
+    
     /**
      * Creates Basic Auth header using Atlassian credentials
      */
@@ -1,23 +1,49 @@
 package com.sprintpilot.service.impl;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sprintpilot.confluence.ConfluencePageBody;
 import com.sprintpilot.confluence.ConfluencePageBuilder;
+import com.sprintpilot.confluence.ConfluenceSectionSplicer;
 import com.sprintpilot.dto.HolidayDto;
 import com.sprintpilot.dto.SprintDto;
 import com.sprintpilot.dto.WorkDistributionDto;
+import com.sprintpilot.entity.ConfluencePageSection;
+import com.sprintpilot.entity.ConfluencePageSync;
+import com.sprintpilot.repository.ConfluencePageSectionRepository;
+import com.sprintpilot.repository.ConfluencePageSyncRepository;
 import com.sprintpilot.service.ConfluenceClient;
 import com.sprintpilot.service.ConfluenceService;
 import com.sprintpilot.service.HolidayService;
 import com.sprintpilot.service.SprintMetricsService;
+import com.sprintpilot.template.CompiledTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Implementation of ConfluenceService
@@ -29,11 +55,21 @@ public class ConfluenceServiceImpl implements ConfluenceService {
     
     private static final Logger log = LoggerFactory.getLogger(ConfluenceServiceImpl.class);
     
+    private static final String PLANNING_TEMPLATE = "sprint-planning-page.html";
+    private static final String SUMMARY_TEMPLATE = "sprint-summary-section.html";
+    
     private final ConfluenceClient confluenceClient;
     private final ConfluencePageBuilder pageBuilder;
     private final String defaultSpaceKey;
     private final HolidayService holidayService;
     private final SprintMetricsService sprintMetricsService;
+    private final boolean streamingExport;
+    private final ConfluencePageSyncRepository pageSyncRepository;
+    private final ConfluencePageSectionRepository pageSectionRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    // Summary source data is stored compactly; the shared mapper indents its output
+    private final ObjectMapper sectionJsonMapper = new ObjectMapper().registerModule(new JavaTimeModule());
     
     @Autowired
     public ConfluenceServiceImpl(
@@ -41,12 +77,20 @@ public class ConfluenceServiceImpl implements ConfluenceService {
             ConfluencePageBuilder pageBuilder,
             @Value("${confluence.space-key:SP}") String defaultSpaceKey,
             HolidayService holidayService,
-            SprintMetricsService sprintMetricsService) {
+            SprintMetricsService sprintMetricsService,
+            @Value("${confluence.streaming-export.enabled:true}") boolean streamingExport,
+            ConfluencePageSyncRepository pageSyncRepository,
+            ConfluencePageSectionRepository pageSectionRepository,
+            PlatformTransactionManager transactionManager) {
         this.confluenceClient = confluenceClient;
         this.pageBuilder = pageBuilder;
         this.defaultSpaceKey = defaultSpaceKey;
         this.holidayService = holidayService;
         this.sprintMetricsService = sprintMetricsService;
+        this.streamingExport = streamingExport;
+        this.pageSyncRepository = pageSyncRepository;
+        this.pageSectionRepository = pageSectionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     @Override
@@ -79,38 +123,10 @@ public class ConfluenceServiceImpl implements ConfluenceService {
         String actualSpaceKey = spaceKey != null ? spaceKey : defaultSpaceKey;
         
         try {
-            // Build page title: "Sprint {sprintId} - {month} {year}"
-            String pageTitle = buildSprintPageTitle(sprintDto);
-            
-            // Search for existing page
-            String pageId = confluenceClient.searchPageByTitle(actualSpaceKey, pageTitle);
-            
-            if (pageId == null) {
-                log.warn("Confluence page not found: {}. Creating new page.", pageTitle);
-                // Create page if it doesn't exist
-                pageId = createSprintPage(sprintDto, actualSpaceKey);
-                if (pageId == null) {
-                    return false;
-                }
-            }
-            
-            // Get current page to get version
-            Map<String, Object> currentPage = confluenceClient.getPage(pageId);
-            Integer currentVersion = (Integer) currentPage.get("version");
-            
-            // Build summary section variables
-            Map<String, String> variables = buildSummarySectionVariables(sprintDto, summaryData);
-            
-            // Build summary section from template
-            String summaryContent = pageBuilder.buildPageContent("sprint-summary-section.html", variables);
-            
-            // Convert HTML to Confluence format
-            String confluenceSummary = pageBuilder.htmlToConfluenceStorage(summaryContent);
-            
-            // Append summary to existing page
-            confluenceClient.appendToPage(pageId, confluenceSummary, currentVersion);
-            
-            log.info("Confluence page updated with summary: {} (ID: {})", pageTitle, pageId);
+            // The summary is stored as its own section and written below the planning content,
+            // so repeated calls replace it instead of appending another copy
+            PageRef page = syncSprintPage(sprintDto, actualSpaceKey, summaryData != null ? summaryData : Map.of());
+            log.info("Confluence page up to date with summary: {} (ID: {})", buildSprintPageTitle(sprintDto), page.pageId());
             return true;
             
         } catch (Exception e) {
@@ -124,7 +140,7 @@ public class ConfluenceServiceImpl implements ConfluenceService {
         // Check if Confluence is configured (space key is set)
         return defaultSpaceKey != null && !defaultSpaceKey.trim().isEmpty();
     }
-
+    
     @Override
     public String generateSprintExportLink(SprintDto sprintDto, String spaceKey) {
         if (!isEnabled() || sprintDto == null) {
@@ -133,12 +149,20 @@ public class ConfluenceServiceImpl implements ConfluenceService {
         
         String actualSpaceKey = spaceKey != null ? spaceKey : defaultSpaceKey;
         try {
-            String pageId = ensureSprintPlanningPage(sprintDto, actualSpaceKey);
-            if (pageId == null) {
-                return null;
+            PageRef page = syncSprintPage(sprintDto, actualSpaceKey, null);
+            if (page.pageUrl() != null) {
+                return page.pageUrl();
             }
-            Map<String, Object> pageData = confluenceClient.getPage(pageId);
-            return extractPageUrl(pageData);
+            // First export of this page: read the link once and keep it with the sync state
+            Map<String, Object> pageData = confluenceClient.getPage(page.pageId());
+            String pageUrl = extractPageUrl(pageData);
+            if (pageUrl != null && sprintDto.id() != null) {
+                pageSyncRepository.findBySprintId(sprintDto.id()).ifPresent(sync -> {
+                    sync.setPageUrl(pageUrl);
+                    pageSyncRepository.save(sync);
+                });
+            }
+            return pageUrl;
         } catch (Exception e) {
             log.error("Failed to generate Confluence export link for sprint: {}", sprintDto.id(), e);
             return null;
@@ -160,52 +184,350 @@ public class ConfluenceServiceImpl implements ConfluenceService {
     }
     
     private String ensureSprintPlanningPage(SprintDto sprintDto, String spaceKey) throws Exception {
+        return syncSprintPage(sprintDto, spaceKey, null).pageId();
+    }
+    
+    /**
+     * Brings the sprint's Confluence page in line with current sprint data.
+     *
+     * Each page section is fingerprinted from the DTO data it is rendered from and compared
+     * with the hashes stored on the last sync. If nothing changed the stored page reference is
+     * returned without calling Confluence. Otherwise the current page body is fetched and only
+     * the changed sections are rendered into it, tables included, while the rest of the body is
+     * copied through; see {@link ConfluenceSectionSplicer}. Sections meant for manual entry
+     * (goals, risks, deployment plan, retro action items) are only written when the page is
+     * created. Only the hashes are stored, never rendered HTML.
+     *
+     * @param summaryData Completion summary to (re)write, or null to keep the one on the page
+     */
+    private PageRef syncSprintPage(SprintDto sprintDto, String spaceKey, Map<String, Object> summaryData) throws Exception {
+        String sprintId = sprintDto.id();
         String pageTitle = buildSprintPageTitle(sprintDto);
-        String pageId = confluenceClient.searchPageByTitle(spaceKey, pageTitle);
-        
-        Map<String, String> variables = buildPlanningPageVariables(sprintDto);
-        String content = pageBuilder.buildPageContent("sprint-planning-page.html", variables);
-        String confluenceContent = pageBuilder.htmlToConfluenceStorage(content);
-        
-        if (pageId != null) {
-            // Page exists - update it with latest data
-            Map<String, Object> currentPage = confluenceClient.getPage(pageId);
-            Integer currentVersion = (Integer) currentPage.get("version");
-            confluenceClient.updatePage(pageId, confluenceContent, currentVersion + 1);
-            log.info("Updated existing Confluence page: {} (ID: {})", pageTitle, pageId);
-            return pageId;
+        
+        ConfluencePageSync sync = sprintId != null ? pageSyncRepository.findBySprintId(sprintId).orElse(null) : null;
+        if (sync != null && !spaceKey.equals(sync.getSpaceKey())) {
+            // Exporting to another space: that is a different page
+            sync = null;
+        }
+        Map<PageSection, ConfluencePageSection> stored = new EnumMap<>(PageSection.class);
+        if (sprintId != null) {
+            for (ConfluencePageSection section : pageSectionRepository.findBySprintId(sprintId)) {
+                PageSection.fromKey(section.getSectionKey()).ifPresent(key -> stored.put(key, section));
+            }
+        }
+        
+        List<HolidayDto> holidays = fetchSprintHolidays(sprintDto);
+        Map<PageSection, String> hashes = hashSections(sprintDto, pageTitle, holidays, summaryData);
+        List<PageSection> changed = new ArrayList<>();
+        for (Map.Entry<PageSection, String> entry : hashes.entrySet()) {
+            ConfluencePageSection previous = stored.get(entry.getKey());
+            if (previous == null || !previous.getContentHash().equals(entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+        
+        if (sync != null && changed.isEmpty()) {
+            log.debug("Confluence page for sprint {} is unchanged, skipping sync (ID: {})", sprintId, sync.getPageId());
+            return new PageRef(sync.getPageId(), sync.getPageUrl());
+        }
+        
+        // Without sync state, or after a template or title change, every generated section is rewritten
+        Set<PageSection> rewrite = sync == null || changed.contains(PageSection.LAYOUT)
+                ? EnumSet.allOf(PageSection.class)
+                : EnumSet.copyOf(changed);
+        SummarySource summary = null;
+        if (summaryData != null) {
+            summary = new SummarySource(summaryData, java.time.LocalDateTime.now());
+        } else if (rewrite.contains(PageSection.SUMMARY)) {
+            // Template change: write the summary that is on the page again from its stored source
+            summary = readSummarySource(stored.get(PageSection.SUMMARY));
+        }
+        
+        log.info("Syncing Confluence page {} for sprint {}; changed sections: {}", pageTitle, sprintId,
+                sync == null ? "all" : changed);
+        PageRef page = writeSprintPage(sync, spaceKey, pageTitle, sprintDto, holidays, summary, rewrite);
+        
+        if (sprintId != null) {
+            saveSyncState(sync, sprintId, spaceKey, pageTitle, page, hashes, summaryData, stored,
+                    sync == null ? hashes.keySet() : changed);
+        }
+        return page;
+    }
+    
+    /**
+     * Writes the page: the sections to rewrite are spliced into the current body of an existing
+     * page, a missing page is created in full. The page is found by the stored page ID first and
+     * by title search when there is no sync state or the stored page is gone.
+     */
+    private PageRef writeSprintPage(ConfluencePageSync sync, String spaceKey, String pageTitle, SprintDto sprintDto,
+                                    List<HolidayDto> holidays, SummarySource summary,
+                                    Set<PageSection> rewrite) throws Exception {
+        Map<String, Object> currentPage = null;
+        if (sync != null) {
+            try {
+                currentPage = confluenceClient.getPage(sync.getPageId());
+            } catch (Exception e) {
+                log.warn("Confluence page {} could not be read, searching by title: {}", sync.getPageId(), e.getMessage());
+            }
+        }
+        if (currentPage == null) {
+            String pageId = confluenceClient.searchPageByTitle(spaceKey, pageTitle);
+            if (pageId != null) {
+                currentPage = confluenceClient.getPage(pageId);
+            }
+        }
+        
+        if (currentPage != null) {
+            String pageId = (String) currentPage.get("id");
+            String content = (String) currentPage.getOrDefault("content", "");
+            Set<String> present = ConfluenceSectionSplicer.sectionKeys(content);
+            Map<String, ConfluencePageBody> sections = buildSectionBodies(sprintDto, holidays, summary, sync, rewrite);
+            // A section that is not on the page is not added back, except the summary, which is
+            // appended like the completion summary always was
+            List<String> missing = new ArrayList<>();
+            sections.keySet().removeIf(key -> {
+                boolean absent = !present.contains(key) && !key.equals(PageSection.SUMMARY.key());
+                if (absent) {
+                    missing.add(key);
+                }
+                return absent;
+            });
+            if (!missing.isEmpty()) {
+                log.warn("Confluence page {} has no {} section(s), leaving them out", pageId, missing);
+            }
+            int nextVersion = (Integer) currentPage.get("version") + 1;
+            updatePage(pageId, pageTitle, ConfluenceSectionSplicer.splice(content, sections), nextVersion);
+            log.info("Updated sections {} of Confluence page: {} (ID: {})", sections.keySet(), pageTitle, pageId);
+            return new PageRef(pageId, extractPageUrl(currentPage), nextVersion);
+        }
+        
+        // Page doesn't exist - create new one
+        ConfluencePageBody body = buildSprintPageBody(sprintDto, holidays, summary, sync);
+        String newPageId;
+        if (streamingExport) {
+            newPageId = confluenceClient.createPageStreaming(spaceKey, pageTitle, body, null);
         } else {
-            // Page doesn't exist - create new one
-            String newPageId = confluenceClient.createPage(spaceKey, pageTitle, confluenceContent, null);
-            log.info("Created new Confluence page: {} (ID: {})", pageTitle, newPageId);
-            return newPageId;
+            newPageId = confluenceClient.createPage(spaceKey, pageTitle, renderToString(body), null);
         }
+        log.info("Created new Confluence page: {} (ID: {})", pageTitle, newPageId);
+        return new PageRef(newPageId, null, 1);
     }
     
-    private String extractPageUrl(Map<String, Object> pageData) {
-        if (pageData == null) {
-            return null;
+    private void updatePage(String pageId, String pageTitle, ConfluencePageBody body, int nextVersion) throws Exception {
+        if (streamingExport) {
+            confluenceClient.updatePageStreaming(pageId, pageTitle, body, nextVersion);
+        } else {
+            confluenceClient.updatePage(pageId, renderToString(body), nextVersion);
         }
-        Object webUrl = pageData.get("webUrl");
-        if (webUrl instanceof String url && !url.isBlank()) {
-            return url;
+    }
+    
+    /**
+     * Stores the page reference and the hashes of the written sections in one transaction,
+     * so the sync row never points at a page whose section hashes are from another write.
+     * The summary row also keeps the summary's source data, which a later planning re-sync
+     * needs to write the summary again.
+     */
+    private void saveSyncState(ConfluencePageSync sync, String sprintId, String spaceKey, String pageTitle,
+                               PageRef page, Map<PageSection, String> hashes, Map<String, Object> summaryData,
+                               Map<PageSection, ConfluencePageSection> stored,
+                               Collection<PageSection> written) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                ConfluencePageSync state = sync != null ? sync
+                        : pageSyncRepository.findBySprintId(sprintId).orElseGet(ConfluencePageSync::new);
+                state.setSprintId(sprintId);
+                state.setSpaceKey(spaceKey);
+                state.setPageId(page.pageId());
+                state.setPageTitle(pageTitle);
+                state.setPageVersion(page.version());
+                if (page.pageUrl() != null) {
+                    state.setPageUrl(page.pageUrl());
+                }
+                state.setSyncedAt(java.time.LocalDateTime.now());
+                pageSyncRepository.save(state);
+                
+                List<ConfluencePageSection> toSave = new ArrayList<>();
+                for (PageSection key : written) {
+                    ConfluencePageSection section = stored.getOrDefault(key, new ConfluencePageSection());
+                    section.setSprintId(sprintId);
+                    section.setSectionKey(key.key());
+                    section.setContentHash(hashes.get(key));
+                    section.setContent(key == PageSection.SUMMARY ? writeSummarySource(summaryData) : null);
+                    toSave.add(section);
+                }
+                pageSectionRepository.saveAll(toSave);
+            });
+        } catch (Exception e) {
+            // The page itself was written; the next export will simply sync again
+            log.warn("Failed to store Confluence sync state for sprint {}: {}", sprintId, e.getMessage());
         }
-        Object tiny = pageData.get("tinyUrl");
-        if (tiny instanceof String tinyUrl && !tinyUrl.isBlank()) {
-            return tinyUrl;
+    }
+    
+    /**
+     * Whole page for a new page: every part of the planning template in order, the generated
+     * ones between section markers, followed by the summary section when there is one
+     */
+    private ConfluencePageBody buildSprintPageBody(SprintDto sprintDto, List<HolidayDto> holidays,
+                                                   SummarySource summary, ConfluencePageSync sync) throws Exception {
+        Map<String, String> variables = new HashMap<>();
+        Map<String, CompiledTemplate.Fragment> fragments = new HashMap<>();
+        buildPlanningVariables(sprintDto, holidays, sync, EnumSet.allOf(PagePart.class), variables, fragments);
+        List<ConfluencePageBody> parts = new ArrayList<>();
+        for (PagePart part : PagePart.values()) {
+            ConfluencePageBody body = buildPartBody(part, variables, fragments);
+            parts.add(part.marker() != null ? ConfluenceSectionSplicer.marked(part.marker(), body) : body);
         }
-        return null;
+        if (summary != null) {
+            parts.add(ConfluenceSectionSplicer.marked(PageSection.SUMMARY.key(), buildSummaryBody(sprintDto, summary)));
+        }
+        return out -> {
+            for (ConfluencePageBody part : parts) {
+                part.writeTo(out);
+            }
+        };
     }
     
     /**
-     * Builds variables for sprint planning page template
+     * New content of the generated sections to rewrite, by section marker. The footer with the
+     * last-updated time goes along with every write.
      */
-    private Map<String, String> buildPlanningPageVariables(SprintDto sprintDto) {
+    private Map<String, ConfluencePageBody> buildSectionBodies(SprintDto sprintDto, List<HolidayDto> holidays,
+                                                               SummarySource summary, ConfluencePageSync sync,
+                                                               Set<PageSection> rewrite) throws Exception {
+        Set<PagePart> parts = EnumSet.noneOf(PagePart.class);
+        for (PagePart part : PagePart.values()) {
+            if (part.marker() != null && (part.section() == null || rewrite.contains(part.section()))) {
+                parts.add(part);
+            }
+        }
+        Map<String, String> variables = new HashMap<>();
+        Map<String, CompiledTemplate.Fragment> fragments = new HashMap<>();
+        buildPlanningVariables(sprintDto, holidays, sync, parts, variables, fragments);
+        Map<String, ConfluencePageBody> sections = new LinkedHashMap<>();
+        for (PagePart part : parts) {
+            sections.put(part.marker(), buildPartBody(part, variables, fragments));
+        }
+        if (summary != null && rewrite.contains(PageSection.SUMMARY)) {
+            sections.put(PageSection.SUMMARY.key(), buildSummaryBody(sprintDto, summary));
+        }
+        return sections;
+    }
+    
+    /**
+     * One part of the planning template: the template rendered with only that part's block switched on
+     */
+    private ConfluencePageBody buildPartBody(PagePart part, Map<String, String> variables,
+                                             Map<String, CompiledTemplate.Fragment> fragments) throws Exception {
+        Map<String, String> partVariables = new HashMap<>(variables);
+        partVariables.put(part.block(), "true");
+        return pageBuilder.buildPageBody(PLANNING_TEMPLATE, partVariables, fragments);
+    }
+    
+    private ConfluencePageBody buildSummaryBody(SprintDto sprintDto, SummarySource summary) throws Exception {
+        Map<String, CompiledTemplate.Fragment> summaryFragments = new HashMap<>();
+        Map<String, String> summaryVariables = buildSummarySectionVariables(sprintDto, summary, summaryFragments);
+        return pageBuilder.buildPageBody(SUMMARY_TEMPLATE, summaryVariables, summaryFragments);
+    }
+    
+    /**
+     * Planning template values for the given parts. Scalar values are small strings; the tables
+     * are fragments written into the body while it is sent. The work distribution is only
+     * queried when that part is written. Created-at is kept from the first sync so it does not
+     * change on every write.
+     */
+    private void buildPlanningVariables(SprintDto sprintDto, List<HolidayDto> holidays, ConfluencePageSync sync,
+                                        Set<PagePart> parts, Map<String, String> variables,
+                                        Map<String, CompiledTemplate.Fragment> fragments) {
+        variables.putAll(buildOverviewVariables(sprintDto));
+        variables.putAll(buildCapacityVariables(sprintDto));
+        if (parts.contains(PagePart.DISTRIBUTION)) {
+            variables.putAll(calculateCategoryBreakdown(sprintDto));
+        }
+        
+        // Team information - format as table grouped by role
+        List<com.sprintpilot.dto.TeamMemberDto> teamMembers = sprintDto.teamMembers();
+        if (!teamMembers.isEmpty()) {
+            variables.put("teamSize", String.valueOf(teamMembers.size()));
+            fragments.put("teamMembersTable", html -> writeTeamMembersTable(teamMembers, html));
+        } else {
+            variables.put("teamSize", "0");
+            variables.put("teamMembersTable", "<p><em>No team members assigned.</em></p>");
+        }
+        
+        if (!holidays.isEmpty()) {
+            fragments.put("holidaysTable", html -> writeHolidaysTable(holidays, html));
+        } else {
+            variables.put("holidaysTable", "<p><em>No holidays during this sprint period.</em></p>");
+        }
+        
+        // Events - format as table
+        List<?> events = sprintDto.events();
+        if (!events.isEmpty()) {
+            fragments.put("eventsTable", html -> writeEventsTable(events, html));
+        } else {
+            variables.put("eventsTable", "<p><em>Sprint events to be scheduled.</em></p>");
+        }
+        
+        // Sprint goals (if available in future)
+        variables.put("sprintGoals", "<p><em>Sprint goals to be defined during planning meeting.</em></p>");
+        variables.put("risks", "<p><em>No identified risks at sprint start.</em></p>");
+        // Tasks information - removed as per requirement
+        variables.put("plannedTasks", "");
+        variables.put("totalPlannedStoryPoints", "0");
+        variables.put("createdAt", sync != null ? sync.getCreatedAt().toString() : java.time.LocalDateTime.now().toString());
+        variables.put("updatedAt", java.time.LocalDateTime.now().toString());
+        
+        fragments.put("deploymentPlanTable", this::writeDeploymentPlanTable);
+        fragments.put("retroActionItemsTable", this::writeRetroActionItemsTable);
+    }
+    
+    /**
+     * Fingerprint of every section of the page, taken from the DTO fields the section is
+     * rendered from. Nothing is rendered here, so an unchanged sprint costs no template work
+     * and no work distribution query.
+     */
+    private Map<PageSection, String> hashSections(SprintDto sprintDto, String pageTitle, List<HolidayDto> holidays,
+                                                  Map<String, Object> summaryData) throws Exception {
+        Map<PageSection, String> hashes = new EnumMap<>(PageSection.class);
+        
+        // Template or title changes rewrite the page even if the data did not change
+        hashes.put(PageSection.LAYOUT, hash(pageTitle,
+                pageBuilder.templateFingerprint(PLANNING_TEMPLATE), pageBuilder.templateFingerprint(SUMMARY_TEMPLATE)));
+        
+        hashes.put(PageSection.OVERVIEW, hash(sprintDto.id(), sprintDto.sprintName(), sprintDto.startDate(),
+                sprintDto.endDate(), sprintDto.duration(), sprintDto.status(), sprintDto.freezeDate()));
+        
+        List<com.sprintpilot.dto.TeamMemberDto> teamMembers = sprintDto.teamMembers();
+        List<com.sprintpilot.dto.TaskDto> tasks = sprintDto.tasks();
+        hashes.put(PageSection.CAPACITY, hash(sprintDto.duration(),
+                teamMembers.stream().map(m -> m.id() + "|" + m.dailyCapacity() + "|" + m.active()).sorted().toList(),
+                tasks.stream().map(t -> t.id() + "|" + t.storyPoints()).sorted().toList()));
+        
+        hashes.put(PageSection.TEAM, hash(
+                teamMembers.stream().map(m -> m.id() + "|" + m.name() + "|" + m.role()).sorted().toList()));
+        
+        // The timeline part shows the working days next to the holidays
+        hashes.put(PageSection.HOLIDAYS, hash(sprintDto.duration(), holidays));
+        
+        // Work distribution comes from SprintMetricsService, which only depends on the tasks
+        hashes.put(PageSection.DISTRIBUTION, hash(tasks.stream()
+                .map(t -> t.id() + "|" + t.category() + "|" + t.storyPoints() + "|" + t.status())
+                .sorted().toList()));
+        
+        hashes.put(PageSection.EVENTS, hash(sprintDto.events()));
+        
+        if (summaryData != null) {
+            hashes.put(PageSection.SUMMARY, hash(sprintDto.status(), new TreeMap<>(summaryData)));
+        }
+        return hashes;
+    }
+    
+    private Map<String, String> buildOverviewVariables(SprintDto sprintDto) {
         Map<String, String> variables = new HashMap<>();
         
         // Basic sprint information
-        String sprintName = sprintDto.sprintName() != null && !sprintDto.sprintName().trim().isEmpty() 
-            ? sprintDto.sprintName().trim() 
+        String sprintName = sprintDto.sprintName() != null && !sprintDto.sprintName().trim().isEmpty()
+            ? sprintDto.sprintName().trim()
             : "Sprint " + (sprintDto.id() != null ? sprintDto.id() : "Unknown");
         variables.put("sprintName", sprintName);
         variables.put("startDate", sprintDto.startDate() != null ? sprintDto.startDate().toString() : "");
@@ -221,79 +543,183 @@ public class ConfluenceServiceImpl implements ConfluenceService {
             variables.put("freezeDate", "");
             variables.put("freezeDateRow", "");
         }
-        
-        // Team information - format as table grouped by role
-        if (sprintDto.teamMembers() != null && !sprintDto.teamMembers().isEmpty()) {
-            variables.put("teamSize", String.valueOf(sprintDto.teamMembers().size()));
-            variables.put("teamMembersTable", formatTeamMembersTable(sprintDto.teamMembers()));
-        } else {
-            variables.put("teamSize", "0");
-            variables.put("teamMembersTable", "<p><em>No team members assigned.</em></p>");
-        }
-        
+        return variables;
+    }
+    
+    private Map<String, String> buildCapacityVariables(SprintDto sprintDto) {
         // Capacity and metrics (calculated from sprint data)
+        Map<String, String> variables = new HashMap<>();
         variables.put("totalCapacity", calculateTotalCapacity(sprintDto));
         variables.put("sprintCapacity", calculateSprintCapacity(sprintDto));
         variables.put("plannedStoryPoints", calculatePlannedStoryPoints(sprintDto));
         variables.put("averageVelocity", calculateAverageVelocity(sprintDto));
         variables.put("workingDays", String.valueOf(sprintDto.duration() != null ? sprintDto.duration() : 0));
-        
-        // Fetch holidays from database for sprint date range
-        List<HolidayDto> holidays = List.of();
+        return variables;
+    }
+    
+    /**
+     * Fetch holidays from database for sprint date range
+     */
+    private List<HolidayDto> fetchSprintHolidays(SprintDto sprintDto) {
         if (sprintDto.startDate() != null && sprintDto.endDate() != null) {
             try {
-                holidays = holidayService.getHolidaysByDateRange(sprintDto.startDate(), sprintDto.endDate());
+                return holidayService.getHolidaysByDateRange(sprintDto.startDate(), sprintDto.endDate());
             } catch (Exception e) {
                 log.warn("Failed to fetch holidays for sprint {}: {}", sprintDto.id(), e.getMessage());
             }
         }
-        
-        if (holidays.isEmpty()) {
-            variables.put("holidaysTable", "<p><em>No holidays during this sprint period.</em></p>");
-        } else {
-            variables.put("holidaysTable", formatHolidaysTable(holidays));
+        return List.of();
+    }
+    
+    private String extractPageUrl(Map<String, Object> pageData) {
+        if (pageData == null) {
+            return null;
         }
+        Object webUrl = pageData.get("webUrl");
+        if (webUrl instanceof String url && !url.isBlank()) {
+            return url;
+        }
+        Object tiny = pageData.get("tinyUrl");
+        if (tiny instanceof String tinyUrl && !tinyUrl.isBlank()) {
+            return tinyUrl;
+        }
+        return null;
+    }
+    
+    private String writeSummarySource(Map<String, Object> summaryData) {
+        try {
+            return sectionJsonMapper.writeValueAsString(summaryData);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store Confluence summary data", e);
+        }
+    }
+    
+    /**
+     * Summary source data stored with the summary section, with its task lists read back as
+     * TaskDto so the tables render as they did. Generated-at is the time the summary was written.
+     */
+    private SummarySource readSummarySource(ConfluencePageSection section) {
+        if (section == null || section.getContent() == null) {
+            return null;
+        }
+        try {
+            Map<String, Object> summaryData = sectionJsonMapper.readValue(section.getContent(),
+                    new TypeReference<Map<String, Object>>() {});
+            for (String key : List.of("completedTasks", "incompleteTasks")) {
+                if (summaryData.get(key) instanceof List<?> tasks) {
+                    summaryData.put(key, sectionJsonMapper.convertValue(tasks,
+                            new TypeReference<List<com.sprintpilot.dto.TaskDto>>() {}));
+                }
+            }
+            return new SummarySource(summaryData, section.getUpdatedAt());
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Stored Confluence summary for sprint {} is unreadable, writing the page without it: {}",
+                    section.getSprintId(), e.getMessage());
+            return null;
+        }
+    }
+    
+    private String renderToString(ConfluencePageBody body) throws IOException {
+        StringWriter out = new StringWriter();
+        body.writeTo(out);
+        return out.toString();
+    }
+    
+    private static String hash(Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * Sections of the sprint page tracked in confluence_page_section
+     */
+    private enum PageSection {
+        LAYOUT, OVERVIEW, TEAM, CAPACITY, HOLIDAYS, DISTRIBUTION, EVENTS, SUMMARY;
         
-        // Sprint goals (if available in future)
-        variables.put("sprintGoals", "<p><em>Sprint goals to be defined during planning meeting.</em></p>");
-        variables.put("risks", "<p><em>No identified risks at sprint start.</em></p>");
-        
-        // Tasks information - removed as per requirement
-        variables.put("plannedTasks", "");
-        variables.put("totalPlannedStoryPoints", "0");
-        
-        // Category breakdown
-        Map<String, String> categoryBreakdown = calculateCategoryBreakdown(sprintDto);
-        variables.putAll(categoryBreakdown);
-        
-        // Events - format as table
-        if (sprintDto.events() != null && !sprintDto.events().isEmpty()) {
-            variables.put("eventsTable", formatEventsTable(new java.util.ArrayList<>(sprintDto.events())));
-        } else {
-            variables.put("eventsTable", "<p><em>Sprint events to be scheduled.</em></p>");
+        String key() {
+            return name().toLowerCase();
         }
         
-        // Deployment Plan - empty table
-        variables.put("deploymentPlanTable", formatDeploymentPlanTable());
+        static Optional<PageSection> fromKey(String key) {
+            for (PageSection section : values()) {
+                if (section.key().equals(key)) {
+                    return Optional.of(section);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Parts of the planning template, in page order, each switched on by its {{#if}} block.
+     * Generated parts are written between section markers and rewritten when their section
+     * changes; the footer has no section and is rewritten with every write. Unmarked parts
+     * are only written when the page is created.
+     */
+    private enum PagePart {
+        PAGE_START("pageStart", null, null),
+        OVERVIEW("overviewSection", "overview", PageSection.OVERVIEW),
+        TEAM("teamSection", "team", PageSection.TEAM),
+        CAPACITY("capacitySection", "capacity", PageSection.CAPACITY),
+        HOLIDAYS("holidaysSection", "holidays", PageSection.HOLIDAYS),
+        GOALS("goalsSection", null, null),
+        DISTRIBUTION("distributionSection", "distribution", PageSection.DISTRIBUTION),
+        RISKS("risksSection", null, null),
+        EVENTS("eventsSection", "events", PageSection.EVENTS),
+        DEPLOYMENT("deploymentSection", null, null),
+        RETRO("retroSection", null, null),
+        FOOTER("footerSection", "footer", null),
+        PAGE_END("pageEnd", null, null);
+        
+        private final String block;
+        private final String marker;
+        private final PageSection section;
+        
+        PagePart(String block, String marker, PageSection section) {
+            this.block = block;
+            this.marker = marker;
+            this.section = section;
+        }
         
-        // Retro Action Items - empty table
-        variables.put("retroActionItemsTable", formatRetroActionItemsTable());
+        String block() {
+            return block;
+        }
         
-        // Timestamps
-        variables.put("createdAt", java.time.LocalDateTime.now().toString());
-        variables.put("updatedAt", java.time.LocalDateTime.now().toString());
+        String marker() {
+            return marker;
+        }
         
-        return variables;
+        PageSection section() {
+            return section;
+        }
+    }
+    
+    private record SummarySource(Map<String, Object> data, java.time.LocalDateTime generatedAt) {}
+    
+    private record PageRef(String pageId, String pageUrl, Integer version) {
+        PageRef(String pageId, String pageUrl) {
+            this(pageId, pageUrl, null);
+        }
     }
     
     /**
-     * Builds variables for sprint summary section template
+     * Builds variables for sprint summary section template; the task tables go into fragments
      */
-    private Map<String, String> buildSummarySectionVariables(SprintDto sprintDto, Map<String, Object> summaryData) {
+    private Map<String, String> buildSummarySectionVariables(SprintDto sprintDto, SummarySource summary,
+                                                             Map<String, CompiledTemplate.Fragment> fragments) {
         Map<String, String> variables = new HashMap<>();
+        Map<String, Object> summaryData = summary.data();
         
         // Completion information
-        variables.put("completionDate", java.time.LocalDate.now().toString());
+        variables.put("completionDate", summary.generatedAt().toLocalDate().toString());
         variables.put("completionStatus", sprintDto.status() != null ? sprintDto.status().toString() : "UNKNOWN");
         
         // Metrics from summaryData
@@ -311,15 +737,19 @@ public class ConfluenceServiceImpl implements ConfluenceService {
             
             // Tasks
             java.util.List<?> completedTasksList = getListValue(summaryData, "completedTasks");
-            variables.put("completedTasks", completedTasksList != null && !completedTasksList.isEmpty() 
-                    ? formatTasksForTemplate(completedTasksList) 
-                    : "<p><em>No tasks were completed in this sprint.</em></p>");
+            if (completedTasksList != null && !completedTasksList.isEmpty()) {
+                fragments.put("completedTasks", html -> writeTasksTable(completedTasksList, html));
+            } else {
+                variables.put("completedTasks", "<p><em>No tasks were completed in this sprint.</em></p>");
+            }
             variables.put("completedTasksCount", getStringValue(summaryData, "completedTasksCount", "0"));
             
             java.util.List<?> incompleteTasksList = getListValue(summaryData, "incompleteTasks");
-            variables.put("incompleteTasks", incompleteTasksList != null && !incompleteTasksList.isEmpty()
-                    ? formatTasksForTemplate(incompleteTasksList)
-                    : "<p><strong>🎉 All planned tasks were completed!</strong></p>");
+            if (incompleteTasksList != null && !incompleteTasksList.isEmpty()) {
+                fragments.put("incompleteTasks", html -> writeTasksTable(incompleteTasksList, html));
+            } else {
+                variables.put("incompleteTasks", "<p><strong>🎉 All planned tasks were completed!</strong></p>");
+            }
             variables.put("incompleteTasksCount", getStringValue(summaryData, "incompleteTasksCount", "0"));
             
             // Category analysis
@@ -378,7 +808,7 @@ public class ConfluenceServiceImpl implements ConfluenceService {
         // Team performance assessment
         variables.put("teamPerformance", assessTeamPerformance(completionRate));
         
-        variables.put("generatedAt", java.time.LocalDateTime.now().toString());
+        variables.put("generatedAt", summary.generatedAt().toString());
         
         return variables;
     }
@@ -499,12 +929,12 @@ public class ConfluenceServiceImpl implements ConfluenceService {
         return breakdown;
     }
     
-    private String formatTasksForTemplate(java.util.List<?> tasks) {
+    private void writeTasksTable(java.util.List<?> tasks, Appendable html) throws IOException {
         if (tasks == null || tasks.isEmpty()) {
-            return "<p><em>No tasks available.</em></p>";
+            html.append("<p><em>No tasks available.</em></p>");
+            return;
         }
         
-        StringBuilder html = new StringBuilder();
         html.append("<table><thead><tr>");
         html.append("<th>Task Key</th><th>Summary</th><th>Story Points</th>");
         html.append("<th>Category</th><th>Priority</th><th>Status</th>");
@@ -515,7 +945,7 @@ public class ConfluenceServiceImpl implements ConfluenceService {
                 html.append("<tr>");
                 html.append("<td>").append(escapeHtml(task.taskKey())).append("</td>");
                 html.append("<td>").append(escapeHtml(task.summary())).append("</td>");
-                html.append("<td>").append(task.storyPoints() != null ? task.storyPoints() : "0").append(" SP</td>");
+                html.append("<td>").append(task.storyPoints() != null ? task.storyPoints().toString() : "0").append(" SP</td>");
                 html.append("<td>").append(task.category() != null ? task.category().toString() : "").append("</td>");
                 html.append("<td>").append(task.priority() != null ? task.priority().toString() : "").append("</td>");
                 html.append("<td>").append(task.status() != null ? task.status().toString() : "").append("</td>");
@@ -524,7 +954,6 @@ public class ConfluenceServiceImpl implements ConfluenceService {
         }
         
         html.append("</tbody></table>");
-        return html.toString();
     }
     
     /**
@@ -532,9 +961,10 @@ public class ConfluenceServiceImpl implements ConfluenceService {
      * Locations as top-level headers (JKT, BLR, CMBTR), with Date and Description columns
      * Holidays with null location appear in all location columns
      */
-    private String formatHolidaysTable(List<HolidayDto> holidays) {
+    private void writeHolidaysTable(List<HolidayDto> holidays, Appendable html) throws IOException {
         if (holidays == null || holidays.isEmpty()) {
-            return "<p><em>No holidays during this sprint period.</em></p>";
+            html.append("<p><em>No holidays during this sprint period.</em></p>");
+            return;
         }
         
         // Standard locations to always show (JKT, BLR, CMBTR)
@@ -585,7 +1015,6 @@ public class ConfluenceServiceImpl implements ConfluenceService {
         });
         
         // Build table HTML
-        StringBuilder html = new StringBuilder();
         html.append("<table>");
         html.append("<thead><tr>");
         
@@ -626,7 +1055,6 @@ public class ConfluenceServiceImpl implements ConfluenceService {
         }
         
         html.append("</tbody></table>");
-        return html.toString();
     }
     
     /**
@@ -656,12 +1084,12 @@ public class ConfluenceServiceImpl implements ConfluenceService {
     /**
      * Formats sprint events as a table
      */
-    private String formatEventsTable(java.util.List<?> events) {
+    private void writeEventsTable(java.util.List<?> events, Appendable html) throws IOException {
         if (events == null || events.isEmpty()) {
-            return "<p><em>Sprint events to be scheduled.</em></p>";
+            html.append("<p><em>Sprint events to be scheduled.</em></p>");
+            return;
         }
         
-        StringBuilder html = new StringBuilder();
         html.append("<table>");
         html.append("<thead><tr>");
         html.append("<th>Date</th>");
@@ -686,15 +1114,15 @@ public class ConfluenceServiceImpl implements ConfluenceService {
         }
         
         html.append("</tbody></table>");
-        return html.toString();
     }
     
     /**
      * Formats team members as a table grouped by role
      */
-    private String formatTeamMembersTable(List<com.sprintpilot.dto.TeamMemberDto> teamMembers) {
+    private void writeTeamMembersTable(List<com.sprintpilot.dto.TeamMemberDto> teamMembers, Appendable html) throws IOException {
         if (teamMembers == null || teamMembers.isEmpty()) {
-            return "<p><em>No team members assigned.</em></p>";
+            html.append("<p><em>No team members assigned.</em></p>");
+            return;
         }
         
         // Group team members by role
@@ -705,7 +1133,6 @@ public class ConfluenceServiceImpl implements ConfluenceService {
         }
         
         // Build table HTML
-        StringBuilder html = new StringBuilder();
         html.append("<table>");
         html.append("<thead><tr>");
         html.append("<th>Role</th>");
@@ -729,7 +1156,7 @@ public class ConfluenceServiceImpl implements ConfluenceService {
                 html.append("<tr>");
                 // Only show role in first row of each role group
                 if (i == 0) {
-                    html.append("<td rowspan=\"").append(members.size()).append("\"><strong>").append(escapeHtml(role)).append("</strong></td>");
+                    html.append("<td rowspan=\"").append(String.valueOf(members.size())).append("\"><strong>").append(escapeHtml(role)).append("</strong></td>");
                 }
                 // Format name with Confluence mention
                 String mention = formatConfluenceUserMention(member.name());
@@ -739,7 +1166,6 @@ public class ConfluenceServiceImpl implements ConfluenceService {
         }
         
         html.append("</tbody></table>");
-        return html.toString();
     }
     
     /**
@@ -763,8 +1189,7 @@ public class ConfluenceServiceImpl implements ConfluenceService {
     /**
      * Formats deployment plan as an empty table with empty, PREP, and CRF columns
      */
-    private String formatDeploymentPlanTable() {
-        StringBuilder html = new StringBuilder();
+    private void writeDeploymentPlanTable(Appendable html) throws IOException {
         html.append("<table>");
         html.append("<thead><tr>");
         html.append("<th></th>"); // Empty column
@@ -780,14 +1205,12 @@ public class ConfluenceServiceImpl implements ConfluenceService {
             html.append("</tr>");
         }
         html.append("</tbody></table>");
-        return html.toString();
     }
     
     /**
      * Formats retro action items as an empty table
      */
-    private String formatRetroActionItemsTable() {
-        StringBuilder html = new StringBuilder();
+    private void writeRetroActionItemsTable(Appendable html) throws IOException {
         html.append("<table>");
         html.append("<thead><tr>");
         html.append("<th>Action Item</th>");
@@ -803,7 +1226,6 @@ public class ConfluenceServiceImpl implements ConfluenceService {
             html.append("</tr>");
         }
         html.append("</tbody></table>");
-        return html.toString();
     }
     
     private String formatListForTemplate(java.util.List<?> items) {
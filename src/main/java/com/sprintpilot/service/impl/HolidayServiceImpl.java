@@ -2,6 +2,9 @@ package com.sprintpilot.service.impl;
 
 import com.sprintpilot.dto.HolidayDto;
 import com.sprintpilot.entity.Holiday;
+import com.sprintpilot.event.DomainEventPublisher;
+import com.sprintpilot.event.HolidayChangedEvent;
+import com.sprintpilot.holiday.HolidayCalendarIndex;
 import com.sprintpilot.repository.HolidayRepository;
 import com.sprintpilot.service.HolidayService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class HolidayServiceImpl implements HolidayService {
@@ -18,11 +22,19 @@ public class HolidayServiceImpl implements HolidayService {
     @Autowired
     private HolidayRepository holidayRepository;
     
+    @Autowired
+    private HolidayCalendarIndex holidayCalendarIndex;
+    
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+    
     @Override
     @Transactional
     public HolidayDto createHoliday(HolidayDto holidayDto) {
         Holiday holiday = dtoToEntity(holidayDto);
         Holiday savedHoliday = holidayRepository.save(holiday);
+        domainEventPublisher.publish(new HolidayChangedEvent(savedHoliday.getId(), HolidayChangedEvent.Change.CREATED,
+            List.of(savedHoliday.getHolidayDate()), Boolean.TRUE.equals(savedHoliday.getRecurring())));
         return entityToDto(savedHoliday);
     }
     
@@ -31,6 +43,8 @@ public class HolidayServiceImpl implements HolidayService {
     public HolidayDto updateHoliday(String id, HolidayDto holidayDto) {
         Holiday existingHoliday = holidayRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Holiday not found with id: " + id));
+        LocalDate previousDate = existingHoliday.getHolidayDate();
+        boolean previouslyRecurring = Boolean.TRUE.equals(existingHoliday.getRecurring());
         
         existingHoliday.setName(holidayDto.name());
         existingHoliday.setHolidayDate(holidayDto.holidayDate());
@@ -39,6 +53,9 @@ public class HolidayServiceImpl implements HolidayService {
         existingHoliday.setLocation(holidayDto.location());
         
         Holiday updatedHoliday = holidayRepository.save(existingHoliday);
+        domainEventPublisher.publish(new HolidayChangedEvent(id, HolidayChangedEvent.Change.UPDATED,
+            Stream.of(previousDate, updatedHoliday.getHolidayDate()).distinct().toList(),
+            previouslyRecurring || Boolean.TRUE.equals(updatedHoliday.getRecurring())));
         return entityToDto(updatedHoliday);
     }
     
@@ -51,94 +68,52 @@ public class HolidayServiceImpl implements HolidayService {
     
     @Override
     public List<HolidayDto> getAllHolidays() {
-        return holidayRepository.findAll().stream()
-            .map(this::entityToDto)
-            .collect(Collectors.toList());
+        return holidayCalendarIndex.allHolidays();
     }
     
     @Override
     public List<HolidayDto> getHolidaysByDateRange(LocalDate startDate, LocalDate endDate) {
-        return holidayRepository.findByDateRange(startDate, endDate).stream()
-            .map(this::entityToDto)
-            .collect(Collectors.toList());
+        return holidayCalendarIndex.storedHolidays(startDate, endDate, null);
     }
     
     @Override
     public List<HolidayDto> getHolidaysByDateRange(LocalDate startDate, LocalDate endDate, String location) {
-        return filterByLocation(
-            holidayRepository.findByDateRange(startDate, endDate),
-            location
-        ).stream()
-            .map(this::entityToDto)
-            .collect(Collectors.toList());
+        return holidayCalendarIndex.storedHolidays(startDate, endDate, location);
     }
     
     @Override
     public List<HolidayDto> getHolidaysByYear(int year) {
-        return holidayRepository.findByYear(year).stream()
-            .map(this::entityToDto)
-            .collect(Collectors.toList());
+        return holidayCalendarIndex.storedHolidays(year, null);
     }
     
     @Override
     public List<HolidayDto> getHolidaysByYear(int year, String location) {
-        return filterByLocation(
-            holidayRepository.findByYear(year),
-            location
-        ).stream()
-            .map(this::entityToDto)
-            .collect(Collectors.toList());
+        return holidayCalendarIndex.storedHolidays(year, location);
     }
     
     @Override
     public List<HolidayDto> getRecurringHolidays() {
-        return holidayRepository.findRecurringHolidays().stream()
-            .map(this::entityToDto)
-            .collect(Collectors.toList());
+        return holidayCalendarIndex.recurringHolidays(null);
     }
     
     @Override
     public List<HolidayDto> getRecurringHolidays(String location) {
-        return filterByLocation(
-            holidayRepository.findRecurringHolidays(),
-            location
-        ).stream()
-            .map(this::entityToDto)
-            .collect(Collectors.toList());
+        return holidayCalendarIndex.recurringHolidays(location);
     }
     
     @Override
     public List<HolidayDto> getHolidaysByLocation(String location) {
-        return holidayRepository.findAll().stream()
-            .filter(h -> h.getLocation() != null && h.getLocation().contains(location))
-            .map(this::entityToDto)
-            .collect(Collectors.toList());
-    }
-    
-    /**
-     * Helper method to filter holidays by location
-     * Returns holidays where location is null (global) or contains the specified location
-     */
-    private List<Holiday> filterByLocation(List<Holiday> holidays, String location) {
-        if (location == null || location.isEmpty()) {
-            return holidays;
-        }
-        return holidays.stream()
-            .filter(h -> {
-                List<String> locations = h.getLocation();
-                // Include global holidays (location is null) or holidays that contain the specified location
-                return locations == null || locations.contains(location);
-            })
-            .collect(Collectors.toList());
+        return holidayCalendarIndex.holidaysForLocation(location);
     }
     
     @Override
     @Transactional
     public void deleteHoliday(String id) {
-        if (!holidayRepository.existsById(id)) {
-            throw new RuntimeException("Holiday not found with id: " + id);
-        }
-        holidayRepository.deleteById(id);
+        Holiday holiday = holidayRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Holiday not found with id: " + id));
+        holidayRepository.delete(holiday);
+        domainEventPublisher.publish(new HolidayChangedEvent(id, HolidayChangedEvent.Change.DELETED,
+            List.of(holiday.getHolidayDate()), Boolean.TRUE.equals(holiday.getRecurring())));
     }
     
     @Override
@@ -148,41 +123,9 @@ public class HolidayServiceImpl implements HolidayService {
     
     @Override
     public List<String> getHolidayDatesForSprint(LocalDate startDate, LocalDate endDate, String location) {
-        // Get all holidays in the date range (including location-specific and global)
-        List<LocalDate> holidayDates = filterByLocation(
-            holidayRepository.findByDateRange(startDate, endDate),
-            location
-        ).stream()
-            .map(Holiday::getHolidayDate)
-            .collect(Collectors.toList());
-        
-        // Also check recurring holidays - if they fall within the date range for any year
-        List<Holiday> recurringHolidays = filterByLocation(
-            holidayRepository.findRecurringHolidays(),
-            location
-        );
-        for (Holiday recurringHoliday : recurringHolidays) {
-            LocalDate holidayDate = recurringHoliday.getHolidayDate();
-            // Check if the month/day of the recurring holiday falls within the date range
-            // by checking each year in the range
-            int startYear = startDate.getYear();
-            int endYear = endDate.getYear();
-            
-            for (int year = startYear; year <= endYear; year++) {
-                LocalDate recurringDate = LocalDate.of(year, holidayDate.getMonth(), holidayDate.getDayOfMonth());
-                if (!recurringDate.isBefore(startDate) && !recurringDate.isAfter(endDate)) {
-                    // Check if this date is not already in the list
-                    if (!holidayDates.contains(recurringDate)) {
-                        holidayDates.add(recurringDate);
-                    }
-                }
-            }
-        }
-        
-        return holidayDates.stream()
+        // Stored and recurring holidays, already distinct and sorted by the index
+        return holidayCalendarIndex.holidayDates(startDate, endDate, location).stream()
             .map(LocalDate::toString)
-            .distinct()
-            .sorted()
             .collect(Collectors.toList());
     }
     
@@ -193,26 +136,7 @@ public class HolidayServiceImpl implements HolidayService {
     
     @Override
     public boolean isHoliday(LocalDate date, String location) {
-        // Check for exact date match (including location-specific and global)
-        List<Holiday> exactMatches = filterByLocation(
-            holidayRepository.findByDateRange(date, date),
-            location
-        );
-        if (!exactMatches.isEmpty()) {
-            return true;
-        }
-        
-        // Check recurring holidays - if month and day match
-        List<Holiday> recurringHolidays = filterByLocation(
-            holidayRepository.findRecurringHolidays(),
-            location
-        );
-        return recurringHolidays.stream()
-            .anyMatch(holiday -> {
-                LocalDate holidayDate = holiday.getHolidayDate();
-                return holidayDate.getMonth() == date.getMonth() && 
-                       holidayDate.getDayOfMonth() == date.getDayOfMonth();
-            });
+        return holidayCalendarIndex.isHoliday(date, location);
     }
     
     private HolidayDto entityToDto(Holiday holiday) {
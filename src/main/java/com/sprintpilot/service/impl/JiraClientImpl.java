@@ -2,6 +2,8 @@ package com.sprintpilot.service.impl;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintpilot.bulkhead.BulkheadFullException;
+import com.sprintpilot.bulkhead.DownstreamBulkheads;
 import com.sprintpilot.config.AtlassianConfigProperties;
 import com.sprintpilot.dto.SprintMetricsDto;
 import com.sprintpilot.dto.TaskImportRequest;
@@ -34,6 +36,9 @@ public class JiraClientImpl implements JiraClient {
     @Autowired
     private AtlassianConfigProperties jiraConfig;
 
+    @Autowired
+    private DownstreamBulkheads downstreamBulkheads;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
     private HttpClient httpClient;
 
@@ -72,7 +77,7 @@ public class JiraClientImpl implements JiraClient {
                     .POST(HttpRequest.BodyPublishers.ofString(requestBody))
                     .build();
             
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = send(request);
             
             if (response.statusCode() != 200) {
                 throw new RuntimeException("Jira API returned status code: " + response.statusCode() + 
@@ -87,6 +92,13 @@ public class JiraClientImpl implements JiraClient {
         }
     }
 
+    /**
+     * Sends a Jira request once a Jira bulkhead permit is free
+     */
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return downstreamBulkheads.jira().call(() -> httpClient.send(request, HttpResponse.BodyHandlers.ofString()));
+    }
+
     private String getBasicAuthHeader() {
         String auth = jiraConfig.getEmail() + ":" + jiraConfig.getApiToken();
         return "Basic " + Base64.getEncoder().encodeToString(auth.getBytes());
@@ -553,7 +565,9 @@ public class JiraClientImpl implements JiraClient {
                     .GET()
                     .build();
             
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            // Called once per task by the background sync, so queue for a permit rather than fail
+            HttpResponse<String> response = downstreamBulkheads.jira()
+                    .callQueued(() -> httpClient.send(request, HttpResponse.BodyHandlers.ofString()));
             
             if (response.statusCode() != 200) {
                 log.warn("Failed to fetch work logs for issue {}: status code {}", issueKeyOrId, response.statusCode());
@@ -593,6 +607,7 @@ public class JiraClientImpl implements JiraClient {
                     WorkLog workLog = WorkLog.builder()
                             .id(id)
                             .timeSpentHours(timeSpentHours)
+                            .timeSpentSeconds(Math.toIntExact(timeSpentSeconds))
                             .loggedDate(loggedDate)
                             .author(author)
                             .build();
@@ -608,6 +623,9 @@ public class JiraClientImpl implements JiraClient {
             log.debug("Successfully fetched {} work logs for issue {}", workLogs.size(), issueKeyOrId);
             return workLogs;
             
+        } catch (BulkheadFullException e) {
+            // Not "no work logs": the caller has to see that the fetch never ran
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching work logs for issue {}", issueKeyOrId, e);
             return workLogs; // Return empty list on error
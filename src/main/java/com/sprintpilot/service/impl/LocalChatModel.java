@@ -0,0 +1,120 @@
+package com.sprintpilot.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the OpenAI ChatModel, used when app.ai.mock-mode=true or app.ai.provider=mock.
+ *
+ * Responses are deterministic for a given prompt. Timing follows a simple model of a hosted LLM:
+ * a time-to-first-token latency (with jitter) followed by output at a fixed token rate.
+ * A configurable fraction of calls fail, so the error path and rate limiting can be exercised
+ * without network access or API quota.
+ */
+public class LocalChatModel implements ChatModel {
+    
+    private static final Logger log = LoggerFactory.getLogger(LocalChatModel.class);
+    
+    private static final String[] VOCABULARY = {
+        "sprint", "capacity", "velocity", "risk", "workload", "delivery", "scope", "estimate",
+        "backlog", "review", "deployment", "blocker", "team", "focus", "balance", "progress"
+    };
+    
+    private final long latencyMs;
+    private final long latencyJitterMs;
+    private final int tokensPerSecond;
+    private final int responseTokens;
+    private final double failureRate;
+    
+    // Drives jitter and failure injection; seeded so a run is reproducible
+    private final SplittableRandom random;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    
+    public LocalChatModel(long latencyMs, long latencyJitterMs, int tokensPerSecond,
+                          int responseTokens, double failureRate, long seed) {
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+        this.tokensPerSecond = tokensPerSecond;
+        this.responseTokens = responseTokens;
+        this.failureRate = failureRate;
+        this.random = new SplittableRandom(seed);
+    }
+    
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        long callNumber = calls.incrementAndGet();
+        
+        double failureRoll;
+        long jitter;
+        synchronized (random) {
+            failureRoll = random.nextDouble();
+            jitter = latencyJitterMs > 0 ? random.nextLong(latencyJitterMs + 1) : 0;
+        }
+        
+        sleep(latencyMs + jitter);
+        
+        if (failureRoll < failureRate) {
+            failures.incrementAndGet();
+            throw new IllegalStateException("Simulated AI provider failure (call " + callNumber + ")");
+        }
+        
+        // Simulated generation time at the configured token rate
+        if (tokensPerSecond > 0) {
+            sleep(responseTokens * 1000L / tokensPerSecond);
+        }
+        
+        String text = buildResponse(prompt.getContents());
+        log.debug("Local chat model call {} returned {} tokens", callNumber, responseTokens);
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+    
+    public long getCallCount() {
+        return calls.get();
+    }
+    
+    public long getFailureCount() {
+        return failures.get();
+    }
+    
+    /**
+     * Build a markdown bullet list of roughly responseTokens words, derived from the prompt hash
+     */
+    private String buildResponse(String promptText) {
+        SplittableRandom words = new SplittableRandom(promptText.hashCode());
+        StringBuilder response = new StringBuilder("**Local model response**\n");
+        int written = 0;
+        int point = 1;
+        while (written < responseTokens) {
+            response.append("- **Point ").append(point++).append(":**");
+            int lineLength = Math.min(12, responseTokens - written);
+            for (int i = 0; i < lineLength; i++) {
+                response.append(' ').append(VOCABULARY[words.nextInt(VOCABULARY.length)]);
+            }
+            response.append('\n');
+            written += lineLength;
+        }
+        return response.toString();
+    }
+    
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Local chat model call interrupted", e);
+        }
+    }
+}
@@ -2,14 +2,12 @@ package com.sprintpilot.service.impl;
 
 import com.sprintpilot.dto.MemberUtilizationDto;
 import com.sprintpilot.dto.MemberUtilizationDto.UtilizationStatus;
-import com.sprintpilot.entity.LeaveDay;
 import com.sprintpilot.entity.Sprint;
-import com.sprintpilot.entity.SprintEvent;
 import com.sprintpilot.entity.Task;
 import com.sprintpilot.entity.TeamMember;
-import com.sprintpilot.repository.HolidayRepository;
+import com.sprintpilot.holiday.SprintCalendarFactory;
+import com.sprintpilot.holiday.WorkingDayCalendar;
 import com.sprintpilot.repository.LeaveDayRepository;
-import com.sprintpilot.repository.SprintEventRepository;
 import com.sprintpilot.repository.SprintRepository;
 import com.sprintpilot.repository.TaskRepository;
 import com.sprintpilot.repository.TeamMemberRepository;
@@ -22,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -44,14 +43,11 @@ public class MemberServiceImpl implements MemberService {
     @Autowired
     private SprintRepository sprintRepository;
 
-    @Autowired
-    private HolidayRepository holidayRepository;
-
     @Autowired
     private LeaveDayRepository leaveDayRepository;
 
     @Autowired
-    private SprintEventRepository sprintEventRepository;
+    private SprintCalendarFactory sprintCalendarFactory;
 
     @Value("${app.utilization.ideal-gap-threshold:5}")
     private BigDecimal idealGapThreshold;
@@ -119,12 +115,22 @@ public class MemberServiceImpl implements MemberService {
         
         log.info("Member assigned work summary: {}", memberAssignedWork);
 
-        // 5. Calculate utilization for each sprint member
+        // 5. Calculate utilization for each sprint member, against the working-day calendar
+        // of the member's location (one calendar per distinct location)
+        SprintCalendarFactory.SprintCalendars calendars = sprintCalendarFactory.forSprint(sprint);
+        Map<String, List<LocalDate>> memberLeaveDates = new HashMap<>();
+        for (Object[] row : leaveDayRepository.findMemberLeaveDatesBySprintId(sprintId)) {
+            memberLeaveDates.computeIfAbsent((String) row[0], id -> new ArrayList<>()).add((LocalDate) row[1]);
+        }
         List<MemberUtilizationDto> utilizations = new ArrayList<>();
         
         for (TeamMember member : sprintMembers) {
             BigDecimal assignedWork = memberAssignedWork.getOrDefault(member.getId(), BigDecimal.ZERO);
-            BigDecimal capacity = calculateMemberCapacity(member, sprint);
+            BigDecimal capacity = calculateMemberCapacity(
+                    member,
+                    calendars.forLocation(member.getLocation()),
+                    memberLeaveDates.getOrDefault(member.getId(), List.of())
+            );
             BigDecimal gap = assignedWork.subtract(capacity);
             
             UtilizationStatus status = determineUtilizationStatus(gap);
@@ -143,7 +149,8 @@ public class MemberServiceImpl implements MemberService {
                     member.getName(), assignedWork, capacity, gap, status);
         }
 
-        log.info("Calculated utilization for {} members in sprint", utilizations.size());
+        log.info("Calculated utilization for {} members in sprint across {} location calendars",
+                utilizations.size(), calendars.size());
         return utilizations;
     }
 
@@ -151,49 +158,16 @@ public class MemberServiceImpl implements MemberService {
      * Calculate total capacity for a team member in a sprint (accounting for holidays and leave days)
      * 
      * @param member Team member
-     * @param sprint Sprint
+     * @param calendar Working-day calendar of the member's location for the sprint
+     * @param leaveDates Member's leave dates in the sprint
      * @return Total capacity in hours
      */
-    private BigDecimal calculateMemberCapacity(TeamMember member, Sprint sprint) {
-        // Calculate total BUSINESS days in sprint (excluding weekends)
-        long businessDays = countBusinessDays(sprint.getStartDate(), sprint.getEndDate());
-        
-        // Get unique holiday dates to avoid double-counting
-        // (if same date is in both holidays table and sprint events)
-        java.util.Set<java.time.LocalDate> uniqueHolidayDates = new java.util.HashSet<>();
-        
-        // Add holidays from holidays table
-        holidayRepository.findByDateRange(sprint.getStartDate(), sprint.getEndDate())
-                .forEach(holiday -> uniqueHolidayDates.add(holiday.getHolidayDate()));
+    private BigDecimal calculateMemberCapacity(TeamMember member, WorkingDayCalendar calendar, List<LocalDate> leaveDates) {
+        // Leave only counts on days the member would otherwise work (not weekends or holidays)
+        long workingDayLeaves = calendar.countWorkingDays(leaveDates);
         
-        // Add holidays from sprint events
-        sprintEventRepository.findBySprintIdAndEventTypeOrderByEventDate(
-                sprint.getId(), 
-                SprintEvent.EventType.HOLIDAY
-        ).forEach(event -> uniqueHolidayDates.add(event.getEventDate()));
-        
-        // Count only holidays that fall on business days (not weekends)
-        long businessDayHolidays = uniqueHolidayDates.stream()
-                .filter(this::isBusinessDay)
-                .count();
-        
-        // Get leave days during sprint for this member
-        List<LeaveDay> leaveDaysInSprint = leaveDayRepository.findByMemberIdAndSprintId(
-                member.getId(),
-                sprint.getId()
-        );
-        
-        // Count only leave days that fall on business days (not weekends)
-        long businessDayLeaves = leaveDaysInSprint.stream()
-                .map(LeaveDay::getLeaveDate)
-                .filter(this::isBusinessDay)
-                .count();
-        
-        // Calculate available days (business days - holidays on business days - leave days on business days)
-        long availableDays = businessDays - businessDayHolidays - businessDayLeaves;
-        
-        // Ensure availableDays is not negative
-        availableDays = Math.max(0, availableDays);
+        // Calculate available days (working days of the member's location - leave days on working days)
+        long availableDays = Math.max(0, calendar.getWorkingDays() - workingDayLeaves);
         
         // Calculate total capacity
         BigDecimal dailyCapacity = member.getDailyCapacity() != null ? member.getDailyCapacity() : BigDecimal.ZERO;
@@ -201,44 +175,12 @@ public class MemberServiceImpl implements MemberService {
                 .multiply(BigDecimal.valueOf(availableDays))
                 .setScale(2, RoundingMode.HALF_UP);
         
-        log.debug("Capacity calculation for {}: businessDays={}, businessDayHolidays={}, businessDayLeaves={}, availableDays={}, dailyCapacity={}, totalCapacity={}",
-                member.getName(), businessDays, businessDayHolidays, businessDayLeaves, 
-                availableDays, dailyCapacity, totalCapacity);
+        log.debug("Capacity calculation for {} ({}): businessDays={}, businessDayHolidays={}, businessDayLeaves={}, availableDays={}, dailyCapacity={}, totalCapacity={}",
+                member.getName(), calendar.getLocation(), calendar.getBusinessDays(), calendar.getHolidays(),
+                workingDayLeaves, availableDays, dailyCapacity, totalCapacity);
         
         return totalCapacity;
     }
-    
-    /**
-     * Count business days (Monday-Friday) between two dates (inclusive)
-     * 
-     * @param startDate Start date
-     * @param endDate End date
-     * @return Number of business days
-     */
-    private long countBusinessDays(java.time.LocalDate startDate, java.time.LocalDate endDate) {
-        long businessDays = 0;
-        java.time.LocalDate current = startDate;
-        
-        while (!current.isAfter(endDate)) {
-            if (isBusinessDay(current)) {
-                businessDays++;
-            }
-            current = current.plusDays(1);
-        }
-        
-        return businessDays;
-    }
-    
-    /**
-     * Check if a date is a business day (Monday-Friday)
-     * 
-     * @param date Date to check
-     * @return true if business day, false if weekend
-     */
-    private boolean isBusinessDay(java.time.LocalDate date) {
-        java.time.DayOfWeek dayOfWeek = date.getDayOfWeek();
-        return dayOfWeek != java.time.DayOfWeek.SATURDAY && dayOfWeek != java.time.DayOfWeek.SUNDAY;
-    }
 
     /**
      * Determine utilization status based on gap
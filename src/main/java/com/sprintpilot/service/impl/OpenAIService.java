@@ -1,5 +1,7 @@
 package com.sprintpilot.service.impl;
 
+import com.sprintpilot.bulkhead.BulkheadFullException;
+import com.sprintpilot.bulkhead.DownstreamBulkheads;
 import com.sprintpilot.dto.CapacitySummaryDto;
 import com.sprintpilot.dto.SprintDto;
 import com.sprintpilot.dto.SprintEventDto;
@@ -15,7 +17,7 @@ import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -37,7 +39,7 @@ import java.util.stream.Collectors;
  * - Structured prompt engineering for consistent results
  */
 @Service
-@ConditionalOnProperty(name = "app.ai.provider", havingValue = "openai")
+@ConditionalOnExpression("'${app.ai.provider:openai}' == 'openai' or '${app.ai.provider:openai}' == 'mock'")
 public class OpenAIService implements AIService {
     
     private static final Logger logger = LoggerFactory.getLogger(OpenAIService.class);
@@ -48,6 +50,9 @@ public class OpenAIService implements AIService {
     @Autowired
     private Bucket rateLimiterBucket;
     
+    @Autowired
+    private DownstreamBulkheads downstreamBulkheads;
+    
     @Autowired
     private RiskSummaryHelper riskSummaryHelper;
     
@@ -237,6 +242,7 @@ public class OpenAIService implements AIService {
      * @param taskAssignees Map of taskId -> list of assignee names
      * @return AI-generated risk summary
      */
+    @Override
     public String generateRiskSummary(List<TaskDto> tasks, List<TaskRiskDto> risks, Map<String, List<String>> taskAssignees) {
         if (!aiEnabled) {
             return "AI features are disabled";
@@ -575,15 +581,23 @@ public class OpenAIService implements AIService {
             
             logger.debug("Calling OpenAI for {} operation", operationType);
             
-            // Call the AI using Spring AI ChatModel
+            // Call the AI using Spring AI ChatModel, at most app.bulkheads.openai.max-concurrent at a time
             Prompt prompt = new Prompt(promptText);
-            ChatResponse response = chatModel.call(prompt);
+            ChatResponse response = downstreamBulkheads.openAi().execute(() -> chatModel.call(prompt));
             
             String result = response.getResult().getOutput().getText();
             
             logger.debug("Successfully received AI response for {}", operationType);
             return result;
             
+        } catch (BulkheadFullException e) {
+            logger.warn("AI provider busy for {} operation: {}", operationType, e.getMessage());
+            return String.format(
+                "**AI Service Busy**\n\n" +
+                "Too many AI requests are in progress. Please try again in a moment.\n" +
+                "Operation: %s",
+                operationType
+            );
         } catch (Exception e) {
             logger.error("Error calling OpenAI for {} operation: {}", operationType, e.getMessage(), e);
             return String.format(
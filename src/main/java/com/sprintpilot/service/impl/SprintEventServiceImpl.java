@@ -11,7 +11,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -74,6 +76,16 @@ public class SprintEventServiceImpl implements SprintEventService {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Map<String, List<SprintEventDto>> getEventsBySprintIds(Collection<String> sprintIds) {
+        if (sprintIds.isEmpty()) {
+            return Map.of();
+        }
+        return sprintEventRepository.findBySprintIdIn(sprintIds).stream()
+            .map(this::entityToDto)
+            .collect(Collectors.groupingBy(SprintEventDto::sprintId));
+    }
+
     @Override
     public List<SprintEventDto> getEventsBySprintAndType(String sprintId, SprintEvent.EventType eventType) {
         List<SprintEvent> events = sprintEventRepository.findBySprintIdAndEventTypeOrderByEventDate(sprintId, eventType);
@@ -7,6 +7,7 @@ import com.sprintpilot.dto.SprintMetricsDto;
 import com.sprintpilot.dto.SprintSummaryMetricsDto;
 import com.sprintpilot.dto.VelocityTrendDto;
 import com.sprintpilot.dto.WorkDistributionDto;
+import com.sprintpilot.dto.WorkLogDailySum;
 import com.sprintpilot.entity.Holiday;
 import com.sprintpilot.entity.LeaveDay;
 import com.sprintpilot.entity.Sprint;
@@ -44,6 +45,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class SprintMetricsServiceImpl implements SprintMetricsService {
 
+    private static final BigDecimal SECONDS_PER_HOUR = BigDecimal.valueOf(3600);
+    private static final String UNKNOWN_AUTHOR = "Unknown";
+
     @Autowired
     private SprintRepository sprintRepository;
 
@@ -68,7 +72,8 @@ public class SprintMetricsServiceImpl implements SprintMetricsService {
     @Override
     @Transactional(readOnly = true)
     public SprintMetricsDto getSprintMetrics(String sprintId, String projectName) {
-        Sprint sprint = sprintRepository.findByIdWithTeamMembers(sprintId)
+        // Plain lookup so the sprint and its member collection come from the second-level cache
+        Sprint sprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint not found: " + sprintId));
 
         List<Task> tasks = taskRepository.findBySprintId(sprintId);
@@ -91,14 +96,14 @@ public class SprintMetricsServiceImpl implements SprintMetricsService {
 
         BigDecimal idealCapacityPerDay = calculateIdealCapacityPerDay(sprint, totalDays);
 
-        Map<LocalDate, BigDecimal> burnByDate = buildTimeSpentByDate(sprintId, sprint.getStartDate(), sprint.getEndDate());
+        BurnTotals burnTotals = buildBurnTotals(sprintId, sprint.getStartDate(), sprint.getEndDate());
 
         List<SprintMetricsDto.BurndownPoint> burndownPoints = buildBurndownPoints(
                 sprint.getStartDate(),
                 sprint.getEndDate(),
                 totalOriginalEstimate,
                 totalTimeSpent,
-                burnByDate,
+                burnTotals.teamSeconds(),
                 idealCapacityPerDay
         );
 
@@ -111,6 +116,7 @@ public class SprintMetricsServiceImpl implements SprintMetricsService {
                 .completedStoryPoints(totalTimeSpent)
                 .startDate(sprint.getStartDate() != null ? sprint.getStartDate().toString() : null)
                 .endDate(sprint.getEndDate() != null ? sprint.getEndDate().toString() : null)
+                .memberBurndown(buildMemberBurndown(sprint.getStartDate(), burnTotals))
                 .build();
 
         SprintMetricsDto.VelocityData velocityData = SprintMetricsDto.VelocityData.builder()
@@ -132,48 +138,84 @@ public class SprintMetricsServiceImpl implements SprintMetricsService {
                 .build();
     }
 
-    private Map<LocalDate, BigDecimal> buildTimeSpentByDate(String sprintId,
-                                                            LocalDate sprintStart,
-                                                            LocalDate sprintEnd) {
-        Map<LocalDate, BigDecimal> burnByDate = new TreeMap<>();
-        
-        // Use optimized database aggregation query to get time spent by date
-        // This is much faster than looping through tasks (avoids N+1 query problem)
-        List<Object[]> aggregatedData = workLogRepository.sumTimeSpentByDateForSprint(
+    /**
+     * Seconds logged per sprint day (index 0 = sprint start), for the team and for each author
+     */
+    private record BurnTotals(long[] teamSeconds, Map<String, long[]> secondsByAuthor) {
+    }
+
+    private BurnTotals buildBurnTotals(String sprintId, LocalDate sprintStart, LocalDate sprintEnd) {
+        if (sprintStart == null || sprintEnd == null || sprintEnd.isBefore(sprintStart)) {
+            return new BurnTotals(new long[0], Map.of());
+        }
+        int days = (int) ChronoUnit.DAYS.between(sprintStart, sprintEnd) + 1;
+        long[] teamSeconds = new long[days];
+        Map<String, long[]> secondsByAuthor = new TreeMap<>();
+
+        // One grouped range scan gives both the team and the per-author series
+        List<WorkLogDailySum> dailySums = workLogRepository.sumTimeSpentSecondsByDateAndAuthorForSprint(
                 sprintId, sprintStart, sprintEnd);
-        
-        for (Object[] row : aggregatedData) {
-            LocalDate loggedDate = (LocalDate) row[0];
-            BigDecimal timeSpent = (BigDecimal) row[1];
-            
-            if (timeSpent != null && timeSpent.compareTo(BigDecimal.ZERO) > 0) {
-                burnByDate.put(loggedDate, timeSpent);
+
+        for (WorkLogDailySum sum : dailySums) {
+            long seconds = sum.timeSpentSeconds() != null ? sum.timeSpentSeconds() : 0L;
+            if (seconds <= 0) {
+                continue;
             }
+            int day = (int) ChronoUnit.DAYS.between(sprintStart, sum.loggedDate());
+            String author = sum.author() != null ? sum.author() : UNKNOWN_AUTHOR;
+            teamSeconds[day] += seconds;
+            secondsByAuthor.computeIfAbsent(author, key -> new long[days])[day] += seconds;
         }
 
-        return burnByDate;
+        return new BurnTotals(teamSeconds, secondsByAuthor);
     }
 
+    private List<SprintMetricsDto.MemberBurndown> buildMemberBurndown(LocalDate sprintStart, BurnTotals burnTotals) {
+        List<SprintMetricsDto.MemberBurndown> memberBurndown = new ArrayList<>(burnTotals.secondsByAuthor().size());
+        burnTotals.secondsByAuthor().forEach((author, secondsByDay) -> {
+            List<SprintMetricsDto.MemberBurnPoint> points = new ArrayList<>(secondsByDay.length);
+            long cumulativeSeconds = 0;
+            for (int day = 0; day < secondsByDay.length; day++) {
+                cumulativeSeconds += secondsByDay[day];
+                points.add(SprintMetricsDto.MemberBurnPoint.builder()
+                        .date(sprintStart.plusDays(day).toString())
+                        .loggedHours(secondsToHours(secondsByDay[day]))
+                        .cumulativeHours(secondsToHours(cumulativeSeconds))
+                        .build());
+            }
+            memberBurndown.add(SprintMetricsDto.MemberBurndown.builder()
+                    .author(author)
+                    .totalHours(secondsToHours(cumulativeSeconds))
+                    .points(points)
+                    .build());
+        });
+        return memberBurndown;
+    }
 
+    private BigDecimal secondsToHours(long seconds) {
+        return BigDecimal.valueOf(seconds).divide(SECONDS_PER_HOUR, 2, RoundingMode.HALF_UP);
+    }
 
     private List<SprintMetricsDto.BurndownPoint> buildBurndownPoints(LocalDate startDate,
                                                                      LocalDate endDate,
                                                                      BigDecimal totalOriginalEstimate,
                                                                      BigDecimal totalTimeSpent,
-                                                                     Map<LocalDate, BigDecimal> burnByDate,
+                                                                     long[] burnedSecondsByDay,
                                                                      BigDecimal idealCapacityPerDay) {
         List<SprintMetricsDto.BurndownPoint> points = new ArrayList<>();
         if (startDate == null || endDate == null) {
             return points;
         }
 
-        BigDecimal cumulativeCompleted = BigDecimal.ZERO;
+        long cumulativeSeconds = 0;
         LocalDate currentDate = startDate;
         int dayIndex = 0;
 
         while (!currentDate.isAfter(endDate)) {
-            BigDecimal burnedToday = burnByDate.getOrDefault(currentDate, BigDecimal.ZERO);
-            cumulativeCompleted = cumulativeCompleted.add(burnedToday);
+            if (dayIndex < burnedSecondsByDay.length) {
+                cumulativeSeconds += burnedSecondsByDay[dayIndex];
+            }
+            BigDecimal cumulativeCompleted = secondsToHours(cumulativeSeconds);
             if (cumulativeCompleted.compareTo(totalTimeSpent) > 0) {
                 cumulativeCompleted = totalTimeSpent;
             }
@@ -871,8 +913,8 @@ public class SprintMetricsServiceImpl implements SprintMetricsService {
     public QuickStatsDto getQuickStats(String sprintId) {
         log.info("Calculating quick stats for sprint: {}", sprintId);
         
-        // Get sprint with team members
-        Sprint sprint = sprintRepository.findByIdWithTeamMembers(sprintId)
+        // Get sprint; team members load lazily from the second-level cache
+        Sprint sprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint not found: " + sprintId));
         
         // Get team members assigned to this sprint
@@ -1,8 +1,11 @@
 package com.sprintpilot.service.impl;
 
+import com.sprintpilot.cache.EntityCacheEvictor;
 import com.sprintpilot.dto.*;
 import com.sprintpilot.entity.Sprint;
 import com.sprintpilot.entity.TeamMember;
+import com.sprintpilot.event.DomainEventPublisher;
+import com.sprintpilot.event.SprintArchivedEvent;
 import com.sprintpilot.repository.SprintRepository;
 import com.sprintpilot.repository.TaskRepository;
 import com.sprintpilot.repository.TeamMemberRepository;
@@ -13,6 +16,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -36,6 +41,17 @@ public class SprintServiceImpl implements SprintService {
     @Autowired
     private com.sprintpilot.repository.SprintTeamRepository sprintTeamRepository;
 
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+    
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+
+    // Upper bound on sprint IDs per IN list when assembling DTOs
+    private static final int SPRINT_DTO_BATCH_SIZE = 500;
+    private static final Set<SprintDto.Include> ALL_INCLUDES = EnumSet.allOf(SprintDto.Include.class);
+    private static final int MAX_SPRINT_TEMPLATES = 10;
+
     @Value("${app.data.mock-data-path}")
     private String mockDataPath;
 
@@ -148,72 +164,134 @@ public class SprintServiceImpl implements SprintService {
     @Override
     @Transactional(readOnly = true)
     public List<SprintDto> getAllSprints() {
-        return sprintRepository.findAll().stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return getAllSprints(ALL_INCLUDES);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<SprintDto> getAllSprints(Set<SprintDto.Include> includes) {
+        return convertToDtos(sprintRepository.findAll(), includes);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<SprintDto> getActiveSprints() {
+        return getActiveSprints(ALL_INCLUDES);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<SprintDto> getActiveSprints(Set<SprintDto.Include> includes) {
         // Query actual database for active sprints (only ACTIVE status)
-        List<Sprint> activeSprints = sprintRepository.findAll().stream()
-            .filter(s -> s.getStatus() == Sprint.SprintStatus.ACTIVE)
-            .collect(Collectors.toList());
-        
-        // Convert to DTOs
-        return activeSprints.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return convertToDtos(sprintRepository.findByStatus(Sprint.SprintStatus.ACTIVE), includes);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<SprintDto> getArchivedSprints() {
+        return getArchivedSprints(ALL_INCLUDES);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<SprintDto> getArchivedSprints(Set<SprintDto.Include> includes) {
         // Query actual database for archived sprints
-        List<Sprint> archivedSprints = sprintRepository.findAll().stream()
-            .filter(s -> s.getStatus() == Sprint.SprintStatus.ARCHIVED)
-            .collect(Collectors.toList());
-        
-        // Convert to DTOs
-        return archivedSprints.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return convertToDtos(sprintRepository.findByStatus(Sprint.SprintStatus.ARCHIVED), includes);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<SprintHeaderDto> getSprintHeaders(Sprint.SprintStatus status) {
+        return sprintRepository.findSprintHeaders(status);
     }
     
     private SprintDto convertToDto(Sprint sprint) {
-        // Fetch related data for complete DTO
-        List<SprintEventDto> events = sprintEventService.getEventsBySprintId(sprint.getId());
-        
-        // Fetch tasks from database
-        List<TaskDto> tasks = taskRepository.findTaskDtosBySprintId(sprint.getId());
-
-        // Fetch team members from database
-        List<TeamMember> teamMembers = teamMemberRepository.findBySprintId(sprint.getId());
-        List<TeamMemberDto> teamMemberDtos = teamMembers.stream()
-            .map(member -> new TeamMemberDto(
-                member.getId(),
-                member.getName(),
-                member.getRole(),
-                member.getDailyCapacity(),
-                member.getEmail(),
-                member.getLocation(),
-                member.getActive(),
-                List.of(), // Leave days not needed for sprint DTO
-                true // Assigned to current sprint
-            ))
-            .collect(Collectors.toList());
-
-        return new SprintDto(
-            sprint.getId(),
-            sprint.getSprintName(),
-            sprint.getStartDate(),
-            sprint.getEndDate(),
-            sprint.getDuration(),
-            sprint.getFreezeDate(),
-            sprint.getStatus(),
-            events != null ? events : List.of(),
-            teamMemberDtos,
-            tasks != null ? tasks : List.of()
+        return convertToDtos(List.of(sprint), ALL_INCLUDES).get(0);
+    }
+    
+    /**
+     * Build complete DTOs for a list of sprints.
+     * Events, tasks, primary assignees and team members are each loaded with one IN query
+     * per batch of sprints and stitched together here, instead of three queries per sprint.
+     * Lists not in includes are left empty and not queried.
+     */
+    private List<SprintDto> convertToDtos(List<Sprint> sprints, Set<SprintDto.Include> includes) {
+        List<SprintDto> dtos = new ArrayList<>(sprints.size());
+        for (int from = 0; from < sprints.size(); from += SPRINT_DTO_BATCH_SIZE) {
+            List<Sprint> batch = sprints.subList(from, Math.min(from + SPRINT_DTO_BATCH_SIZE, sprints.size()));
+            List<String> sprintIds = batch.stream().map(Sprint::getId).collect(Collectors.toList());
+            
+            Map<String, List<SprintEventDto>> eventsBySprint = includes.contains(SprintDto.Include.EVENTS)
+                ? sprintEventService.getEventsBySprintIds(sprintIds)
+                : Map.of();
+            
+            Map<String, List<TaskDto>> tasksBySprint = Map.of();
+            if (includes.contains(SprintDto.Include.TASKS)) {
+                Map<String, String> primaryAssignees = new HashMap<>();
+                for (Object[] row : taskRepository.findPrimaryAssigneeIdsBySprintIdIn(sprintIds)) {
+                    primaryAssignees.put((String) row[0], (String) row[1]);
+                }
+                tasksBySprint = taskRepository.findTaskDtosBySprintIdIn(sprintIds).stream()
+                    .map(task -> withAssignee(task, primaryAssignees.get(task.id())))
+                    .collect(Collectors.groupingBy(TaskDto::sprintId));
+            }
+            
+            Map<String, List<TeamMemberDto>> membersBySprint = new HashMap<>();
+            List<Object[]> memberRows = includes.contains(SprintDto.Include.TEAM_MEMBERS)
+                ? teamMemberRepository.findWithSprintIdBySprintIdIn(sprintIds)
+                : List.of();
+            for (Object[] row : memberRows) {
+                TeamMember member = (TeamMember) row[1];
+                membersBySprint.computeIfAbsent((String) row[0], id -> new ArrayList<>())
+                    .add(new TeamMemberDto(
+                        member.getId(),
+                        member.getName(),
+                        member.getRole(),
+                        member.getDailyCapacity(),
+                        member.getEmail(),
+                        member.getLocation(),
+                        member.getActive(),
+                        List.of(), // Leave days not needed for sprint DTO
+                        true // Assigned to current sprint
+                    ));
+            }
+            
+            for (Sprint sprint : batch) {
+                dtos.add(new SprintDto(
+                    sprint.getId(),
+                    sprint.getSprintName(),
+                    sprint.getStartDate(),
+                    sprint.getEndDate(),
+                    sprint.getDuration(),
+                    sprint.getFreezeDate(),
+                    sprint.getStatus(),
+                    eventsBySprint.getOrDefault(sprint.getId(), List.of()),
+                    membersBySprint.getOrDefault(sprint.getId(), List.of()),
+                    tasksBySprint.getOrDefault(sprint.getId(), List.of())
+                ));
+            }
+        }
+        return dtos;
+    }
+    
+    private TaskDto withAssignee(TaskDto task, String assigneeId) {
+        if (assigneeId == null) {
+            return task;
+        }
+        return new TaskDto(
+            task.id(),
+            task.sprintId(),
+            task.taskKey(),
+            task.summary(),
+            task.description(),
+            task.storyPoints(),
+            task.category(),
+            task.priority(),
+            task.status(),
+            task.startDate(),
+            task.dueDate(),
+            task.timeSpent(),
+            assigneeId
         );
     }
     
@@ -233,7 +311,11 @@ public class SprintServiceImpl implements SprintService {
             sprint.teamMembers(),
             sprint.tasks()
         );
-        return updateSprint(id, updatedSprint);
+        SprintDto archived = updateSprint(id, updatedSprint);
+        if (sprint.status() != Sprint.SprintStatus.ARCHIVED) {
+            domainEventPublisher.publish(new SprintArchivedEvent(id));
+        }
+        return archived;
     }
     
     @Override
@@ -302,6 +384,9 @@ public class SprintServiceImpl implements SprintService {
         Sprint archivedSprint = sprintRepository.save(sprint);
         log.info("Sprint archived successfully: {}", id);
 
+        // Archived sprints feed performance insights; listeners regenerate them after commit
+        domainEventPublisher.publish(new SprintArchivedEvent(id));
+
         // ✅ Removed auto-creation of next sprint - users must manually create new sprints
 
         return convertToDto(archivedSprint);
@@ -469,22 +554,52 @@ public class SprintServiceImpl implements SprintService {
     }
     
     @Override
+    @Transactional(readOnly = true)
+    public String getSprintDataVersion(String sprintId) {
+        // One indexed query; the fingerprint itself is hashed so it can go into an ETag
+        return sprintRepository.findDataVersion(sprintId)
+            .map(version -> DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)))
+            .orElseThrow(() -> new RuntimeException("Sprint not found: " + sprintId));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
     public SprintDto getCurrentActiveSprint() {
-        List<SprintDto> activeSprints = getActiveSprints();
-        return activeSprints.isEmpty() ? null : activeSprints.get(0);
+        return getCurrentActiveSprint(ALL_INCLUDES);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public SprintDto getCurrentActiveSprint(Set<SprintDto.Include> includes) {
+        // Only the first active sprint is converted
+        List<Sprint> activeSprints = sprintRepository.findByStatus(Sprint.SprintStatus.ACTIVE);
+        return activeSprints.isEmpty() ? null : convertToDtos(activeSprints.subList(0, 1), includes).get(0);
     }
     
     @Override
     public boolean hasActiveSprint() {
-        return !getActiveSprints().isEmpty();
+        return sprintRepository.countByStatus(Sprint.SprintStatus.ACTIVE) > 0;
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<SprintDto> getSprintTemplates() {
-        // Return archived sprints as templates, limited to last 10
-        return getArchivedSprints().stream()
-            .limit(10)
+        return getSprintTemplates(ALL_INCLUDES);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<SprintDto> getSprintTemplates(Set<SprintDto.Include> includes) {
+        // Return archived sprints as templates, limited to the most recent ones
+        List<Sprint> recentArchived = sprintRepository.findArchivedSprintsOrderByEndDateDesc().stream()
+            .limit(MAX_SPRINT_TEMPLATES)
             .collect(Collectors.toList());
+        return convertToDtos(recentArchived, includes);
+    }
+    
+    @Override
+    public long countSprintTemplates() {
+        return Math.min(sprintRepository.countByStatus(Sprint.SprintStatus.ARCHIVED), MAX_SPRINT_TEMPLATES);
     }
     
     @Override
@@ -522,24 +637,20 @@ public class SprintServiceImpl implements SprintService {
      * @param sprintId The sprint ID to assign members to
      */
     private void autoAssignActiveMembers(String sprintId) {
-        // Get all active and non-deleted team members
-        List<TeamMember> activeMembers = teamMemberRepository.findActiveMembers();
+        // Active, non-deleted members, ids only
+        List<String> activeMemberIds = teamMemberRepository.findActiveMemberIds();
         
-        int assignedCount = 0;
-        for (TeamMember member : activeMembers) {
-            // Check if member is not deleted (extra safety check)
-            if (member.getDeleted() != null && member.getDeleted()) {
-                continue;
-            }
-            
-            // Create sprint-member mapping
+        List<com.sprintpilot.entity.SprintTeam> mappings = new ArrayList<>(activeMemberIds.size());
+        for (String memberId : activeMemberIds) {
             com.sprintpilot.entity.SprintTeam mapping = new com.sprintpilot.entity.SprintTeam();
             mapping.setSprintId(sprintId);
-            mapping.setMemberId(member.getId());
-            sprintTeamRepository.save(mapping);
-            assignedCount++;
+            mapping.setMemberId(memberId);
+            mappings.add(mapping);
         }
+        // Inserted as JDBC batches (hibernate.jdbc.batch_size)
+        sprintTeamRepository.saveAll(mappings);
+        entityCacheEvictor.evictSprintTeam(sprintId);
         
-        log.info("Auto-assigned {} active members to sprint {}", assignedCount, sprintId);
+        log.info("Auto-assigned {} active members to sprint {}", mappings.size(), sprintId);
     }
 }
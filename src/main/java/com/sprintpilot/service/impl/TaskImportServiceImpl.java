@@ -5,6 +5,8 @@ import com.sprintpilot.dto.*;
 import com.sprintpilot.entity.Sprint;
 import com.sprintpilot.entity.Task;
 import com.sprintpilot.entity.TeamMember;
+import com.sprintpilot.event.DomainEventPublisher;
+import com.sprintpilot.event.TaskChangedEvent;
 import com.sprintpilot.repository.SprintRepository;
 import com.sprintpilot.repository.TaskRepository;
 import com.sprintpilot.repository.TeamMemberRepository;
@@ -49,6 +51,9 @@ public class TaskImportServiceImpl implements TaskImportService {
     @Autowired
     private WorkLogSyncService workLogSyncService;
     
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+    
     @Override
     public TaskImportResponse importFromCSV(TaskImportRequest request) {
         try {
@@ -318,6 +323,12 @@ public class TaskImportServiceImpl implements TaskImportService {
             
             log.info("Jira import complete: {} created, {} updated, {} errors", createdCount, updatedCount, errors.size());
             
+            if (!savedTasks.isEmpty()) {
+                // Listeners also precompute the AI sprint and risk summaries from this event
+                domainEventPublisher.publish(new TaskChangedEvent(request.sprintId(),
+                        savedTasks.stream().map(Task::getId).toList(), TaskChangedEvent.Change.JIRA_SYNC));
+            }
+            
             // Trigger async work log sync (returns immediately, processes in background)
             if (!savedTasks.isEmpty()) {
                 log.info("Triggering async work log sync for {} tasks (non-blocking)", savedTasks.size());
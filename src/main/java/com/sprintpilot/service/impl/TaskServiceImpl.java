@@ -2,22 +2,28 @@ package com.sprintpilot.service.impl;
 
 import com.sprintpilot.dto.TaskPageResponse;
 import com.sprintpilot.dto.TaskResponseDto;
+import com.sprintpilot.dto.TaskRiskInput;
 import com.sprintpilot.entity.Task;
+import com.sprintpilot.event.DomainEventPublisher;
+import com.sprintpilot.event.TaskChangedEvent;
 import com.sprintpilot.repository.TaskRepository;
+import com.sprintpilot.risk.RiskAssessment;
+import com.sprintpilot.risk.RiskRuleEngine;
 import com.sprintpilot.service.TaskService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -27,9 +33,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TaskServiceImpl implements TaskService {
     
+    // Keeps each IN list well under driver bind-parameter limits
+    private static final int RISK_UPDATE_BATCH_SIZE = 1000;
+    
     @Autowired
     private TaskRepository taskRepository;
     
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+    
+    @Autowired
+    private RiskRuleEngine riskRuleEngine;
+    
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponseDto> getTasksBySprintId(String sprintId) {
@@ -46,42 +61,59 @@ public class TaskServiceImpl implements TaskService {
     
     @Override
     @Transactional(readOnly = true)
-    public TaskPageResponse getTasksBySprintIdPaginated(String sprintId, String riskFactor, int page, int size) {
-        log.info("Fetching tasks for sprint: {} with riskFactor: {}, page: {}, size: {}", 
-                 sprintId, riskFactor, page, size);
-        
-        // Create pageable with sort already handled by the query
-        Pageable pageable = PageRequest.of(page, size);
-        
-        // Fetch paginated tasks
-        Page<Task> taskPage = taskRepository.findBySprintIdAndRiskFactorPaginated(
-                sprintId, 
-                riskFactor,
-                pageable
+    public TaskPageResponse getTasksBySprintIdPaginated(String sprintId, String riskFactor, int page, int size, String cursor) {
+        log.info("Fetching tasks for sprint: {} with riskFactor: {}, page: {}, size: {}, cursor: {}", 
+                 sprintId, riskFactor, page, size, cursor != null);
+        
+        String riskFilter = riskFactor != null ? riskFactor : "";
+        PageCursor after = cursor != null && !cursor.isBlank() ? PageCursor.decode(cursor) : null;
+        int offset = after == null ? page * size : 0;
+        
+        // Page keys are sorted and limited in SQL; one extra row tells us whether there is a next page
+        List<TaskRepository.TaskPageKey> keys = taskRepository.findRiskTaskPageKeys(
+                sprintId,
+                riskFilter,
+                after != null,
+                after != null && after.assigneeName() == null,
+                after != null && after.assigneeName() != null ? after.assigneeName() : "",
+                after != null ? after.priorityRank() : 0,
+                after != null ? after.id() : "",
+                size + 1,
+                offset
         );
+        boolean hasNext = keys.size() > size;
+        if (hasNext) {
+            keys = keys.subList(0, size);
+        }
         
-        // Convert to DTOs and sort by assignee name
-        List<TaskResponseDto> taskDtos = taskPage.getContent().stream()
-                .map(this::convertToResponseDto)
-                .sorted((t1, t2) -> {
-                    // Tasks without assignees come last
-                    String name1 = t1.assigneeName() != null ? t1.assigneeName() : "\uFFFF"; // Use max Unicode char for unassigned
-                    String name2 = t2.assigneeName() != null ? t2.assigneeName() : "\uFFFF";
-                    int nameCompare = name1.compareTo(name2);
-                    if (nameCompare != 0) return nameCompare;
-                    // If same assignee, sort by priority desc
-                    return t2.priority().compareTo(t1.priority());
-                })
+        // Assignees are fetched for this page's tasks only, then put back in key order
+        List<String> ids = keys.stream().map(TaskRepository.TaskPageKey::getId).collect(Collectors.toList());
+        Map<String, Task> tasksById = ids.isEmpty()
+                ? Map.of()
+                : taskRepository.findWithDetailsByIdIn(ids).stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskResponseDto> taskDtos = keys.stream()
+                .map(key -> convertToResponseDto(tasksById.get(key.getId()), key.getAssigneeName()))
                 .collect(Collectors.toList());
         
+        String nextCursor = null;
+        if (hasNext) {
+            TaskRepository.TaskPageKey last = keys.get(keys.size() - 1);
+            nextCursor = new PageCursor(last.getAssigneeName(), last.getPriorityRank(), last.getId()).encode();
+        }
+        
+        long totalElements = taskRepository.countBySprintIdAndRiskFactor(sprintId, riskFactor);
+        int totalPages = size > 0 ? (int) ((totalElements + size - 1) / size) : 0;
+        
         return new TaskPageResponse(
                 taskDtos,
-                taskPage.getNumber(),
-                taskPage.getTotalPages(),
-                taskPage.getTotalElements(),
-                taskPage.getSize(),
-                taskPage.hasNext(),
-                taskPage.hasPrevious()
+                page,
+                totalPages,
+                totalElements,
+                size,
+                hasNext,
+                page > 0,
+                nextCursor
         );
     }
     
@@ -89,6 +121,14 @@ public class TaskServiceImpl implements TaskService {
      * Convert Task entity to TaskResponseDto
      */
     private TaskResponseDto convertToResponseDto(Task task) {
+        // Get primary assignee name (first assignee if exists)
+        String primaryAssigneeName = task.getAssignees().isEmpty() 
+                ? null 
+                : task.getAssignees().get(0).getName();
+        return convertToResponseDto(task, primaryAssigneeName);
+    }
+    
+    private TaskResponseDto convertToResponseDto(Task task, String primaryAssigneeName) {
         // Convert assignees to AssigneeDto list
         List<TaskResponseDto.AssigneeDto> assigneeDtos = task.getAssignees().stream()
                 .map(member -> new TaskResponseDto.AssigneeDto(
@@ -99,11 +139,6 @@ public class TaskServiceImpl implements TaskService {
                 ))
                 .collect(Collectors.toList());
         
-        // Get primary assignee name (first assignee if exists)
-        String primaryAssigneeName = task.getAssignees().isEmpty() 
-                ? null 
-                : task.getAssignees().get(0).getName();
-        
         return new TaskResponseDto(
                 task.getId(),
                 task.getSprint().getId(),
@@ -119,6 +154,7 @@ public class TaskServiceImpl implements TaskService {
                 task.getDueDate(),
                 task.getTimeSpent(),
                 task.getRiskFactor(),
+                task.getRiskRule(),
                 assigneeDtos,
                 primaryAssigneeName
         );
@@ -129,110 +165,62 @@ public class TaskServiceImpl implements TaskService {
     public int analyzeSprintRisks(String sprintId) {
         log.info("Analyzing risks for sprint: {}", sprintId);
         
-        List<Task> tasks = taskRepository.findBySprintId(sprintId);
+        List<TaskRiskInput> tasks = taskRepository.findRiskInputsBySprintId(sprintId);
+        List<RiskAssessment> assessments = riskRuleEngine.assess(tasks, LocalDate.now());
+        
+        // Group only the tasks whose outcome actually moves, keyed by the rule that fired.
+        // A rule always yields the same risk factor, so each group is one UPDATE.
+        Map<String, List<String>> changedByRule = new LinkedHashMap<>();
+        Map<String, Task.RiskFactor> ruleResults = new HashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskRiskInput task = tasks.get(i);
+            RiskAssessment assessment = assessments.get(i);
+            if (assessment.riskFactor() != task.riskFactor() || !assessment.rule().equals(task.riskRule())) {
+                changedByRule.computeIfAbsent(assessment.rule(), rule -> new ArrayList<>()).add(task.id());
+                ruleResults.put(assessment.rule(), assessment.riskFactor());
+            }
+        }
         
-        for (Task task : tasks) {
-            Task.RiskFactor riskFactor = calculateRiskFactor(task);
-            task.setRiskFactor(riskFactor);
-            taskRepository.save(task);
+        int changed = 0;
+        for (Map.Entry<String, List<String>> entry : changedByRule.entrySet()) {
+            List<String> ids = entry.getValue();
+            Task.RiskFactor riskFactor = ruleResults.get(entry.getKey());
+            for (int from = 0; from < ids.size(); from += RISK_UPDATE_BATCH_SIZE) {
+                List<String> batch = ids.subList(from, Math.min(from + RISK_UPDATE_BATCH_SIZE, ids.size()));
+                changed += taskRepository.updateRiskAssessment(batch, riskFactor, entry.getKey());
+            }
         }
         
-        log.info("Analyzed {} tasks for sprint: {}", tasks.size(), sprintId);
+        log.info("Analyzed {} tasks for sprint: {} ({} risk factors changed)", tasks.size(), sprintId, changed);
+        if (!changedByRule.isEmpty()) {
+            // Also refreshes the stored AI risk summary once this transaction commits
+            domainEventPublisher.publish(new TaskChangedEvent(sprintId,
+                    changedByRule.values().stream().flatMap(List::stream).toList(), TaskChangedEvent.Change.RISK_ASSESSED));
+        }
         return tasks.size();
     }
     
     /**
-     * Calculate risk factor based on task attributes
-     * Logic: Uses startDate, dueDate, timeSpent, and status
+     * Position after the last row of a page, encoded as an opaque URL-safe token
      */
-    private Task.RiskFactor calculateRiskFactor(Task task) {
-        LocalDate today = LocalDate.now();
-        
-        // Rule 1: Completed tasks are always ON_TRACK
-        if (task.getStatus() == Task.TaskStatus.DONE) {
-            return Task.RiskFactor.ON_TRACK;
-        }
-        
-        // Rule 2: Check if task is past due date
-        if (task.getDueDate() != null && task.getDueDate().isBefore(today)) {
-            return Task.RiskFactor.OFF_TRACK;
-        }
-        
-        // Rule 3: Check progress vs. time remaining
-        if (task.getStartDate() != null && task.getDueDate() != null) {
-            long totalDays = ChronoUnit.DAYS.between(task.getStartDate(), task.getDueDate());
-            long daysPassed = ChronoUnit.DAYS.between(task.getStartDate(), today);
-            long daysRemaining = ChronoUnit.DAYS.between(today, task.getDueDate());
-            
-            if (totalDays > 0) {
-                double percentTimeElapsed = (double) daysPassed / totalDays * 100;
-                
-                // Calculate percent work completed based on time spent vs story points
-                double percentWorkCompleted = 0;
-                BigDecimal workEstimate = getWorkEstimate(task);
-                if (workEstimate.compareTo(BigDecimal.ZERO) > 0) {
-                    BigDecimal timeSpent = task.getTimeSpent() != null ? task.getTimeSpent() : BigDecimal.ZERO;
-                    percentWorkCompleted = timeSpent.divide(workEstimate, 2, RoundingMode.HALF_UP)
-                                                    .multiply(BigDecimal.valueOf(100))
-                                                    .doubleValue();
-                }
-                
-                // If time elapsed is significantly more than work completed, it's at risk
-                if (percentTimeElapsed > percentWorkCompleted + 20) {
-                    return Task.RiskFactor.AT_RISK;
-                }
-                
-                // If due in less than 2 days and not much progress, it's at risk
-                if (daysRemaining <= 2 && percentWorkCompleted < 50) {
-                    return Task.RiskFactor.AT_RISK;
-                }
-            }
-        }
+    private record PageCursor(String assigneeName, int priorityRank, String id) {
         
-        // Rule 4: Check if approaching due date with little progress
-        if (task.getDueDate() != null) {
-            long daysUntilDue = ChronoUnit.DAYS.between(today, task.getDueDate());
-            
-            if (daysUntilDue <= 2 && daysUntilDue >= 0) {
-                // Due in 2 days or less
-                BigDecimal timeSpent = task.getTimeSpent() != null ? task.getTimeSpent() : BigDecimal.ZERO;
-                BigDecimal workEstimate = getWorkEstimate(task);
-                
-                // If less than 50% complete and due soon, mark as AT_RISK
-                if (workEstimate.compareTo(BigDecimal.ZERO) > 0) {
-                    double percentComplete = timeSpent.divide(workEstimate, 2, RoundingMode.HALF_UP)
-                                                     .multiply(BigDecimal.valueOf(100))
-                                                     .doubleValue();
-                    if (percentComplete < 50) {
-                        return Task.RiskFactor.AT_RISK;
-                    }
-                }
-            }
+        String encode() {
+            String raw = priorityRank + "\n" + id + (assigneeName != null ? "\n" + assigneeName : "");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
         }
         
-        // Rule 5: Check task status and priority
-        if (task.getStatus() == Task.TaskStatus.TODO && 
-            (task.getPriority() == Task.TaskPriority.CRITICAL || 
-             task.getPriority() == Task.TaskPriority.HIGH)) {
-            // High priority tasks that haven't started are at risk
-            if (task.getDueDate() != null) {
-                long daysUntilDue = ChronoUnit.DAYS.between(today, task.getDueDate());
-                if (daysUntilDue <= 5) {
-                    return Task.RiskFactor.AT_RISK;
+        static PageCursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\n", 3);
+                if (parts.length < 2) {
+                    throw new IllegalArgumentException("Invalid page cursor");
                 }
+                return new PageCursor(parts.length == 3 ? parts[2] : null, Integer.parseInt(parts[0]), parts[1]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid page cursor", e);
             }
         }
-        
-        // Default: ON_TRACK
-        return Task.RiskFactor.ON_TRACK;
-    }
-    
-    private BigDecimal getWorkEstimate(Task task) {
-        BigDecimal originalEstimate = task.getOriginalEstimate() != null ? task.getOriginalEstimate() : BigDecimal.ZERO;
-        if (originalEstimate.compareTo(BigDecimal.ZERO) > 0) {
-            return originalEstimate;
-        }
-        return task.getStoryPoints() != null ? task.getStoryPoints() : BigDecimal.ZERO;
     }
 }
-
@@ -1,23 +1,24 @@
 package com.sprintpilot.service.impl;
 
+import com.sprintpilot.cache.EntityCacheEvictor;
 import com.sprintpilot.dto.CapacitySummaryDto;
 import com.sprintpilot.dto.SprintAssignmentRequest;
 import com.sprintpilot.dto.TeamMemberDto;
-import com.sprintpilot.entity.Holiday;
 import com.sprintpilot.entity.LeaveDay;
 import com.sprintpilot.entity.Sprint;
-import com.sprintpilot.entity.SprintEvent;
 import com.sprintpilot.entity.SprintTeam;
 import com.sprintpilot.entity.TeamMember;
-import com.sprintpilot.repository.HolidayRepository;
+import com.sprintpilot.event.DomainEventPublisher;
+import com.sprintpilot.event.LeaveChangedEvent;
+import com.sprintpilot.holiday.HolidayCalendarIndex;
+import com.sprintpilot.holiday.SprintCalendarFactory;
+import com.sprintpilot.holiday.WorkingDayCalendar;
 import com.sprintpilot.repository.LeaveDayRepository;
 import com.sprintpilot.repository.SprintEventRepository;
 import com.sprintpilot.repository.SprintRepository;
 import com.sprintpilot.repository.SprintTeamRepository;
 import com.sprintpilot.repository.TeamMemberRepository;
 import com.sprintpilot.service.TeamService;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,9 +30,15 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -51,13 +58,19 @@ public class TeamServiceImpl implements TeamService {
     private SprintTeamRepository sprintTeamRepository;
     
     @Autowired
-    private HolidayRepository holidayRepository;
+    private HolidayCalendarIndex holidayCalendarIndex;
+    
+    @Autowired
+    private SprintCalendarFactory sprintCalendarFactory;
+    
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
     
     @Autowired
     private SprintEventRepository sprintEventRepository;
     
-    @PersistenceContext
-    private EntityManager entityManager;
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final String INVALID_DATE_FORMAT = "Invalid date format: {}";
@@ -90,20 +103,13 @@ public class TeamServiceImpl implements TeamService {
         
         // Process leave days if provided - save them separately
         if (memberDto.leaveDays() != null && !memberDto.leaveDays().isEmpty()) {
-            for (String leaveDateStr : memberDto.leaveDays()) {
-                try {
-                    LocalDate leaveDate = LocalDate.parse(leaveDateStr, DATE_FORMATTER);
-                    LeaveDay leaveDay = new LeaveDay();
-                    leaveDay.setMember(savedMember);
-                    leaveDay.setLeaveDate(leaveDate);
-                    leaveDay.setLeaveType(LeaveDay.LeaveType.PERSONAL);
-                    // Save directly to database
-                    leaveDayRepository.save(leaveDay);
-                } catch (DateTimeParseException e) {
-                    // Skip invalid dates
-                    log.error(INVALID_DATE_FORMAT, leaveDateStr);
-                }
-            }
+            List<LeaveDay> leaveDays = parseLeaveDates(memberDto.leaveDays()).stream()
+                    .map(leaveDate -> newLeaveDay(savedMember, null, leaveDate))
+                    .toList();
+            // Inserted as one JDBC batch
+            leaveDayRepository.saveAll(leaveDays);
+            domainEventPublisher.publish(new LeaveChangedEvent(savedMember.getId(), null,
+                    leaveDays.stream().map(LeaveDay::getLeaveDate).toList(), List.of()));
         }
         
         return convertToDto(savedMember);
@@ -138,50 +144,25 @@ public class TeamServiceImpl implements TeamService {
         // Save basic member updates first
         teamMemberRepository.save(existingMember);
         
-        // Update leave days if provided - use native SQL to completely avoid Hibernate session issues
+        // Update leave days if provided - only the difference to the stored rows is written
         if (memberDto.leaveDays() != null) {
-            // Delete all existing leave days using native SQL (bypasses Hibernate completely)
-            leaveDayRepository.deleteByMemberId(id);
-            
-            // Flush and clear to ensure clean session state
-            entityManager.flush();
-            entityManager.clear();
-            
-            // Re-fetch the member
-            existingMember = teamMemberRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Team member not found: " + id));
-            
-            // Add new leave days - save them directly to avoid collection management issues
-            // But first validate that the dates are not already holidays
-            Sprint sprint = null;
-            if (sprintId != null && !sprintId.isBlank()) {
-                sprint = sprintRepository.findById(sprintId).orElse(null);
-            }
-            
-            for (String leaveDateStr : memberDto.leaveDays()) {
-                try {
-                    LocalDate leaveDate = LocalDate.parse(leaveDateStr, DATE_FORMATTER);
-                    
-                    // Check if this date is already a holiday
-                    if (isDateAHoliday(leaveDate, id)) {
-                        log.info("Skipping leave date {} for member {} - already a holiday", leaveDateStr, id);
-                        continue; // Don't save as leave if it's already a holiday
-                    }
-                    
-                    LeaveDay leaveDay = new LeaveDay();
-                    leaveDay.setMember(existingMember);
-                    leaveDay.setSprint(sprint); // Assign sprint to leave day
-                    leaveDay.setLeaveDate(leaveDate);
-                    leaveDay.setLeaveType(LeaveDay.LeaveType.PERSONAL);
-                    // Save directly to database, not through collection
-                    leaveDayRepository.save(leaveDay);
-                    log.debug("Saved leave date {} for member {} in sprint {}", leaveDateStr, id, sprintId);
-                } catch (DateTimeParseException e) {
-                    // Skip invalid dates
-                    log.error(INVALID_DATE_FORMAT, leaveDateStr);
-                }
-            }
+            syncLeaveDays(existingMember, memberDto.leaveDays(), sprintId);
+        }
+        
+        TeamMember updatedMember = teamMemberRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Team member not found: " + id));
+        return convertToDto(updatedMember, sprintId);
+    }
+    
+    @Override
+    @Transactional
+    public TeamMemberDto replaceLeaveDays(String id, List<String> leaveDays, String sprintId) {
+        if (leaveDays == null) {
+            throw new IllegalArgumentException("Leave days list cannot be null");
         }
+        TeamMember member = teamMemberRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Team member not found: " + id));
+        syncLeaveDays(member, leaveDays, sprintId);
         
         TeamMember updatedMember = teamMemberRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Team member not found: " + id));
@@ -256,9 +237,25 @@ public class TeamServiceImpl implements TeamService {
                 .orElseThrow(() -> new RuntimeException("Sprint not found: " + sprintId));
         
         List<TeamMember> teamMembers = teamMemberRepository.findBySprintId(sprintId);
+        if (teamMembers.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        // One working-day calendar per distinct member location, leave days for the whole team in one query
+        SprintCalendarFactory.SprintCalendars calendars = sprintCalendarFactory.forSprint(sprint);
+        Map<String, List<LocalDate>> memberLeaveDates = new HashMap<>();
+        List<String> memberIds = teamMembers.stream().map(TeamMember::getId).toList();
+        for (Object[] row : leaveDayRepository.findMemberLeaveDatesByMemberIdInAndDateRange(
+                memberIds, sprint.getStartDate(), sprint.getEndDate())) {
+            memberLeaveDates.computeIfAbsent((String) row[0], id -> new ArrayList<>()).add((LocalDate) row[1]);
+        }
         
         return teamMembers.stream()
-                .map(member -> calculateMemberCapacity(member, sprint))
+                .map(member -> calculateMemberCapacity(
+                        member,
+                        sprint,
+                        calendars.forLocation(member.getLocation()),
+                        memberLeaveDates.getOrDefault(member.getId(), List.of())))
                 .collect(Collectors.toList());
     }
     
@@ -301,32 +298,11 @@ public class TeamServiceImpl implements TeamService {
         );
     }
     
-    private CapacitySummaryDto calculateMemberCapacity(TeamMember member, Sprint sprint) {
-        // Calculate working days in sprint
-        long sprintDays = ChronoUnit.DAYS.between(sprint.getStartDate(), sprint.getEndDate()) + 1;
-        
-        // Count holidays in sprint from holidays table
-        long holidaysInSprint = holidayRepository.countHolidaysInRange(
-                sprint.getStartDate(), 
-                sprint.getEndDate()
-        );
-        
-        // Count holidays from sprint events
-        List<SprintEvent> sprintHolidayEvents = sprintEventRepository.findBySprintIdAndEventTypeOrderByEventDate(
-                sprint.getId(), 
-                SprintEvent.EventType.HOLIDAY
-        );
-        long sprintEventHolidays = sprintHolidayEvents.size();
-        
-        // Get leave days during sprint
-        List<LeaveDay> leaveDaysInSprint = leaveDayRepository.findByMemberIdAndDateRange(
-                member.getId(),
-                sprint.getStartDate(),
-                sprint.getEndDate()
-        );
-        
-        // Calculate available days: total days - holidays - sprint event holidays - personal leaves
-        long availableDays = sprintDays - holidaysInSprint - sprintEventHolidays - leaveDaysInSprint.size();
+    private CapacitySummaryDto calculateMemberCapacity(TeamMember member, Sprint sprint,
+                                                       WorkingDayCalendar calendar, List<LocalDate> leaveDates) {
+        // Available days: weekdays that are not a holiday for the member's location or a sprint
+        // holiday event, minus personal leave taken on those days (each date counted once)
+        long availableDays = Math.max(0, calendar.getWorkingDays() - calendar.countWorkingDays(leaveDates));
         
         // Calculate total capacity
         BigDecimal totalCapacity = member.getDailyCapacity()
@@ -377,41 +353,42 @@ public class TeamServiceImpl implements TeamService {
             throw new RuntimeException("Sprint not found: " + request.sprintId());
         }
         
-        // Verify all members exist
-        for (String memberId : request.memberIds()) {
-            if (!teamMemberRepository.existsById(memberId)) {
-                throw new RuntimeException("Team member not found: " + memberId);
+        // Verify all members exist (one query for the whole request)
+        Set<String> desiredMemberIds = new LinkedHashSet<>(request.memberIds());
+        if (!desiredMemberIds.isEmpty()) {
+            Set<String> knownMemberIds = new HashSet<>(teamMemberRepository.findExistingIds(desiredMemberIds));
+            for (String memberId : desiredMemberIds) {
+                if (!knownMemberIds.contains(memberId)) {
+                    throw new RuntimeException("Team member not found: " + memberId);
+                }
             }
         }
         
-        // Get existing member IDs for this sprint to avoid duplicates
-        List<String> existingMemberIds = sprintTeamRepository.findMemberIdsBySprintId(request.sprintId());
+        // Diff the requested members against the current sprint_team rows
+        Set<String> existingMemberIds = new HashSet<>(sprintTeamRepository.findMemberIdsBySprintId(request.sprintId()));
         
-        // Only create assignments for members not already assigned
-        int newAssignments = 0;
-        for (String memberId : request.memberIds()) {
-            if (!existingMemberIds.contains(memberId)) {
-                SprintTeam mapping = new SprintTeam();
-                mapping.setSprintId(request.sprintId());
-                mapping.setMemberId(memberId);
-                sprintTeamRepository.save(mapping);
-                newAssignments++;
-            }
+        List<String> removedMemberIds = existingMemberIds.stream()
+                .filter(memberId -> !desiredMemberIds.contains(memberId))
+                .toList();
+        if (!removedMemberIds.isEmpty()) {
+            sprintTeamRepository.deleteBySprintIdAndMemberIdIn(request.sprintId(), removedMemberIds);
         }
         
-        // Remove members that are no longer in the request
-        for (String existingMemberId : existingMemberIds) {
-            if (!request.memberIds().contains(existingMemberId)) {
-                SprintTeam mapping = sprintTeamRepository.findBySprintIdAndMemberId(
-                    request.sprintId(), existingMemberId);
-                if (mapping != null) {
-                    sprintTeamRepository.delete(mapping);
-                }
-            }
-        }
+        List<SprintTeam> newMappings = desiredMemberIds.stream()
+                .filter(memberId -> !existingMemberIds.contains(memberId))
+                .map(memberId -> {
+                    SprintTeam mapping = new SprintTeam();
+                    mapping.setSprintId(request.sprintId());
+                    mapping.setMemberId(memberId);
+                    return mapping;
+                })
+                .toList();
+        sprintTeamRepository.saveAll(newMappings);
+        entityCacheEvictor.evictSprintTeam(request.sprintId());
+        int newAssignments = newMappings.size();
         
-        log.info("Updated sprint {} assignments: {} new, {} total members", 
-                request.sprintId(), newAssignments, request.memberIds().size());
+        log.info("Updated sprint {} assignments: {} new, {} removed, {} total members", 
+                request.sprintId(), newAssignments, removedMemberIds.size(), desiredMemberIds.size());
     }
     
     @Override
@@ -439,6 +416,7 @@ public class TeamServiceImpl implements TeamService {
         mapping.setSprintId(sprintId);
         mapping.setMemberId(memberId);
         sprintTeamRepository.save(mapping);
+        entityCacheEvictor.evictSprintTeam(sprintId);
         
         log.info("Assigned member {} to sprint {}", memberId, sprintId);
     }
@@ -460,6 +438,7 @@ public class TeamServiceImpl implements TeamService {
         SprintTeam mapping = sprintTeamRepository.findBySprintIdAndMemberId(sprintId, memberId);
         if (mapping != null) {
             sprintTeamRepository.delete(mapping);
+            entityCacheEvictor.evictSprintTeam(sprintId);
             log.info("Unassigned member {} from sprint {}", memberId, sprintId);
         } else {
             log.warn("Member {} was not assigned to sprint {}", memberId, sprintId);
@@ -496,32 +475,92 @@ public class TeamServiceImpl implements TeamService {
     }
     
     /**
-     * Check if a date is already a holiday (either in holidays table or in sprint events)
-     * @param date The date to check
-     * @param memberId The member ID (to find their sprint assignments)
-     * @return true if the date is a holiday, false otherwise
+     * Make the member's stored leave days match the given dates.
+     * Dates that are already a holiday for the member are dropped, rows that match a wanted
+     * date (and sprint) are kept, and only the difference is deleted and inserted in batches.
+     * @param member The member whose leave days are replaced
+     * @param leaveDays Wanted leave dates (yyyy-MM-dd); invalid dates are skipped
+     * @param sprintId Sprint recorded on newly inserted leave days (may be null)
      */
-    private boolean isDateAHoliday(LocalDate date, String memberId) {
-        // Check in global holidays table
-        List<Holiday> holidays = holidayRepository.findByDateRange(date, date);
-        if (!holidays.isEmpty()) {
-            log.debug("Date {} is a holiday in holidays table", date);
-            return true;
-        }
-        
-        // Check in sprint events for all sprints this member is assigned to
-        List<String> sprintIds = sprintTeamRepository.findSprintIdsByMemberId(memberId);
-        for (String sprintId : sprintIds) {
-            List<SprintEvent> sprintEvents = sprintEventRepository.findBySprintIdAndEventTypeOrderByEventDate(
-                sprintId, SprintEvent.EventType.HOLIDAY);
-            for (SprintEvent event : sprintEvents) {
-                if (event.getEventDate().equals(date)) {
-                    log.debug("Date {} is a holiday in sprint {} events", date, sprintId);
+    private void syncLeaveDays(TeamMember member, List<String> leaveDays, String sprintId) {
+        TreeSet<LocalDate> wantedDates = new TreeSet<>(parseLeaveDates(leaveDays));
+        if (!wantedDates.isEmpty()) {
+            // One lookup for the whole date span instead of one per leave date
+            Set<LocalDate> holidays = loadHolidayDates(member, wantedDates.first(), wantedDates.last());
+            wantedDates.removeIf(date -> {
+                if (holidays.contains(date)) {
+                    log.info("Skipping leave date {} for member {} - already a holiday", date, member.getId());
                     return true;
                 }
+                return false;
+            });
+        }
+        
+        String wantedSprintId = sprintId != null && !sprintId.isBlank() ? sprintId : null;
+        Sprint sprint = wantedSprintId != null ? sprintRepository.findById(wantedSprintId).orElse(null) : null;
+        String storedSprintId = sprint != null ? sprint.getId() : null;
+        
+        // Keep rows that already hold a wanted date for the same sprint, delete the rest
+        List<String> staleIds = new ArrayList<>();
+        List<LocalDate> removedDates = new ArrayList<>();
+        for (LeaveDay existing : leaveDayRepository.findByMemberId(member.getId())) {
+            String existingSprintId = existing.getSprint() != null ? existing.getSprint().getId() : null;
+            if (Objects.equals(existingSprintId, storedSprintId) && wantedDates.remove(existing.getLeaveDate())) {
+                continue;
             }
+            staleIds.add(existing.getId());
+            removedDates.add(existing.getLeaveDate());
+        }
+        if (!staleIds.isEmpty()) {
+            leaveDayRepository.deleteByIdIn(staleIds);
         }
         
-        return false;
+        List<LeaveDay> newLeaveDays = wantedDates.stream()
+                .map(leaveDate -> newLeaveDay(member, sprint, leaveDate))
+                .toList();
+        leaveDayRepository.saveAll(newLeaveDays);
+        
+        if (!staleIds.isEmpty() || !newLeaveDays.isEmpty()) {
+            domainEventPublisher.publish(new LeaveChangedEvent(member.getId(), storedSprintId,
+                    List.copyOf(wantedDates), removedDates));
+        }
+        
+        log.debug("Synced leave days for member {} in sprint {}: {} removed, {} added",
+                member.getId(), storedSprintId, staleIds.size(), newLeaveDays.size());
+    }
+    
+    private List<LocalDate> parseLeaveDates(List<String> leaveDays) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (String leaveDateStr : leaveDays) {
+            try {
+                dates.add(LocalDate.parse(leaveDateStr, DATE_FORMATTER));
+            } catch (DateTimeParseException e) {
+                // Skip invalid dates
+                log.error(INVALID_DATE_FORMAT, leaveDateStr);
+            }
+        }
+        return dates;
+    }
+    
+    private LeaveDay newLeaveDay(TeamMember member, Sprint sprint, LocalDate leaveDate) {
+        LeaveDay leaveDay = new LeaveDay();
+        leaveDay.setMember(member);
+        leaveDay.setSprint(sprint);
+        leaveDay.setLeaveDate(leaveDate);
+        leaveDay.setLeaveType(LeaveDay.LeaveType.PERSONAL);
+        return leaveDay;
+    }
+    
+    /**
+     * Holiday dates between start and end (inclusive) that apply to the member: holidays of the
+     * member's location (global only when it has none) and holiday events of the member's sprints
+     */
+    private Set<LocalDate> loadHolidayDates(TeamMember member, LocalDate startDate, LocalDate endDate) {
+        String location = member.getLocation();
+        Set<LocalDate> holidays = new HashSet<>(location == null || location.isBlank()
+                ? holidayCalendarIndex.globalHolidayDates(startDate, endDate)
+                : holidayCalendarIndex.holidayDates(startDate, endDate, location.trim()));
+        holidays.addAll(sprintEventRepository.findHolidayDatesForMemberSprints(member.getId(), startDate, endDate));
+        return holidays;
     }
 }
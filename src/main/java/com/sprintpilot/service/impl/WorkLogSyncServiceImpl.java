@@ -1,18 +1,27 @@
 package com.sprintpilot.service.impl;
 
+import com.sprintpilot.datasource.BackgroundConnectionBulkhead;
 import com.sprintpilot.entity.Task;
 import com.sprintpilot.entity.WorkLog;
+import com.sprintpilot.event.DomainEventPublisher;
+import com.sprintpilot.event.WorkLogChangedEvent;
 import com.sprintpilot.repository.WorkLogRepository;
 import com.sprintpilot.service.JiraClient;
 import com.sprintpilot.service.WorkLogSyncService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +37,19 @@ public class WorkLogSyncServiceImpl implements WorkLogSyncService {
     @Autowired
     private WorkLogRepository workLogRepository;
     
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+    
+    @Autowired
+    private BackgroundConnectionBulkhead backgroundConnectionBulkhead;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    @Qualifier("workLogFetchExecutor")
+    private Executor workLogFetchExecutor;
+    
     /**
      * Fetch work logs asynchronously in background
      * This method returns immediately - work logs are fetched in parallel in background
@@ -40,17 +62,24 @@ public class WorkLogSyncServiceImpl implements WorkLogSyncService {
         
         try {
             // Create CompletableFuture for each task's work log fetch
-            List<CompletableFuture<Void>> futures = tasks.stream()
-                    .map(task -> CompletableFuture.runAsync(() -> {
-                        syncWorkLogsForTask(task);
-                    }))
+            List<String> failedTaskKeys = new CopyOnWriteArrayList<>();
+            List<CompletableFuture<Integer>> futures = tasks.stream()
+                    .map(task -> CompletableFuture.supplyAsync(() -> syncWorkLogsForTask(task, failedTaskKeys), workLogFetchExecutor))
                     .collect(Collectors.toList());
             
             // Wait for all futures to complete
             CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            int savedWorkLogs = futures.stream().mapToInt(CompletableFuture::join).sum();
             
             long duration = System.currentTimeMillis() - startTime;
-            log.info("✅ Completed async work log sync for {} tasks in {}ms", tasks.size(), duration);
+            if (failedTaskKeys.isEmpty()) {
+                log.info("✅ Completed async work log sync for {} tasks in {}ms ({} work logs saved)",
+                        tasks.size(), duration, savedWorkLogs);
+            } else {
+                log.warn("⚠️ Completed async work log sync for {} tasks in {}ms ({} work logs saved); "
+                        + "{} tasks kept their previous work logs: {}",
+                        tasks.size(), duration, savedWorkLogs, failedTaskKeys.size(), failedTaskKeys);
+            }
             
         } catch (Exception e) {
             log.error("❌ Error during async work log sync", e);
@@ -59,30 +88,58 @@ public class WorkLogSyncServiceImpl implements WorkLogSyncService {
     
     /**
      * Fetch and save work logs for a single task
+     * The Jira call runs without a connection; only the replace below takes one
+     * @param failedTaskKeys Collects the task when its work logs could not be fetched or saved
+     * @return Number of work logs saved (0 when nothing was replaced)
      */
-    @Transactional
-    private void syncWorkLogsForTask(Task task) {
+    private int syncWorkLogsForTask(Task task, List<String> failedTaskKeys) {
         try {
             log.debug("Fetching work logs for task: {}", task.getTaskKey());
             List<WorkLog> workLogs = jiraClient.fetchWorkLogsForIssue(task.getTaskKey());
             
             if (!workLogs.isEmpty()) {
-                // Delete existing work logs for this task
-                workLogRepository.deleteByTaskId(task.getId());
-                
-                // Set task reference and save work logs
-                for (WorkLog workLog : workLogs) {
-                    workLog.setTask(task);
-                }
-                workLogRepository.saveAll(workLogs);
-                log.debug("✓ Saved {} work logs for task {}", workLogs.size(), task.getTaskKey());
+                int saved = replaceWorkLogs(task, workLogs);
+                log.debug("✓ Saved {} work logs for task {}", saved, task.getTaskKey());
+                return saved;
             } else {
                 log.debug("No work logs found for task {}", task.getTaskKey());
             }
         } catch (Exception e) {
             log.warn("Failed to sync work logs for task {}: {}", task.getTaskKey(), e.getMessage());
+            failedTaskKeys.add(task.getTaskKey());
             // Don't fail - continue with other tasks
         }
+        return 0;
+    }
+    
+    @Override
+    public int replaceWorkLogs(Task task, List<WorkLog> workLogs) {
+        // Delete and insert share one transaction, so each task holds a single connection once
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // work_logs is keyed by (id, logged_date), so the database would accept one Jira worklog id on
+        // two dates; keep the last copy of each id
+        List<WorkLog> distinctWorkLogs = List.copyOf(workLogs.stream()
+                .collect(Collectors.toMap(WorkLog::getId, Function.identity(), (first, last) -> last, LinkedHashMap::new))
+                .values());
+        return backgroundConnectionBulkhead.execute(() -> transactionTemplate.execute(status -> {
+            // Delete existing work logs for this task in one statement. This spans every partition, so
+            // worklogs Jira dropped go too, whatever date they were logged on
+            workLogRepository.deleteByTaskId(task.getId());
+            
+            // Set task and sprint references and save work logs
+            String sprintId = task.getSprint() != null ? task.getSprint().getId() : null;
+            for (WorkLog workLog : distinctWorkLogs) {
+                workLog.setTask(task);
+                workLog.setSprintId(sprintId);
+            }
+            // New WorkLog instances persist straight away, without a select by id first
+            workLogRepository.saveAll(distinctWorkLogs);
+            
+            // Recorded in the same transaction, so the event commits exactly with the work logs it describes
+            if (sprintId != null && !distinctWorkLogs.isEmpty()) {
+                domainEventPublisher.publish(new WorkLogChangedEvent(sprintId, List.of(task.getId()), distinctWorkLogs.size()));
+            }
+            return distinctWorkLogs.size();
+        }));
     }
 }
-
@@ -0,0 +1,106 @@
+package com.sprintpilot.stream;
+
+import com.sprintpilot.dto.SprintStreamMessageDto;
+import com.sprintpilot.event.DomainEvent;
+import com.sprintpilot.event.HolidayChangedEvent;
+import com.sprintpilot.event.LeaveChangedEvent;
+import com.sprintpilot.event.SprintArchivedEvent;
+import com.sprintpilot.event.TaskChangedEvent;
+import com.sprintpilot.event.WorkLogChangedEvent;
+import com.sprintpilot.repository.SprintTeamRepository;
+import com.sprintpilot.service.SprintService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns committed domain events into live sprint stream messages.
+ *
+ * Each change goes out as a delta named after what changed (tasks-changed, risk-changed,
+ * worklogs-changed, leave-changed, holiday-changed, sprint-archived), followed by
+ * metrics-changed when the sprint's data version moved. Clients refetch metrics only on
+ * metrics-changed; the conditional GETs make that a 304 when nothing they show changed.
+ * Sprints nobody is watching cost nothing beyond the subscriber check.
+ */
+@Component
+@Slf4j
+public class SprintStreamListener {
+
+    private final SprintStreamRegistry registry;
+    private final SprintService sprintService;
+    private final SprintTeamRepository sprintTeamRepository;
+
+    // Last version announced per watched sprint; also swallows events the outbox relay delivers twice
+    private final Map<String, String> announcedVersions = new ConcurrentHashMap<>();
+
+    public SprintStreamListener(SprintStreamRegistry registry,
+                                SprintService sprintService,
+                                SprintTeamRepository sprintTeamRepository) {
+        this.registry = registry;
+        this.sprintService = sprintService;
+        this.sprintTeamRepository = sprintTeamRepository;
+    }
+
+    /**
+     * Message a client gets first on connecting, so it can tell whether it missed anything
+     */
+    public SprintStreamMessageDto connected(String sprintId) {
+        String version = sprintService.getSprintDataVersion(sprintId);
+        return new SprintStreamMessageDto(sprintId, "connected", null, version, LocalDateTime.now());
+    }
+
+    @Async("sprintStreamExecutor")
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        for (String sprintId : affectedSprints(event)) {
+            if (!registry.hasSubscribers(sprintId)) {
+                announcedVersions.remove(sprintId);
+                continue;
+            }
+            try {
+                String version = sprintService.getSprintDataVersion(sprintId);
+                LocalDateTime now = LocalDateTime.now();
+                registry.broadcast(new SprintStreamMessageDto(sprintId, messageType(event), event, version, now));
+                if (!version.equals(announcedVersions.put(sprintId, version))) {
+                    registry.broadcast(new SprintStreamMessageDto(sprintId, "metrics-changed", null, version, now));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Streaming {} to sprint {} failed: {}", event.getClass().getSimpleName(), sprintId, e.getMessage());
+            }
+        }
+    }
+
+    private Set<String> affectedSprints(DomainEvent event) {
+        return switch (event) {
+            // Holidays shift working days, and so capacity, of every sprint
+            case HolidayChangedEvent holiday -> registry.subscribedSprintIds();
+            // Leave counts against every sprint the member is in, not only the one recorded on it
+            case LeaveChangedEvent leave -> {
+                Set<String> sprintIds = new LinkedHashSet<>(sprintTeamRepository.findSprintIdsByMemberId(leave.memberId()));
+                if (leave.sprintId() != null) {
+                    sprintIds.add(leave.sprintId());
+                }
+                yield sprintIds;
+            }
+            default -> event.sprintId() != null ? Set.of(event.sprintId()) : Set.of();
+        };
+    }
+
+    private static String messageType(DomainEvent event) {
+        return switch (event) {
+            case TaskChangedEvent task when task.change() == TaskChangedEvent.Change.RISK_ASSESSED -> "risk-changed";
+            case TaskChangedEvent task -> "tasks-changed";
+            case WorkLogChangedEvent workLog -> "worklogs-changed";
+            case LeaveChangedEvent leave -> "leave-changed";
+            case HolidayChangedEvent holiday -> "holiday-changed";
+            case SprintArchivedEvent archived -> "sprint-archived";
+        };
+    }
+}
@@ -0,0 +1,222 @@
+package com.sprintpilot.stream;
+
+import com.sprintpilot.dto.SprintStreamMessageDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Open SSE connections per sprint.
+ *
+ * An idle subscriber is only an {@link SseEmitter} on an async servlet request: it holds no
+ * thread, so hundreds of open dashboards cost a few objects each. Threads are only used while
+ * a message is written, see {@link SprintStreamListener}.
+ *
+ * Every subscriber has its own queue, written on the stream executor, so messages keep their
+ * order per client and a client that stops reading only stalls its own writes. A subscriber
+ * whose current write has been blocked longer than send-timeout-ms is dropped the next time
+ * something is sent to it.
+ */
+@Component
+@Slf4j
+public class SprintStreamRegistry {
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @Autowired
+    @Qualifier("sprintStreamExecutor")
+    private Executor streamExecutor;
+
+    @Value("${app.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.stream.max-connections:1000}")
+    private int maxConnections;
+
+    @Value("${app.stream.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    /**
+     * Opens a stream for the sprint and sends the connected message first.
+     * Returns null when the connection limit is reached.
+     */
+    public SseEmitter subscribe(String sprintId, SprintStreamMessageDto connected) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            return null;
+        }
+        // Browsers reconnect on their own when the timeout closes the stream
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(sprintId, emitter);
+        subscribers.compute(sprintId, (id, existing) -> {
+            Set<Subscriber> target = existing != null ? existing : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        enqueue(subscriber, SseEmitter.event().name(connected.type()).data(connected, MediaType.APPLICATION_JSON));
+        return emitter;
+    }
+
+    public boolean hasSubscribers(String sprintId) {
+        return subscribers.containsKey(sprintId);
+    }
+
+    public Set<String> subscribedSprintIds() {
+        return Set.copyOf(subscribers.keySet());
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * Queues the message for every subscriber of its sprint; broken or stalled connections are dropped
+     */
+    public void broadcast(SprintStreamMessageDto message) {
+        Set<Subscriber> sprintSubscribers = subscribers.get(message.sprintId());
+        if (sprintSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : sprintSubscribers) {
+            enqueue(subscriber, SseEmitter.event().name(message.type()).data(message, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * Comment line on every open stream, so proxies keep idle connections open and
+     * connections of clients that went away are noticed
+     */
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        subscribers.values().forEach(sprintSubscribers -> {
+            for (Subscriber subscriber : sprintSubscribers) {
+                enqueue(subscriber, SseEmitter.event().comment("keepalive"));
+            }
+        });
+    }
+
+    /**
+     * Ends the streams on shutdown instead of waiting for their timeout
+     */
+    @PreDestroy
+    public void closeAll() {
+        subscribers.values().forEach(sprintSubscribers ->
+                sprintSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        long writeStarted = subscriber.writeStartedNanos;
+        if (writeStarted != Subscriber.IDLE
+                && System.nanoTime() - writeStarted > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs)) {
+            drop(subscriber, new IOException("No write progress within " + sendTimeoutMs + " ms"));
+            return;
+        }
+        subscriber.pending.add(event);
+        scheduleWrites(subscriber);
+    }
+
+    private void scheduleWrites(Subscriber subscriber) {
+        // At most one writer per subscriber, so its messages go out in order
+        if (!subscriber.writing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            streamExecutor.execute(() -> writePending(subscriber));
+        } catch (RejectedExecutionException e) {
+            // Shutting down; closeAll ends the stream
+            subscriber.writing.set(false);
+        }
+    }
+
+    private void writePending(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.pending.poll()) != null) {
+                subscriber.writeStartedNanos = System.nanoTime();
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // Client disconnected or the emitter already completed
+                    drop(subscriber, e);
+                } finally {
+                    subscriber.writeStartedNanos = Subscriber.IDLE;
+                }
+            }
+            subscriber.writing.set(false);
+            // A message queued after the last poll but before the flag was cleared still needs a writer
+        } while (!subscriber.pending.isEmpty() && subscriber.writing.compareAndSet(false, true));
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        if (!unsubscribe(subscriber)) {
+            subscriber.pending.clear();
+            return;
+        }
+        log.debug("Dropping stream subscriber of sprint {}: {}", subscriber.sprintId, cause.getMessage());
+        subscriber.pending.clear();
+        // The emitter may still be locked by a stalled write, so complete it off the caller's thread
+        try {
+            streamExecutor.execute(() -> subscriber.emitter.completeWithError(cause));
+        } catch (RejectedExecutionException e) {
+            // Shutting down; closeAll ends the stream
+        }
+    }
+
+    /**
+     * @return true if this call removed the subscriber
+     */
+    private boolean unsubscribe(Subscriber subscriber) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(subscriber.sprintId, (id, sprintSubscribers) -> {
+            // Completion, timeout and error callbacks may all fire for one emitter
+            if (sprintSubscribers.remove(subscriber)) {
+                connections.decrementAndGet();
+                removed.set(true);
+            }
+            return sprintSubscribers.isEmpty() ? null : sprintSubscribers;
+        });
+        return removed.get();
+    }
+
+    /**
+     * One open stream with the messages not yet written to it
+     */
+    private static final class Subscriber {
+
+        static final long IDLE = Long.MIN_VALUE;
+
+        final String sprintId;
+        final SseEmitter emitter;
+        final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean writing = new AtomicBoolean();
+        // System.nanoTime() when the write in progress started, IDLE between writes
+        volatile long writeStartedNanos = IDLE;
+
+        Subscriber(String sprintId, SseEmitter emitter) {
+            this.sprintId = sprintId;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.sprintpilot.template;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * A template parsed once into literal, slot and conditional segments.
+ *
+ * Rendering is a single pass over the segments. Values are passed through the
+ * template's encoder (identity for HTML pages, JSON string escaping for Teams cards).
+ * Instances are immutable and safe to share between threads.
+ */
+public final class CompiledTemplate {
+
+    sealed interface Segment permits Literal, Slot, Conditional {}
+
+    record Literal(String text) implements Segment {}
+
+    /**
+     * {@code {{name}}}; raw is the original tag, emitted when the variable is absent
+     */
+    record Slot(String name, String raw) implements Segment {}
+
+    /**
+     * {@code {{#if name}}...{{/if}}}
+     */
+    record Conditional(String name, List<Segment> body) implements Segment {}
+
+    /**
+     * A slot value written straight to the output instead of being held as a string.
+     * Fragments bypass the encoder, so they must produce already-encoded text.
+     */
+    @FunctionalInterface
+    public interface Fragment {
+        void writeTo(Appendable out) throws IOException;
+    }
+
+    private final String name;
+    private final List<Segment> segments;
+    private final UnaryOperator<String> encoder;
+    private final int literalLength;
+
+    CompiledTemplate(String name, List<Segment> segments, UnaryOperator<String> encoder) {
+        this.name = name;
+        this.segments = List.copyOf(segments);
+        this.encoder = encoder;
+        this.literalLength = literalLength(this.segments);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Render the template into a new string.
+     * The buffer is sized from the literal text plus the supplied values.
+     */
+    public String render(Map<String, String> variables) {
+        int estimate = literalLength;
+        if (variables != null) {
+            for (String value : variables.values()) {
+                estimate += value != null ? value.length() : 0;
+            }
+        }
+        StringBuilder out = new StringBuilder(estimate);
+        renderTo(variables, out);
+        return out.toString();
+    }
+
+    /**
+     * Render the template into any Appendable (StringBuilder, Writer)
+     */
+    public void renderTo(Map<String, String> variables, Appendable out) {
+        try {
+            renderTo(variables, Map.of(), out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to render template " + name, e);
+        }
+    }
+
+    /**
+     * Render the template, streaming fragment slots directly into the output.
+     * A slot present in fragments takes precedence over the same name in variables
+     * and counts as truthy for {{#if}} blocks.
+     */
+    public void renderTo(Map<String, String> variables, Map<String, Fragment> fragments, Appendable out) throws IOException {
+        render(segments,
+                variables != null ? variables : Map.of(),
+                fragments != null ? fragments : Map.of(),
+                out);
+    }
+
+    private void render(List<Segment> parts, Map<String, String> variables, Map<String, Fragment> fragments,
+                        Appendable out) throws IOException {
+        for (Segment segment : parts) {
+            switch (segment) {
+                case Literal literal -> out.append(literal.text());
+                case Slot slot -> {
+                    Fragment fragment = fragments.get(slot.name());
+                    if (fragment != null) {
+                        fragment.writeTo(out);
+                    } else if (variables.containsKey(slot.name())) {
+                        String value = variables.get(slot.name());
+                        out.append(value != null ? encoder.apply(value) : "");
+                    } else {
+                        // Unknown placeholders are left in place
+                        out.append(slot.raw());
+                    }
+                }
+                case Conditional conditional -> {
+                    if (fragments.containsKey(conditional.name()) || isTruthy(variables.get(conditional.name()))) {
+                        render(conditional.body(), variables, fragments, out);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isTruthy(String value) {
+        return value != null && !value.isEmpty() && !value.equals("false") && !value.equals("0");
+    }
+
+    private static int literalLength(List<Segment> parts) {
+        int length = 0;
+        for (Segment segment : parts) {
+            if (segment instanceof Literal literal) {
+                length += literal.text().length();
+            } else if (segment instanceof Conditional conditional) {
+                length += literalLength(conditional.body());
+            }
+        }
+        return length;
+    }
+}
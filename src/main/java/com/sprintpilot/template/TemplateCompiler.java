@@ -0,0 +1,86 @@
+package com.sprintpilot.template;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Parses template text into a {@link CompiledTemplate}.
+ *
+ * Supported syntax:
+ * - Placeholders: {{variableName}}
+ * - Conditional blocks: {{#if variable}}...{{/if}} (may be nested)
+ *
+ * Any other {{...}} tag (for example {{#each}}) is kept as literal text.
+ */
+public final class TemplateCompiler {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("\\w+");
+    private static final Pattern IF_TAG = Pattern.compile("#if\\s+(\\w+)");
+
+    private TemplateCompiler() {
+    }
+
+    public static CompiledTemplate compile(String name, String source) {
+        return compile(name, source, UnaryOperator.identity());
+    }
+
+    /**
+     * @param encoder Applied to every substituted value, e.g. JSON string escaping
+     */
+    public static CompiledTemplate compile(String name, String source, UnaryOperator<String> encoder) {
+        // Stack of open blocks; the bottom entry is the template root
+        Deque<List<CompiledTemplate.Segment>> blocks = new ArrayDeque<>();
+        Deque<String> conditionNames = new ArrayDeque<>();
+        blocks.push(new ArrayList<>());
+
+        StringBuilder literal = new StringBuilder();
+        int pos = 0;
+        while (pos < source.length()) {
+            int open = source.indexOf("{{", pos);
+            int close = open >= 0 ? source.indexOf("}}", open + 2) : -1;
+            if (open < 0 || close < 0) {
+                literal.append(source, pos, source.length());
+                break;
+            }
+
+            literal.append(source, pos, open);
+            String raw = source.substring(open, close + 2);
+            String tag = source.substring(open + 2, close).trim();
+            pos = close + 2;
+
+            var ifMatch = IF_TAG.matcher(tag);
+            if (ifMatch.matches()) {
+                flush(literal, blocks.peek());
+                conditionNames.push(ifMatch.group(1));
+                blocks.push(new ArrayList<>());
+            } else if (tag.equals("/if") && !conditionNames.isEmpty()) {
+                flush(literal, blocks.peek());
+                List<CompiledTemplate.Segment> body = blocks.pop();
+                blocks.peek().add(new CompiledTemplate.Conditional(conditionNames.pop(), body));
+            } else if (IDENTIFIER.matcher(tag).matches()) {
+                flush(literal, blocks.peek());
+                blocks.peek().add(new CompiledTemplate.Slot(tag, raw));
+            } else {
+                literal.append(raw);
+            }
+        }
+
+        if (!conditionNames.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Template " + name + " has unclosed {{#if " + conditionNames.peek() + "}}");
+        }
+        flush(literal, blocks.peek());
+        return new CompiledTemplate(name, blocks.pop(), encoder);
+    }
+
+    private static void flush(StringBuilder literal, List<CompiledTemplate.Segment> target) {
+        if (literal.length() > 0) {
+            target.add(new CompiledTemplate.Literal(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+}
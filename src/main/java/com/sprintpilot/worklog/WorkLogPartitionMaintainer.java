@@ -0,0 +1,174 @@
+package com.sprintpilot.worklog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of work_logs (see migration V4) in step with the calendar.
+ *
+ * Each run makes sure partitions exist for the current month and the configured number of
+ * months ahead, and moves any rows that landed in work_logs_default (work logs dated outside
+ * the partitioned range) into a partition of their own. When detach-after-months is set,
+ * months older than that whose work logs all belong to archived sprints are detached from
+ * work_logs and kept as standalone work_logs_archived_yyyy_MM tables for dumping or dropping.
+ * Detached hours no longer show up in burndown charts.
+ *
+ * Only PostgreSQL is partitioned; on other databases (H2 in the dev profile) this does nothing.
+ */
+@Component
+@Slf4j
+public class WorkLogPartitionMaintainer {
+
+    private static final String PARENT_TABLE = "work_logs";
+    private static final String DEFAULT_PARTITION = "work_logs_default";
+    private static final String ARCHIVED_PREFIX = "work_logs_archived_";
+    private static final Pattern MONTH_PARTITION = Pattern.compile("work_logs_(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Boolean partitioned;
+
+    @Value("${app.work-logs.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.work-logs.partitions.detach-after-months:0}")
+    private int detachAfterMonths;
+
+    public WorkLogPartitionMaintainer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${app.work-logs.partitions.initial-delay-ms:10000}",
+               fixedDelayString = "${app.work-logs.partitions.maintenance-interval-ms:21600000}")
+    public void maintain() {
+        if (!isPartitioned()) {
+            return;
+        }
+        YearMonth currentMonth = YearMonth.now();
+        SortedSet<YearMonth> attached = attachedPartitions();
+
+        // Months stranded in the default partition first, then the look-ahead window
+        SortedSet<YearMonth> missing = new TreeSet<>(monthsInDefaultPartition());
+        for (int i = 0; i <= monthsAhead; i++) {
+            missing.add(currentMonth.plusMonths(i));
+        }
+        missing.removeAll(attached);
+        for (YearMonth month : missing) {
+            try {
+                int moved = transactionTemplate.execute(status -> createPartition(month));
+                log.info("Created work_logs partition {} ({} rows moved from {})", partitionName(month), moved, DEFAULT_PARTITION);
+            } catch (DataAccessException e) {
+                // Usually another instance got there first; the next run re-checks
+                log.warn("Could not create work_logs partition {}: {}", partitionName(month), e.getMessage());
+            }
+        }
+
+        if (detachAfterMonths > 0) {
+            YearMonth cutoff = currentMonth.minusMonths(detachAfterMonths);
+            attached.headSet(cutoff).forEach(this::detachIfArchived);
+        }
+    }
+
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            partitioned = "PostgreSQL".equalsIgnoreCase(product) && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid " +
+                    "WHERE c.relname = ? AND pg_table_is_visible(c.oid))", Boolean.class, PARENT_TABLE));
+            if (!partitioned) {
+                log.info("work_logs is not partitioned on this database ({}); partition maintenance disabled", product);
+            }
+        }
+        return partitioned;
+    }
+
+    private SortedSet<YearMonth> attachedPartitions() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ? AND pg_table_is_visible(p.oid)", String.class, PARENT_TABLE);
+        SortedSet<YearMonth> months = new TreeSet<>();
+        for (String name : names) {
+            Matcher matcher = MONTH_PARTITION.matcher(name);
+            if (matcher.matches()) {
+                months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+            }
+        }
+        return months;
+    }
+
+    private List<YearMonth> monthsInDefaultPartition() {
+        return jdbcTemplate.queryForList(
+                        "SELECT DISTINCT date_trunc('month', logged_date)::date FROM " + DEFAULT_PARTITION, Date.class)
+                .stream()
+                .map(date -> YearMonth.from(date.toLocalDate()))
+                .toList();
+    }
+
+    /**
+     * Builds the month's table next to work_logs, moves the month's rows out of the default
+     * partition and attaches it. Attaching scans the default partition, which must no longer
+     * hold rows for the month, so all of this runs in one transaction.
+     */
+    private int createPartition(YearMonth month) {
+        String name = partitionName(month);
+        Date from = Date.valueOf(month.atDay(1));
+        Date to = Date.valueOf(month.plusMonths(1).atDay(1));
+
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE " + PARENT_TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("INSERT INTO " + name + " SELECT * FROM " + DEFAULT_PARTITION +
+                " WHERE logged_date >= ? AND logged_date < ?", from, to);
+        if (moved > 0) {
+            jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE logged_date >= ? AND logged_date < ?", from, to);
+        }
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + name +
+                " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        return moved;
+    }
+
+    private void detachIfArchived(YearMonth month) {
+        String name = partitionName(month);
+        try {
+            Boolean detached = transactionTemplate.execute(status -> {
+                boolean hasOpenSprintLogs = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                        "SELECT EXISTS (SELECT 1 FROM " + name + " wl LEFT JOIN sprint s ON s.id = wl.sprint_id " +
+                        "WHERE s.status IS NULL OR s.status <> 'ARCHIVED')", Boolean.class));
+                if (hasOpenSprintLogs) {
+                    return false;
+                }
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + name);
+                jdbcTemplate.execute("ALTER TABLE " + name + " RENAME TO " + ARCHIVED_PREFIX + month.format(MONTH_SUFFIX));
+                return true;
+            });
+            if (Boolean.TRUE.equals(detached)) {
+                log.info("Detached work_logs partition {} as {}", name, ARCHIVED_PREFIX + month.format(MONTH_SUFFIX));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not detach work_logs partition {}: {}", name, e.getMessage());
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_" + month.format(MONTH_SUFFIX);
+    }
+}
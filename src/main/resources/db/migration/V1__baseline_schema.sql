@@ -0,0 +1,224 @@
+-- SprintPilot baseline schema (PostgreSQL)
+-- Matches the JPA entity model as it stood when the schema moved from
+-- hibernate ddl-auto to versioned migrations. Later changes go in new V<n>__ files.
+
+-- Sprint
+CREATE TABLE sprint (
+    id VARCHAR(255) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    duration INTEGER NOT NULL,
+    freeze_date DATE,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('ACTIVE', 'ARCHIVED')),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_sprint PRIMARY KEY (id),
+    CONSTRAINT uk_sprint_name UNIQUE (name)
+);
+
+-- Sprint Events (Deployments, Meetings, Holidays, Code Freeze)
+CREATE TABLE sprint_event (
+    id VARCHAR(255) NOT NULL,
+    sprint_id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(255) NOT NULL CHECK (event_type IN ('DEPLOYMENT', 'MEETING', 'HOLIDAY', 'CODE_FREEZE')),
+    event_subtype VARCHAR(255) CHECK (event_subtype IN ('PLANNING', 'GROOMING', 'RETROSPECTIVE')),
+    name VARCHAR(255) NOT NULL,
+    event_date DATE NOT NULL,
+    event_time TIME(6),
+    duration_minutes INTEGER,
+    description TEXT,
+    created_at TIMESTAMP(6),
+    CONSTRAINT pk_sprint_event PRIMARY KEY (id),
+    CONSTRAINT fk_sprint_event_sprint FOREIGN KEY (sprint_id) REFERENCES sprint (id)
+);
+
+-- Team Member
+CREATE TABLE team_member (
+    id VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL CHECK (role IN ('BACKEND', 'FRONTEND', 'QA', 'DEVOPS', 'MANAGER', 'DESIGNER')),
+    daily_capacity NUMERIC(38,2) NOT NULL,
+    email VARCHAR(255),
+    location VARCHAR(255),
+    active BOOLEAN,
+    deleted BOOLEAN,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_team_member PRIMARY KEY (id)
+);
+
+-- Sprint Team Association
+CREATE TABLE sprint_team (
+    id VARCHAR(255) NOT NULL,
+    sprint_id VARCHAR(255) NOT NULL,
+    member_id VARCHAR(255) NOT NULL,
+    assigned_at TIMESTAMP(6),
+    assigned_by VARCHAR(255),
+    CONSTRAINT pk_sprint_team PRIMARY KEY (id),
+    CONSTRAINT fk_sprint_team_sprint FOREIGN KEY (sprint_id) REFERENCES sprint (id),
+    CONSTRAINT fk_sprint_team_member FOREIGN KEY (member_id) REFERENCES team_member (id)
+);
+
+-- Leave Days
+CREATE TABLE leave_day (
+    id VARCHAR(255) NOT NULL,
+    member_id VARCHAR(255) NOT NULL,
+    sprint_id VARCHAR(255),
+    leave_date DATE NOT NULL,
+    leave_type VARCHAR(255) CHECK (leave_type IN ('PERSONAL', 'SICK', 'VACATION', 'PUBLIC_HOLIDAY', 'OTHER')),
+    created_at TIMESTAMP(6),
+    CONSTRAINT pk_leave_day PRIMARY KEY (id),
+    CONSTRAINT fk_leave_day_member FOREIGN KEY (member_id) REFERENCES team_member (id),
+    CONSTRAINT fk_leave_day_sprint FOREIGN KEY (sprint_id) REFERENCES sprint (id)
+);
+
+-- Task
+CREATE TABLE task (
+    id VARCHAR(255) NOT NULL,
+    sprint_id VARCHAR(255) NOT NULL,
+    task_key VARCHAR(255) NOT NULL,
+    summary VARCHAR(500) NOT NULL,
+    description TEXT,
+    story_points NUMERIC(38,2) NOT NULL,
+    category VARCHAR(255) NOT NULL CHECK (category IN ('FEATURE', 'TECH_DEBT', 'PROD_ISSUE', 'OTHER')),
+    priority VARCHAR(255) CHECK (priority IN ('LOWEST', 'LOW', 'MEDIUM', 'HIGH', 'CRITICAL')),
+    status VARCHAR(255) CHECK (status IN ('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'DONE')),
+    start_date DATE,
+    due_date DATE,
+    time_spent NUMERIC(38,2),
+    original_estimate NUMERIC(38,2),
+    risk_factor VARCHAR(255) CHECK (risk_factor IN ('ON_TRACK', 'AT_RISK', 'OFF_TRACK')),
+    risk_rule VARCHAR(64),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_task PRIMARY KEY (id),
+    CONSTRAINT fk_task_sprint FOREIGN KEY (sprint_id) REFERENCES sprint (id)
+);
+
+-- Task Assignment
+CREATE TABLE task_assignment (
+    task_id VARCHAR(255) NOT NULL,
+    member_id VARCHAR(255) NOT NULL,
+    CONSTRAINT fk_task_assignment_task FOREIGN KEY (task_id) REFERENCES task (id),
+    CONSTRAINT fk_task_assignment_member FOREIGN KEY (member_id) REFERENCES team_member (id)
+);
+
+-- Work Logs (for accurate burndown tracking)
+CREATE TABLE work_logs (
+    id VARCHAR(100) NOT NULL,
+    task_id VARCHAR(255) NOT NULL,
+    time_spent_hours NUMERIC(10,2),
+    logged_date DATE,
+    author VARCHAR(255),
+    created_at TIMESTAMP(6),
+    CONSTRAINT pk_work_logs PRIMARY KEY (id),
+    CONSTRAINT fk_work_logs_task FOREIGN KEY (task_id) REFERENCES task (id)
+);
+
+-- Holiday Master
+CREATE TABLE holiday (
+    id VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    holiday_date DATE NOT NULL,
+    holiday_type VARCHAR(255) CHECK (holiday_type IN ('PUBLIC', 'COMPANY')),
+    recurring BOOLEAN,
+    location JSONB,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_holiday PRIMARY KEY (id)
+);
+
+-- Sprint History (for completed sprints)
+CREATE TABLE sprint_history (
+    id VARCHAR(255) NOT NULL,
+    sprint_id VARCHAR(255) NOT NULL,
+    completed_date TIMESTAMP(6) NOT NULL,
+    total_story_points NUMERIC(38,2),
+    completed_story_points NUMERIC(38,2),
+    team_size INTEGER,
+    velocity NUMERIC(38,2),
+    feature_percentage NUMERIC(38,2),
+    tech_debt_percentage NUMERIC(38,2),
+    prod_issue_percentage NUMERIC(38,2),
+    summary_json TEXT,
+    created_at TIMESTAMP(6),
+    CONSTRAINT pk_sprint_history PRIMARY KEY (id),
+    CONSTRAINT uk_sprint_history_sprint UNIQUE (sprint_id),
+    CONSTRAINT fk_sprint_history_sprint FOREIGN KEY (sprint_id) REFERENCES sprint (id)
+);
+
+-- Stored AI artefacts (summaries, insights)
+CREATE TABLE ai_artefact (
+    id VARCHAR(255) NOT NULL,
+    scope_key VARCHAR(100) NOT NULL,
+    artefact_type VARCHAR(30) NOT NULL CHECK (artefact_type IN ('SPRINT_SUMMARY', 'RISK_SUMMARY', 'PERFORMANCE_INSIGHTS')),
+    content TEXT,
+    input_fingerprint VARCHAR(64),
+    generated_by VARCHAR(30),
+    generated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ai_artefact PRIMARY KEY (id),
+    CONSTRAINT uk_ai_artefact_scope_type UNIQUE (scope_key, artefact_type)
+);
+
+-- Confluence page per sprint and its section hashes
+CREATE TABLE confluence_page_sync (
+    id VARCHAR(255) NOT NULL,
+    sprint_id VARCHAR(100) NOT NULL,
+    space_key VARCHAR(50) NOT NULL,
+    page_id VARCHAR(50) NOT NULL,
+    page_title VARCHAR(255),
+    page_version INTEGER NOT NULL,
+    page_url VARCHAR(500),
+    created_at TIMESTAMP(6) NOT NULL,
+    synced_at TIMESTAMP(6),
+    CONSTRAINT pk_confluence_page_sync PRIMARY KEY (id),
+    CONSTRAINT uk_confluence_page_sync_sprint UNIQUE (sprint_id)
+);
+
+CREATE TABLE confluence_page_section (
+    id VARCHAR(255) NOT NULL,
+    sprint_id VARCHAR(100) NOT NULL,
+    section_key VARCHAR(30) NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    content TEXT,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_confluence_page_section PRIMARY KEY (id),
+    CONSTRAINT uk_confluence_page_section_key UNIQUE (sprint_id, section_key)
+);
+
+-- Microsoft Teams notification outbox
+CREATE TABLE teams_outbox (
+    id VARCHAR(255) NOT NULL,
+    template_name VARCHAR(100),
+    coalesce_key VARCHAR(150),
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'FAILED')),
+    attempts INTEGER NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    claimed_at TIMESTAMP(6),
+    sent_at TIMESTAMP(6),
+    last_error VARCHAR(500),
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_teams_outbox PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_teams_outbox_due ON teams_outbox (status, next_attempt_at);
+
+-- Domain event outbox and change feed
+CREATE TABLE domain_event_outbox (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(100),
+    event_type VARCHAR(100) NOT NULL,
+    sprint_id VARCHAR(100),
+    payload TEXT NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    published_at TIMESTAMP(6),
+    CONSTRAINT pk_domain_event_outbox PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_domain_event_unpublished ON domain_event_outbox (published_at, occurred_at);
+CREATE INDEX idx_domain_event_sprint ON domain_event_outbox (sprint_id, id);
+
+CREATE INDEX idx_holiday_location_gin ON holiday USING GIN (location);
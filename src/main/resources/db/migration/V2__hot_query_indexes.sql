@@ -0,0 +1,30 @@
+-- Composite indexes for the hot read paths, plus a denormalised sprint_id on work_logs
+-- so burndown aggregation no longer joins through task.
+
+-- Work logs: copy the owning task's sprint so (sprint_id, logged_date) can be range scanned.
+-- Tasks never move between sprints, so the copy cannot go stale.
+ALTER TABLE work_logs ADD COLUMN sprint_id VARCHAR(255);
+
+UPDATE work_logs wl
+SET sprint_id = t.sprint_id
+FROM task t
+WHERE t.id = wl.task_id;
+
+-- Burndown: SUM(time_spent_hours) per logged_date for one sprint, answered from the index alone
+CREATE INDEX idx_work_logs_sprint_date ON work_logs (sprint_id, logged_date) INCLUDE (time_spent_hours);
+-- Work log sync deletes and reinserts per task
+CREATE INDEX idx_work_logs_task ON work_logs (task_id);
+
+-- Task lists and metrics filtered by sprint and status
+CREATE INDEX idx_task_sprint_status ON task (sprint_id, status);
+-- Jira import matches incoming issues by sprint and key
+CREATE INDEX idx_task_sprint_key ON task (sprint_id, task_key);
+
+-- Capacity and leave sync read a member's leave for a sprint
+CREATE INDEX idx_leave_day_member_sprint ON leave_day (member_id, sprint_id);
+
+-- Sprint holidays, meetings and deployments by type
+CREATE INDEX idx_sprint_event_sprint_type ON sprint_event (sprint_id, event_type);
+
+-- Active sprint lookup and history ordered by end date
+CREATE INDEX idx_sprint_status_end_date ON sprint (status, end_date);
@@ -0,0 +1,11 @@
+-- Store work log time as integer seconds, as Jira reports it, so burndown sums stay in integer arithmetic.
+-- time_spent_hours is kept for existing readers.
+ALTER TABLE work_logs ADD COLUMN time_spent_seconds INTEGER;
+
+UPDATE work_logs
+SET time_spent_seconds = ROUND(time_spent_hours * 3600)
+WHERE time_spent_hours IS NOT NULL;
+
+-- Team and per-author daily sums for a sprint come from one range scan of this index, without heap access
+DROP INDEX idx_work_logs_sprint_date;
+CREATE INDEX idx_work_logs_sprint_date ON work_logs (sprint_id, logged_date) INCLUDE (author, time_spent_seconds);
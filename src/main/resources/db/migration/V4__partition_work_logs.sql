@@ -0,0 +1,49 @@
+-- Range-partition work_logs by month of logged_date.
+-- Burndown and per-author queries always bound logged_date by the sprint dates, so the planner only
+-- touches the one or two monthly partitions a sprint spans, however much history accumulates.
+-- WorkLogPartitionMaintainer creates upcoming months at runtime and can detach fully archived ones.
+-- The primary key has to include the partition key, so it becomes (id, logged_date).
+
+CREATE TABLE work_logs_partitioned (
+    id VARCHAR(100) NOT NULL,
+    task_id VARCHAR(255) NOT NULL,
+    sprint_id VARCHAR(255),
+    time_spent_hours NUMERIC(10,2),
+    time_spent_seconds INTEGER,
+    logged_date DATE NOT NULL,
+    author VARCHAR(255),
+    created_at TIMESTAMP(6)
+) PARTITION BY RANGE (logged_date);
+
+-- Catches rows for months without a partition; the maintainer moves them into their own partition
+CREATE TABLE work_logs_default PARTITION OF work_logs_partitioned DEFAULT;
+
+-- Monthly partitions from the oldest existing work log through three months ahead
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(
+            date_trunc('month', COALESCE((SELECT MIN(logged_date) FROM work_logs), CURRENT_DATE)),
+            date_trunc('month', CURRENT_DATE) + INTERVAL '3 months',
+            INTERVAL '1 month')::DATE
+    LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF work_logs_partitioned FOR VALUES FROM (%L) TO (%L)',
+            'work_logs_' || to_char(month_start, 'YYYY_MM'), month_start, (month_start + INTERVAL '1 month')::DATE);
+    END LOOP;
+END $$;
+
+INSERT INTO work_logs_partitioned (id, task_id, sprint_id, time_spent_hours, time_spent_seconds, logged_date, author, created_at)
+SELECT id, task_id, sprint_id, time_spent_hours, time_spent_seconds,
+       COALESCE(logged_date, created_at::DATE, CURRENT_DATE), author, created_at
+FROM work_logs;
+
+DROP TABLE work_logs;
+ALTER TABLE work_logs_partitioned RENAME TO work_logs;
+
+ALTER TABLE work_logs ADD CONSTRAINT pk_work_logs PRIMARY KEY (id, logged_date);
+ALTER TABLE work_logs ADD CONSTRAINT fk_work_logs_task FOREIGN KEY (task_id) REFERENCES task (id);
+
+CREATE INDEX idx_work_logs_sprint_date ON work_logs (sprint_id, logged_date) INCLUDE (author, time_spent_seconds);
+CREATE INDEX idx_work_logs_task ON work_logs (task_id);
@@ -0,0 +1,9 @@
+-- Indexes for the sprint data version behind the metrics ETags (SprintRepository.findDataVersion),
+-- which clients hit on every poll.
+
+-- Work log count and latest created_at per sprint from the index alone
+DROP INDEX idx_work_logs_sprint_date;
+CREATE INDEX idx_work_logs_sprint_date ON work_logs (sprint_id, logged_date) INCLUDE (author, time_spent_seconds, created_at);
+
+-- Leave days by sprint; idx_leave_day_member_sprint only serves lookups by member
+CREATE INDEX idx_leave_day_sprint ON leave_day (sprint_id);
@@ -0,0 +1,10 @@
+-- Inputs of the sprint data version (SprintRepository.findDataVersion) that edits could change unseen.
+
+-- Sprint events are edited in place (date, type, duration), and HOLIDAY events feed capacity and burndown
+ALTER TABLE sprint_event ADD COLUMN updated_at TIMESTAMP(6);
+
+UPDATE sprint_event
+SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP);
+
+-- Assignments have no timestamp; the version hashes the member ids per task, read from this index alone
+CREATE INDEX idx_task_assignment_task_member ON task_assignment (task_id, member_id);
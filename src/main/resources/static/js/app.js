@@ -23,7 +23,7 @@ document.addEventListener('DOMContentLoaded', function() {
 async function fetchCurrentSprintAndStoreCookie() {
     try {
         console.log('Fetching current sprint...');
-        const response = await fetch('/api/sprints/current');
+        const response = await fetch('/api/sprints/current?fields=id');
         
         if (response.ok) {
             const data = await response.json();
@@ -85,12 +85,15 @@ const ApiService = {
     },
     
     // Task Management
-    getTasksBySprintId: async function(sprintId, riskFactor, page = 0, size = 10) {
+    getTasksBySprintId: async function(sprintId, riskFactor, page = 0, size = 10, cursor = null) {
         if (!riskFactor) {
             console.error('riskFactor is required but was not provided');
             throw new Error('riskFactor is required');
         }
         let endpoint = `/tasks/sprint/${sprintId}?riskFactor=${riskFactor}&page=${page}&size=${size}`;
+        if (cursor) {
+            endpoint += `&cursor=${encodeURIComponent(cursor)}`;
+        }
         console.log('API Call - Full URL:', this.baseUrl + endpoint, 'RiskFactor:', riskFactor);
         return this.get(endpoint);
     },